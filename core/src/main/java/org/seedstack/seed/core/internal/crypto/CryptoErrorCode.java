@@ -15,7 +15,9 @@ import org.seedstack.shed.exception.ErrorCode;
 public enum CryptoErrorCode implements ErrorCode {
     ALGORITHM_CANNOT_BE_FOUND,
     CERTIFICATE_NOT_FOUND,
+    HASH_VERIFICATION_REJECTED,
     INCORRECT_PASSWORD,
+    INVALID_ENVELOPE,
     INVALID_KEY,
     INVALID_QUALIFIER_ANNOTATION,
     KEYSTORE_CONFIGURATION_ERROR,
@@ -30,7 +32,9 @@ public enum CryptoErrorCode implements ErrorCode {
     NO_KEYSTORE_PROVIDER,
     UNABLE_TO_GET_CIPHER,
     UNABLE_TO_LOAD_CERTIFICATE,
+    UNABLE_TO_PROCESS_STREAM,
     UNABLE_TO_READ_CERTIFICATE,
     UNEXPECTED_EXCEPTION,
-    UNRECOVERABLE_KEY
+    UNRECOVERABLE_KEY,
+    UNSUPPORTED_HASHING_ALGORITHM
 }
@@ -29,17 +29,20 @@ class CryptoModule extends AbstractModule {
     private final SSLContext sslContext;
     private final List<KeyManagerAdapter> keyManagerAdapters;
     private final Class<? extends X509KeyManager> keyManagerClass;
+    private final HashingService hashingService;
 
     CryptoModule(Map<Key<EncryptionService>, EncryptionService> encryptionServices, Map<String, KeyStore> keyStores,
             KeyStore trustStore, SSLContext sslContext,
             List<KeyManagerAdapter> keyManagerAdapters,
-            Class<? extends X509KeyManager> keyManagerClass) {
+            Class<? extends X509KeyManager> keyManagerClass,
+            HashingService hashingService) {
         this.encryptionServices = encryptionServices;
         this.trustStore = trustStore;
         this.keyStores = keyStores;
         this.sslContext = sslContext;
         this.keyManagerAdapters = keyManagerAdapters;
         this.keyManagerClass = keyManagerClass;
+        this.hashingService = hashingService;
     }
 
     @Override
@@ -61,7 +64,7 @@ class CryptoModule extends AbstractModule {
         }
 
         // Hashing service
-        bind(HashingService.class).to(PBKDF2HashingService.class);
+        bind(HashingService.class).toInstance(hashingService);
 
         // SSL context
         OptionalBinder.newOptionalBinder(binder(), SSLContext.class);
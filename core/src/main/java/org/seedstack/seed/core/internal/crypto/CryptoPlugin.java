@@ -8,6 +8,7 @@
 package org.seedstack.seed.core.internal.crypto;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Key;
 import io.nuun.kernel.api.plugin.InitState;
 import io.nuun.kernel.api.plugin.context.InitContext;
@@ -17,6 +18,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509KeyManager;
 import org.seedstack.seed.SeedException;
@@ -35,6 +40,8 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
     private SSLContext sslContext;
     private List<KeyManagerAdapter> keyManagerAdapters;
     private Class<? extends X509KeyManager> keyManagerClass;
+    private PBKDF2HashingService hashingService;
+    private ExecutorService verificationExecutor;
 
     @Override
     public String name() {
@@ -52,9 +59,35 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
         this.sslContext = sslBuilder.getSSLContext(cryptoConfig);
         this.keyManagerAdapters = sslBuilder.getKeyManagerAdapters();
         this.keyManagerClass = cryptoConfig.ssl().getX509KeyManager();
+        this.hashingService = createHashingService(cryptoConfig.hashing());
         return InitState.INITIALIZED;
     }
 
+    @Override
+    public void stop() {
+        if (verificationExecutor != null) {
+            verificationExecutor.shutdownNow();
+        }
+    }
+
+    private PBKDF2HashingService createHashingService(CryptoConfig.HashingConfig hashingConfig) {
+        int verificationThreads = hashingConfig.getVerificationThreads();
+        if (verificationThreads > 0) {
+            verificationExecutor = new ThreadPoolExecutor(verificationThreads, verificationThreads,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, hashingConfig.getVerificationQueueSize())),
+                    new ThreadFactoryBuilder().setNameFormat("seed-hash-verification-%d").setDaemon(true).build());
+        }
+        PBKDF2HashingService pbkdf2HashingService = new PBKDF2HashingService(hashingConfig, verificationExecutor);
+        if (hashingConfig.getCalibrationTarget() > 0) {
+            LOGGER.info("Hashing with {} calibrated to {} iterations for a target of {} ms",
+                    hashingConfig.getAlgorithm(),
+                    pbkdf2HashingService.getIterations(),
+                    hashingConfig.getCalibrationTarget());
+        }
+        return pbkdf2HashingService;
+    }
+
     private KeyStore loadTrustStore(CryptoConfig cryptoConfig, KeyStoreLoader keyStoreLoader) {
         CryptoConfig.StoreConfig trustStoreConfig = cryptoConfig.getTrustStore();
         if (trustStoreConfig == null) {
@@ -97,7 +130,8 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
                 trustStore,
                 sslContext,
                 keyManagerAdapters,
-                keyManagerClass);
+                keyManagerClass,
+                hashingService);
     }
 
     @Override
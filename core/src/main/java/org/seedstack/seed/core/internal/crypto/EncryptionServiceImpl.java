@@ -7,10 +7,16 @@
  */
 package org.seedstack.seed.core.internal.crypto;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -18,16 +24,27 @@ import javax.crypto.NoSuchPaddingException;
 import org.seedstack.seed.SeedException;
 import org.seedstack.seed.crypto.EncryptionService;
 
+/**
+ * RSA implementation of {@link EncryptionService}. Initialized ciphers are kept in small bounded pools and reused by
+ * subsequent operations of the same mode, as {@link Cipher} instances are not thread-safe but return to their
+ * initialized state after each {@link Cipher#doFinal(byte[])}.
+ */
 class EncryptionServiceImpl implements EncryptionService {
     private static final String CIPHER = "RSA/ECB/PKCS1PADDING";
     private final String alias;
     private final PublicKey publicKey;
     private final Key privateKey;
+    private final InstancePool<Cipher> encryptionCiphers;
+    private final InstancePool<Cipher> decryptionCiphers;
+    private final EnvelopeEncryption envelopeEncryption;
 
     EncryptionServiceImpl(String alias, PublicKey publicKey, Key privateKey) {
         this.alias = alias;
         this.publicKey = publicKey;
         this.privateKey = privateKey;
+        this.encryptionCiphers = new InstancePool<>(() -> createCipher(publicKey, Cipher.ENCRYPT_MODE));
+        this.decryptionCiphers = new InstancePool<>(() -> createCipher(privateKey, Cipher.DECRYPT_MODE));
+        this.envelopeEncryption = new EnvelopeEncryption(alias);
     }
 
     @Override
@@ -35,7 +52,7 @@ class EncryptionServiceImpl implements EncryptionService {
         if (this.publicKey == null) {
             throw SeedException.createNew(CryptoErrorCode.MISSING_PUBLIC_KEY).put("alias", alias);
         }
-        return doEncryptionOrDecryption(toCrypt, publicKey, Cipher.ENCRYPT_MODE);
+        return doEncryptionOrDecryption(toCrypt, encryptionCiphers);
     }
 
     @Override
@@ -43,18 +60,110 @@ class EncryptionServiceImpl implements EncryptionService {
         if (this.privateKey == null) {
             throw SeedException.createNew(CryptoErrorCode.MISSING_PRIVATE_KEY).put("alias", alias);
         }
-        return doEncryptionOrDecryption(toDecrypt, privateKey, Cipher.DECRYPT_MODE);
+        return doEncryptionOrDecryption(toDecrypt, decryptionCiphers);
+    }
+
+    @Override
+    public List<byte[]> decrypt(List<byte[]> toDecrypt) {
+        if (this.privateKey == null) {
+            throw SeedException.createNew(CryptoErrorCode.MISSING_PRIVATE_KEY).put("alias", alias);
+        }
+        // the same cipher decrypts the whole batch
+        Cipher cipher = decryptionCiphers.acquire();
+        List<byte[]> decrypted = new ArrayList<>(toDecrypt.size());
+        for (byte[] bytes : toDecrypt) {
+            decrypted.add(doFinal(cipher, bytes));
+        }
+        decryptionCiphers.release(cipher);
+        return decrypted;
+    }
+
+    @Override
+    public byte[] encryptEnvelope(byte[] toEncrypt) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(toEncrypt.length + 512);
+        encrypt(new ByteArrayInputStream(toEncrypt), out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] decryptEnvelope(byte[] toDecrypt) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(toDecrypt.length);
+        decrypt(new ByteArrayInputStream(toDecrypt), out);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void encrypt(InputStream in, OutputStream out) {
+        if (this.publicKey == null) {
+            throw SeedException.createNew(CryptoErrorCode.MISSING_PUBLIC_KEY).put("alias", alias);
+        }
+        envelopeEncryption.encrypt(in, out, dataKey -> doEncryptionOrDecryption(dataKey, encryptionCiphers));
+    }
+
+    @Override
+    public void decrypt(InputStream in, OutputStream out) {
+        if (this.privateKey == null) {
+            throw SeedException.createNew(CryptoErrorCode.MISSING_PRIVATE_KEY).put("alias", alias);
+        }
+        envelopeEncryption.decrypt(in, out, this::unwrapDataKey);
     }
 
     /**
-     * Encrypts or decrypts a byte[].
+     * Decrypts the data key of an envelope. A key which cannot be decrypted means that the envelope is invalid.
      *
-     * @param crypt byte[] to encrypt or decrypt
-     * @param key   key to use
-     * @param mode  {@link Cipher#DECRYPT_MODE} to decrypt or {@link Cipher#ENCRYPT_MODE} to encrypt
+     * @param wrappedKey the data key encrypted with the public key.
+     * @return the data key.
+     */
+    private byte[] unwrapDataKey(byte[] wrappedKey) {
+        Cipher cipher = decryptionCiphers.acquire();
+        byte[] dataKey;
+        try {
+            dataKey = cipher.doFinal(wrappedKey);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.INVALID_ENVELOPE).put("alias", alias);
+        }
+        decryptionCiphers.release(cipher);
+        return dataKey;
+    }
+
+    /**
+     * Encrypts or decrypts a byte[] with a pooled cipher.
+     *
+     * @param crypt   byte[] to encrypt or decrypt
+     * @param ciphers the pool of ciphers initialized in the adequate mode
+     * @return byte[] encrypted or decrypted
+     */
+    private byte[] doEncryptionOrDecryption(byte[] crypt, InstancePool<Cipher> ciphers) {
+        Cipher cipher = ciphers.acquire();
+        byte[] result = doFinal(cipher, crypt);
+        ciphers.release(cipher);
+        return result;
+    }
+
+    /**
+     * Encrypts or decrypts a byte[] with the specified cipher. On failure, the cipher state is undefined so it must
+     * not be released to its pool.
+     *
+     * @param cipher the cipher initialized in the adequate mode
+     * @param crypt  byte[] to encrypt or decrypt
      * @return byte[] encrypted or decrypted
      */
-    private byte[] doEncryptionOrDecryption(byte[] crypt, Key key, int mode) {
+    private byte[] doFinal(Cipher cipher, byte[] crypt) {
+        try {
+            return cipher.doFinal(crypt);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
+        }
+    }
+
+    /**
+     * Creates a cipher initialized with the specified key.
+     *
+     * @param key  key to use
+     * @param mode {@link Cipher#DECRYPT_MODE} to decrypt or {@link Cipher#ENCRYPT_MODE} to encrypt
+     * @return the initialized cipher
+     */
+    private Cipher createCipher(Key key, int mode) {
         Cipher rsaCipher;
         try {
             rsaCipher = Cipher.getInstance(CIPHER);
@@ -69,10 +178,6 @@ class EncryptionServiceImpl implements EncryptionService {
             throw SeedException.wrap(e, CryptoErrorCode.INVALID_KEY)
                     .put("alias", alias);
         }
-        try {
-            return rsaCipher.doFinal(crypt);
-        } catch (IllegalBlockSizeException | BadPaddingException e) {
-            throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
-        }
+        return rsaCipher;
     }
 }
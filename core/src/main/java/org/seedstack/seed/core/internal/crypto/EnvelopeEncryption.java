@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.seedstack.seed.SeedException;
+
+/**
+ * Envelope encryption: each message is encrypted with a freshly generated AES-GCM data key which is itself wrapped
+ * by the asymmetric key pair and stored in the message header.
+ * <p>
+ * The payload is split into segments of {@value #SEGMENT_SIZE} bytes, each one authenticated separately, so arbitrarily
+ * large messages can be processed as streams without being held in memory. The IV of each segment is derived from a
+ * random prefix, the segment index and a flag marking the last segment, which prevents segments from being reordered
+ * and the message from being truncated.
+ * </p>
+ * <pre>
+ * version (1 byte) | wrapped key length (2 bytes) | wrapped key | IV prefix (7 bytes) | segment 0 | ... | segment n
+ * </pre>
+ */
+class EnvelopeEncryption {
+    static final int SEGMENT_SIZE = 64 * 1024;
+    private static final byte VERSION = 1;
+    private static final String DATA_KEY_ALGORITHM = "AES";
+    private static final String DATA_CIPHER = "AES/GCM/NoPadding";
+    private static final int DATA_KEY_SIZE = 32;
+    private static final int IV_PREFIX_SIZE = 7;
+    private static final int IV_SIZE = 12;
+    private static final int TAG_SIZE = 16;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private final String alias;
+
+    EnvelopeEncryption(String alias) {
+        this.alias = alias;
+    }
+
+    /**
+     * Encrypts the input stream into the output stream.
+     *
+     * @param in         the plain text stream.
+     * @param out        the stream the envelope is written to.
+     * @param keyWrapper the function wrapping the data key with the asymmetric public key.
+     */
+    void encrypt(InputStream in, OutputStream out, UnaryOperator<byte[]> keyWrapper) {
+        byte[] dataKey = new byte[DATA_KEY_SIZE];
+        byte[] ivPrefix = new byte[IV_PREFIX_SIZE];
+        SECURE_RANDOM.nextBytes(dataKey);
+        SECURE_RANDOM.nextBytes(ivPrefix);
+        try {
+            byte[] wrappedKey = keyWrapper.apply(dataKey);
+            out.write(VERSION);
+            out.write(wrappedKey.length >>> 8);
+            out.write(wrappedKey.length);
+            out.write(wrappedKey);
+            out.write(ivPrefix);
+            processSegments(in, out, Cipher.ENCRYPT_MODE, dataKey, ivPrefix, SEGMENT_SIZE);
+            out.flush();
+        } catch (IOException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNABLE_TO_PROCESS_STREAM).put("alias", alias);
+        } finally {
+            Arrays.fill(dataKey, (byte) 0);
+        }
+    }
+
+    /**
+     * Decrypts the envelope read from the input stream into the output stream. Each segment is authenticated before
+     * being written so the output never contains tampered data, but it can contain the beginning of a message whose
+     * later segments are invalid.
+     *
+     * @param in           the envelope stream.
+     * @param out          the stream the plain text is written to.
+     * @param keyUnwrapper the function unwrapping the data key with the asymmetric private key.
+     */
+    void decrypt(InputStream in, OutputStream out, UnaryOperator<byte[]> keyUnwrapper) {
+        byte[] dataKey = null;
+        try {
+            if (in.read() != VERSION) {
+                throw createInvalidEnvelopeException(null);
+            }
+            int wrappedKeyLength = (in.read() << 8) | in.read();
+            if (wrappedKeyLength <= 0) {
+                throw createInvalidEnvelopeException(null);
+            }
+            byte[] wrappedKey = new byte[wrappedKeyLength];
+            byte[] ivPrefix = new byte[IV_PREFIX_SIZE];
+            if (readFully(in, wrappedKey) != wrappedKeyLength || readFully(in, ivPrefix) != IV_PREFIX_SIZE) {
+                throw createInvalidEnvelopeException(null);
+            }
+            dataKey = keyUnwrapper.apply(wrappedKey);
+            if (dataKey.length != DATA_KEY_SIZE) {
+                throw createInvalidEnvelopeException(null);
+            }
+            processSegments(in, out, Cipher.DECRYPT_MODE, dataKey, ivPrefix, SEGMENT_SIZE + TAG_SIZE);
+            out.flush();
+        } catch (IOException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNABLE_TO_PROCESS_STREAM).put("alias", alias);
+        } finally {
+            if (dataKey != null) {
+                Arrays.fill(dataKey, (byte) 0);
+            }
+        }
+    }
+
+    private void processSegments(InputStream in, OutputStream out, int mode, byte[] dataKey, byte[] ivPrefix,
+            int inputSegmentSize) throws IOException {
+        Cipher cipher = createCipher();
+        SecretKeySpec keySpec = new SecretKeySpec(dataKey, DATA_KEY_ALGORITHM);
+        byte[] iv = Arrays.copyOf(ivPrefix, IV_SIZE);
+        byte[] current = new byte[inputSegmentSize];
+        byte[] next = new byte[inputSegmentSize];
+        byte[] output = new byte[SEGMENT_SIZE + TAG_SIZE];
+        int currentLength = readFully(in, current);
+        if (mode == Cipher.DECRYPT_MODE && currentLength < TAG_SIZE) {
+            throw createInvalidEnvelopeException(null);
+        }
+        for (int segment = 0; ; segment++) {
+            // a full segment can only be known as the last one by reading ahead
+            int nextLength = currentLength == inputSegmentSize ? readFully(in, next) : 0;
+            boolean last = nextLength == 0;
+            if (mode == Cipher.DECRYPT_MODE && !last && nextLength < TAG_SIZE) {
+                throw createInvalidEnvelopeException(null);
+            }
+            iv[IV_PREFIX_SIZE] = (byte) (segment >>> 24);
+            iv[IV_PREFIX_SIZE + 1] = (byte) (segment >>> 16);
+            iv[IV_PREFIX_SIZE + 2] = (byte) (segment >>> 8);
+            iv[IV_PREFIX_SIZE + 3] = (byte) segment;
+            iv[IV_SIZE - 1] = (byte) (last ? 1 : 0);
+            try {
+                cipher.init(mode, keySpec, new GCMParameterSpec(TAG_SIZE * 8, iv));
+                out.write(output, 0, cipher.doFinal(current, 0, currentLength, output));
+            } catch (AEADBadTagException e) {
+                throw createInvalidEnvelopeException(e);
+            } catch (GeneralSecurityException e) {
+                throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
+            }
+            if (last) {
+                return;
+            }
+            byte[] swap = current;
+            current = next;
+            next = swap;
+            currentLength = nextLength;
+        }
+    }
+
+    private Cipher createCipher() {
+        try {
+            return Cipher.getInstance(DATA_CIPHER);
+        } catch (GeneralSecurityException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNABLE_TO_GET_CIPHER)
+                    .put("alias", alias)
+                    .put("cipher", DATA_CIPHER);
+        }
+    }
+
+    private SeedException createInvalidEnvelopeException(Exception cause) {
+        if (cause == null) {
+            return SeedException.createNew(CryptoErrorCode.INVALID_ENVELOPE).put("alias", alias);
+        } else {
+            return SeedException.wrap(cause, CryptoErrorCode.INVALID_ENVELOPE).put("alias", alias);
+        }
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Small bounded pool of instances which are costly to create and not thread-safe, like initialized ciphers. An
+ * instance is created when the pool is empty and released instances are dropped when the pool is full, so no more
+ * than its capacity is retained and no thread ever waits. Unlike thread-confined instances, pooled instances are not
+ * kept alive by idle threads and are reused by short-lived threads (like virtual threads).
+ *
+ * @param <T> the type of pooled instances.
+ */
+class InstancePool<T> {
+    static final int DEFAULT_CAPACITY = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private final BlockingQueue<T> idleInstances;
+    private final Supplier<T> factory;
+
+    InstancePool(Supplier<T> factory) {
+        this(DEFAULT_CAPACITY, factory);
+    }
+
+    InstancePool(int capacity, Supplier<T> factory) {
+        this.idleInstances = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    /**
+     * Takes an idle instance from the pool or creates a new one if none is available. The instance must be given back
+     * with {@link #release(Object)} once used, unless its state became undefined.
+     *
+     * @return the instance, exclusively owned by the caller until released.
+     */
+    T acquire() {
+        T instance = idleInstances.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    /**
+     * Gives an instance back to the pool, or drops it if the pool is full.
+     *
+     * @param instance the instance, which must not be used by the caller anymore.
+     */
+    void release(T instance) {
+        idleInstances.offer(instance);
+    }
+
+    int idleCount() {
+        return idleInstances.size();
+    }
+}
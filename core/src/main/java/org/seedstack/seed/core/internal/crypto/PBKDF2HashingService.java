@@ -7,24 +7,58 @@
  */
 package org.seedstack.seed.core.internal.crypto;
 
-import org.seedstack.seed.SeedException;
-import org.seedstack.seed.crypto.Hash;
-import org.seedstack.seed.crypto.HashingService;
-
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.PBEKeySpec;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.crypto.CryptoConfig;
+import org.seedstack.seed.crypto.Hash;
+import org.seedstack.seed.crypto.HashingService;
 
 class PBKDF2HashingService implements HashingService {
-    private static final String PBKDF2_ALGORITHM = "PBKDF2WithHmacSHA1";
-
-    private static final int SALT_BYTE_SIZE = 24;
-    private static final int HASH_BYTE_SIZE = 24;
-    private static final int PBKDF2_ITERATIONS = 1000;
+    private static final int CALIBRATION_ITERATIONS = 10000;
+    private static final int CALIBRATION_ROUNDS = 5;
+    private static final int MINIMUM_ITERATIONS = 1000;
     private static final SecureRandom random = new SecureRandom();
+    private final Map<String, InstancePool<SecretKeyFactory>> secretKeyFactories = new ConcurrentHashMap<>();
+    private final String algorithm;
+    private final int iterations;
+    private final int saltSize;
+    private final int hashSize;
+    private final ExecutorService verificationExecutor;
+
+    PBKDF2HashingService() {
+        this(new CryptoConfig.HashingConfig(), null);
+    }
+
+    /**
+     * Creates a PBKDF2 hashing service.
+     *
+     * @param hashingConfig        the hashing configuration.
+     * @param verificationExecutor the executor of asynchronous password validations or null to validate passwords in
+     *                             the calling thread.
+     */
+    PBKDF2HashingService(CryptoConfig.HashingConfig hashingConfig, ExecutorService verificationExecutor) {
+        this.algorithm = hashingConfig.getAlgorithm();
+        this.saltSize = hashingConfig.getSaltSize();
+        this.hashSize = hashingConfig.getHashSize();
+        this.verificationExecutor = verificationExecutor;
+        // fail early if the algorithm is not supported
+        getSecretKeyFactories(algorithm).release(createSecretKeyFactory(algorithm));
+        if (hashingConfig.getCalibrationTarget() > 0) {
+            this.iterations = calibrate(hashingConfig.getCalibrationTarget());
+        } else {
+            this.iterations = hashingConfig.getIterations();
+        }
+    }
 
     @Override
     public Hash createHash(String toHash) {
@@ -33,14 +67,14 @@ class PBKDF2HashingService implements HashingService {
 
     @Override
     public Hash createHash(char[] toHash) {
-        byte[] salt = new byte[SALT_BYTE_SIZE];
+        byte[] salt = new byte[saltSize];
         random.nextBytes(salt);
 
         // Hash the password
         byte[] hash;
-        hash = pbkdf2(toHash, salt);
+        hash = pbkdf2(toHash, salt, algorithm, iterations, hashSize);
 
-        return new Hash(hash, salt);
+        return new Hash(hash, salt, algorithm, iterations);
     }
 
     @Override
@@ -50,27 +84,97 @@ class PBKDF2HashingService implements HashingService {
 
     @Override
     public boolean validatePassword(char[] password, Hash correctHash) {
-        // Compute the hash of the provided password, using the same salt
-        byte[] testHash = pbkdf2(password, correctHash.getSalt());
+        byte[] correctHashBytes = correctHash.getHash();
+        // Compute the hash of the provided password, using the same salt and parameters (legacy ones if unknown)
+        byte[] testHash = pbkdf2(password,
+                correctHash.getSalt(),
+                correctHash.getAlgorithm() != null ? correctHash.getAlgorithm() : Hash.LEGACY_ALGORITHM,
+                correctHash.getIterations() > 0 ? correctHash.getIterations() : Hash.LEGACY_ITERATIONS,
+                correctHashBytes.length);
         // Compare the hashes in constant time. The password is correct if both hashes match.
-        return MessageDigest.isEqual(correctHash.getHash(), testHash);
+        return MessageDigest.isEqual(correctHashBytes, testHash);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> validatePasswordAsync(char[] password, Hash correctHash) {
+        if (verificationExecutor == null) {
+            return HashingService.super.validatePasswordAsync(password, correctHash);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> validatePassword(password, correctHash), verificationExecutor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            result.completeExceptionally(SeedException.wrap(e, CryptoErrorCode.HASH_VERIFICATION_REJECTED));
+            return result;
+        }
+    }
+
+    int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Computes the number of iterations needed for a hash computation to last the target duration on the current
+     * hardware. The fastest of several measurements is retained to minimize the impact of warm-up and noise.
+     *
+     * @param targetMillis the target duration in milliseconds.
+     * @return the number of iterations.
+     */
+    private int calibrate(long targetMillis) {
+        char[] password = "calibration".toCharArray();
+        byte[] salt = new byte[saltSize];
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            pbkdf2(password, salt, algorithm, CALIBRATION_ITERATIONS, hashSize);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        long calibrated = targetMillis * 1_000_000L * CALIBRATION_ITERATIONS / Math.max(bestNanos, 1L);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(MINIMUM_ITERATIONS, calibrated));
     }
 
     /**
      * Computes the PBKDF2 hash of a password.
      *
-     * @param password the password to hash.
-     * @param salt     the salt
+     * @param password   the password to hash.
+     * @param salt       the salt
+     * @param algorithm  the PBKDF2 algorithm.
+     * @param iterations the number of iterations.
+     * @param hashSize   the size of the hash in bytes.
      * @return the PBDKF2 hash of the password
      */
-    private byte[] pbkdf2(char[] password, byte[] salt) {
+    private byte[] pbkdf2(char[] password, byte[] salt, String algorithm, int iterations, int hashSize) {
+        PBEKeySpec spec = new PBEKeySpec(password, salt, iterations, hashSize * 8);
+        InstancePool<SecretKeyFactory> factories = getSecretKeyFactories(algorithm);
+        SecretKeyFactory secretKeyFactory = factories.acquire();
         try {
-            PBEKeySpec spec = new PBEKeySpec(password, salt, PBKDF2_ITERATIONS, HASH_BYTE_SIZE * 8);
-            SecretKeyFactory skf = SecretKeyFactory.getInstance(PBKDF2_ALGORITHM);
-            return skf.generateSecret(spec).getEncoded();
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            return secretKeyFactory.generateSecret(spec).getEncoded();
+        } catch (InvalidKeySpecException e) {
             throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
+        } finally {
+            factories.release(secretKeyFactory);
+            spec.clearPassword();
         }
     }
 
+    /**
+     * Returns the pool of secret key factories of the specified algorithm, as factories are not guaranteed to be
+     * thread-safe.
+     *
+     * @param algorithm the PBKDF2 algorithm.
+     * @return the pool of secret key factories.
+     */
+    private InstancePool<SecretKeyFactory> getSecretKeyFactories(String algorithm) {
+        return secretKeyFactories.computeIfAbsent(algorithm,
+                key -> new InstancePool<>(() -> createSecretKeyFactory(key)));
+    }
+
+    private SecretKeyFactory createSecretKeyFactory(String algorithm) {
+        try {
+            return SecretKeyFactory.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNSUPPORTED_HASHING_ALGORITHM)
+                    .put("algorithm", algorithm);
+        }
+    }
 }
@@ -28,6 +28,12 @@ class ELContextBuilderImpl implements ELContextBuilder {
     private ExpressionFactory expressionFactory;
 
     static ELContext createDefaultELContext(ExpressionFactory expressionFactory) {
+        ELContext elContext = instantiateDefaultELContext(expressionFactory);
+        elContext.putContext(ELFunctions.class, ELFunctions.NONE);
+        return elContext;
+    }
+
+    private static ELContext instantiateDefaultELContext(ExpressionFactory expressionFactory) {
         if (ELPlugin.EL_3_CONTEXT_CLASS != null) {
             try {
                 return ELPlugin.EL_3_CONTEXT_CLASS.getConstructor(ExpressionFactory.class).newInstance(
@@ -93,6 +99,10 @@ class ELContextBuilderImpl implements ELContextBuilder {
                 throw new UnsupportedOperationException(
                         "Function mapping is not supported in this environment (EL level 3+ or JUEL required)");
             }
+            ELFunctions elFunctions = (ELFunctions) elContext.getContext(ELFunctions.class);
+            if (elFunctions != null) {
+                elContext.putContext(ELFunctions.class, elFunctions.with(prefix, localName, method));
+            }
             return this;
         }
 
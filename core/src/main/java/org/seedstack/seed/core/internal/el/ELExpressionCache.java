@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.el;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ExpressionFactory;
+import javax.el.MethodExpression;
+import javax.el.ValueExpression;
+import org.seedstack.seed.diagnostic.spi.DiagnosticInfoCollector;
+
+/**
+ * Bounded cache of compiled expressions. Only expressions compiled against contexts created by SeedStack (holding
+ * {@link ELFunctions}) are cached, since the functions and variables of other contexts are bound at compile-time and
+ * cannot be known.
+ */
+class ELExpressionCache implements DiagnosticInfoCollector {
+    private final Cache<ExpressionKey, Object> cache;
+
+    ELExpressionCache(int maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    ValueExpression getValueExpression(ExpressionFactory expressionFactory, ELContext context, String el,
+            Class<?> returnType) {
+        Object functions = context.getContext(ELFunctions.class);
+        if (functions == null) {
+            return expressionFactory.createValueExpression(context, el, returnType);
+        }
+        return (ValueExpression) get(new ExpressionKey(el, returnType, null, functions),
+                () -> expressionFactory.createValueExpression(context, el, returnType));
+    }
+
+    MethodExpression getMethodExpression(ExpressionFactory expressionFactory, ELContext context, String el,
+            Class<?> returnType, Class<?>[] expectedParamTypes) {
+        Object functions = context.getContext(ELFunctions.class);
+        if (functions == null) {
+            return expressionFactory.createMethodExpression(context, el, returnType, expectedParamTypes);
+        }
+        return (MethodExpression) get(new ExpressionKey(el, returnType, expectedParamTypes, functions),
+                () -> expressionFactory.createMethodExpression(context, el, returnType, expectedParamTypes));
+    }
+
+    private Object get(ExpressionKey key, Callable<Object> compiler) {
+        Object expression = cache.getIfPresent(key);
+        if (expression == null) {
+            try {
+                expression = cache.get(key, compiler);
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new ELException(e.getCause());
+            }
+        }
+        return expression;
+    }
+
+    @Override
+    public Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+        CacheStats stats = cache.stats();
+        result.put("size", cache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("hitRate", stats.hitRate());
+        return result;
+    }
+
+    private static class ExpressionKey {
+        private final String el;
+        private final Class<?> returnType;
+        private final Class<?>[] expectedParamTypes;
+        private final Object functions;
+        private final int hashCode;
+
+        private ExpressionKey(String el, Class<?> returnType, Class<?>[] expectedParamTypes, Object functions) {
+            this.el = el;
+            this.returnType = returnType;
+            this.expectedParamTypes = expectedParamTypes == null ? null : expectedParamTypes.clone();
+            this.functions = functions;
+            this.hashCode = Objects.hash(el, returnType, Arrays.hashCode(expectedParamTypes), functions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ExpressionKey that = (ExpressionKey) o;
+            return el.equals(that.el)
+                    && returnType.equals(that.returnType)
+                    && Arrays.equals(expectedParamTypes, that.expectedParamTypes)
+                    && functions.equals(that.functions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.el;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * Immutable set of the functions mapped in an {@link javax.el.ELContext} created by SeedStack. It is stored in the
+ * context itself (see {@link javax.el.ELContext#putContext(Class, Object)}) and marks it as a context whose
+ * parse-time state is fully known, allowing compiled expressions to be shared between such contexts.
+ */
+final class ELFunctions {
+    static final ELFunctions NONE = new ELFunctions(ImmutableMap.of());
+    private final Map<String, Method> functions;
+
+    private ELFunctions(Map<String, Method> functions) {
+        this.functions = functions;
+    }
+
+    ELFunctions with(String prefix, String localName, Method method) {
+        return new ELFunctions(ImmutableMap.<String, Method>builder()
+                .putAll(functions)
+                .put(prefix + ":" + localName, method)
+                .buildKeepingLast());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return functions.equals(((ELFunctions) o).functions);
+    }
+
+    @Override
+    public int hashCode() {
+        return functions.hashCode();
+    }
+}
@@ -12,23 +12,30 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ELResolver;
+import javax.el.ExpressionFactory;
+import javax.el.PropertyNotFoundException;
+import javax.el.ValueExpression;
 import javax.inject.Inject;
+import javax.inject.Provider;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.seedstack.seed.SeedException;
-import org.seedstack.seed.el.ELContextBuilder;
-import org.seedstack.seed.el.ELService;
 import org.seedstack.seed.el.spi.ELHandler;
 
 class ELInterceptor implements MethodInterceptor {
     private final Class<? extends Annotation> annotationClass;
     private final ELBinder.ExecutionPolicy policy;
+    private final ConcurrentMap<Method, ELMethodBinding> methodBindings = new ConcurrentHashMap<>();
+    private volatile ELResolver elResolver;
     @Inject
     private Map<Class<? extends Annotation>, Class<ELHandler<?>>> elMap;
     @Inject
-    private ELService elService;
-    @Inject
-    private ELContextBuilder elContextBuilder;
+    private ExpressionFactory expressionFactory;
     @Inject
     private Injector injector;
 
@@ -39,13 +46,13 @@ class ELInterceptor implements MethodInterceptor {
 
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        Class<ELHandler<?>> handlerClass = elMap.get(this.annotationClass);
-        ELHandler<?> ELHandler = injector.getInstance(handlerClass);
+        ELMethodBinding methodBinding = getMethodBinding(invocation.getMethod());
+        ELHandler<?> elHandler = methodBinding.elHandlerProvider.get();
 
         // The policy defines if the EL is evaluated before the method, after or both.
 
         if (ELBinder.ExecutionPolicy.BEFORE.equals(policy) || ELBinder.ExecutionPolicy.BOTH.equals(policy)) {
-            ELHandler.handle(evaluateELWithService(null, invocation));
+            elHandler.handle(methodBinding.evaluate(null, invocation.getArguments()));
         }
 
         Object obj = null;
@@ -54,18 +61,44 @@ class ELInterceptor implements MethodInterceptor {
 
         } finally {
             if (ELBinder.ExecutionPolicy.AFTER.equals(policy) || ELBinder.ExecutionPolicy.BOTH.equals(policy)) {
-                ELHandler.handle(evaluateELWithService(obj, invocation));
+                elHandler.handle(methodBinding.evaluate(obj, invocation.getArguments()));
             }
         }
 
         return obj;
     }
 
-    private Object evaluateELWithService(Object obj, MethodInvocation invocation) {
-        return elService.withExpression(getELFromAnnotation(invocation.getMethod()), Object.class)
-                .withContext(elContextBuilder.defaultContext().withProperty("result", obj).withProperty("args",
-                        invocation.getArguments()).build())
-                .asValueExpression().eval();
+    private ELMethodBinding getMethodBinding(Method method) {
+        ELMethodBinding methodBinding = methodBindings.get(method);
+        if (methodBinding == null) {
+            methodBinding = methodBindings.computeIfAbsent(method, this::createMethodBinding);
+        }
+        return methodBinding;
+    }
+
+    /**
+     * Bindings are compiled lazily on the first invocation of each method rather than in {@link ELBinder}, because
+     * Guice doesn't expose the matched methods when interceptors are bound.
+     */
+    private ELMethodBinding createMethodBinding(Method method) {
+        String el = getELFromAnnotation(method);
+        ELContext compilationContext = new ELInvocationContext(getELResolver(), null, null);
+        try {
+            return new ELMethodBinding(
+                    injector.getProvider(elMap.get(this.annotationClass)),
+                    el,
+                    expressionFactory.createValueExpression(compilationContext, el, Object.class)
+            );
+        } catch (ELException e) {
+            throw SeedException.wrap(e, ExpressionLanguageErrorCode.EL_EXCEPTION).put("el", el);
+        }
+    }
+
+    private ELResolver getELResolver() {
+        if (elResolver == null) {
+            elResolver = ELInvocationContext.createELResolver(expressionFactory);
+        }
+        return elResolver;
     }
 
     private String getELFromAnnotation(Method method) {
@@ -82,4 +115,30 @@ class ELInterceptor implements MethodInterceptor {
 
         return el;
     }
+
+    /**
+     * The EL handler and compiled expression of an intercepted method, resolved on its first invocation.
+     */
+    private class ELMethodBinding {
+        private final Provider<? extends ELHandler<?>> elHandlerProvider;
+        private final String el;
+        private final ValueExpression valueExpression;
+
+        private ELMethodBinding(Provider<? extends ELHandler<?>> elHandlerProvider, String el,
+                ValueExpression valueExpression) {
+            this.elHandlerProvider = elHandlerProvider;
+            this.el = el;
+            this.valueExpression = valueExpression;
+        }
+
+        private Object evaluate(Object result, Object[] args) {
+            try {
+                return valueExpression.getValue(new ELInvocationContext(getELResolver(), result, args));
+            } catch (PropertyNotFoundException e) {
+                throw SeedException.wrap(e, ExpressionLanguageErrorCode.PROPERTY_NOT_FOUND).put("el", el);
+            } catch (ELException e) {
+                throw SeedException.wrap(e, ExpressionLanguageErrorCode.EL_EXCEPTION).put("el", el);
+            }
+        }
+    }
 }
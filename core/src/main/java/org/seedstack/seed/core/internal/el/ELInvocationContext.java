@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.el;
+
+import java.beans.FeatureDescriptor;
+import java.util.Iterator;
+import javax.el.ArrayELResolver;
+import javax.el.BeanELResolver;
+import javax.el.CompositeELResolver;
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.ExpressionFactory;
+import javax.el.FunctionMapper;
+import javax.el.ListELResolver;
+import javax.el.MapELResolver;
+import javax.el.PropertyNotWritableException;
+import javax.el.ResourceBundleELResolver;
+import javax.el.VariableMapper;
+
+/**
+ * Lightweight EL context exposing the <code>result</code> and <code>args</code> of an intercepted method invocation.
+ * Its resolver chain is built once and shared by all invocations, which only allocate the context itself.
+ */
+class ELInvocationContext extends ELContext {
+    static final String RESULT = "result";
+    static final String ARGS = "args";
+    private final ELResolver elResolver;
+    private final Object result;
+    private final Object[] args;
+
+    ELInvocationContext(ELResolver elResolver, Object result, Object[] args) {
+        this.elResolver = elResolver;
+        this.result = result;
+        this.args = args;
+        // the context given to resolvers may be a wrapper of this one (e.g. during evaluation)
+        putContext(ELInvocationContext.class, this);
+    }
+
+    static ELResolver createELResolver(ExpressionFactory expressionFactory) {
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        compositeELResolver.add(new InvocationELResolver());
+        if (ELPlugin.isLevel3()) {
+            ELLevel3Resolvers.addTo(compositeELResolver, expressionFactory);
+        }
+        compositeELResolver.add(new MapELResolver());
+        compositeELResolver.add(new ResourceBundleELResolver());
+        compositeELResolver.add(new ListELResolver());
+        compositeELResolver.add(new ArrayELResolver());
+        compositeELResolver.add(new BeanELResolver());
+        return compositeELResolver;
+    }
+
+    @Override
+    public ELResolver getELResolver() {
+        return elResolver;
+    }
+
+    @Override
+    public FunctionMapper getFunctionMapper() {
+        return null;
+    }
+
+    @Override
+    public VariableMapper getVariableMapper() {
+        return null;
+    }
+
+    private static class InvocationELResolver extends ELResolver {
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            if (base == null) {
+                ELInvocationContext invocationContext = (ELInvocationContext) context.getContext(
+                        ELInvocationContext.class);
+                if (invocationContext != null) {
+                    if (RESULT.equals(property)) {
+                        context.setPropertyResolved(true);
+                        return invocationContext.result;
+                    } else if (ARGS.equals(property)) {
+                        context.setPropertyResolved(true);
+                        return invocationContext.args;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base, Object property) {
+            Object value = getValue(context, base, property);
+            return value == null ? null : value.getClass();
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object property, Object value) {
+            if (base == null && (RESULT.equals(property) || ARGS.equals(property))) {
+                throw new PropertyNotWritableException("Invocation property " + property + " is read-only");
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base, Object property) {
+            if (base == null && (RESULT.equals(property) || ARGS.equals(property))) {
+                context.setPropertyResolved(true);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public Class<?> getCommonPropertyType(ELContext context, Object base) {
+            return base == null ? String.class : null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.el;
+
+import javax.el.CompositeELResolver;
+import javax.el.ExpressionFactory;
+import javax.el.StaticFieldELResolver;
+
+/**
+ * Holds the resolvers only available at EL level 3. This class must only be loaded when {@link ELPlugin#isLevel3()}
+ * is true, so EL 2.2 implementations don't fail on missing types.
+ */
+public final class ELLevel3Resolvers {
+    private ELLevel3Resolvers() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Adds the stream and static field resolvers to a resolver chain.
+     *
+     * @param compositeELResolver the resolver chain.
+     * @param expressionFactory   the expression factory providing the stream resolver.
+     */
+    public static void addTo(CompositeELResolver compositeELResolver, ExpressionFactory expressionFactory) {
+        compositeELResolver.add(expressionFactory.getStreamELResolver());
+        compositeELResolver.add(new StaticFieldELResolver());
+    }
+}
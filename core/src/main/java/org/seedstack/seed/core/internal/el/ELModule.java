@@ -19,16 +19,20 @@ import org.seedstack.seed.el.spi.ELHandler;
 
 class ELModule extends AbstractModule {
     private final ExpressionFactory expressionFactory;
+    private final ELExpressionCache elExpressionCache;
     private final Map<Class<? extends Annotation>, Class<ELHandler<?>>> elMap;
 
-    ELModule(ExpressionFactory expressionFactory, Map<Class<? extends Annotation>, Class<ELHandler<?>>> elMap) {
+    ELModule(ExpressionFactory expressionFactory, ELExpressionCache elExpressionCache,
+            Map<Class<? extends Annotation>, Class<ELHandler<?>>> elMap) {
         this.expressionFactory = expressionFactory;
+        this.elExpressionCache = elExpressionCache;
         this.elMap = elMap;
     }
 
     @Override
     protected void configure() {
         bind(ExpressionFactory.class).toInstance(expressionFactory);
+        bind(ELExpressionCache.class).toInstance(elExpressionCache);
         bind(ELService.class).to(ELServiceInternal.class);
         bind(ELContextBuilder.class).to(ELContextBuilderImpl.class);
 
@@ -20,7 +20,10 @@ import javax.el.ELContext;
 import javax.el.ExpressionFactory;
 import net.jodah.typetools.TypeResolver;
 import org.seedstack.seed.SeedException;
+import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.core.internal.AbstractSeedPlugin;
+import org.seedstack.seed.diagnostic.DiagnosticManager;
+import org.seedstack.seed.el.ELConfig;
 import org.seedstack.seed.el.spi.ELHandler;
 import org.seedstack.shed.reflect.Classes;
 import org.slf4j.Logger;
@@ -31,6 +34,7 @@ public class ELPlugin extends AbstractSeedPlugin {
     static final Class<? extends ELContext> JUEL_CONTEXT_CLASS;
     private static final Object EXPRESSION_FACTORY;
     private static final Logger LOGGER = LoggerFactory.getLogger(ELPlugin.class);
+    private DiagnosticManager diagnosticManager;
     private ELModule elModule;
 
     static {
@@ -102,6 +106,11 @@ public class ELPlugin extends AbstractSeedPlugin {
         return "el";
     }
 
+    @Override
+    protected void setup(SeedRuntime seedRuntime) {
+        diagnosticManager = seedRuntime.getDiagnosticManager();
+    }
+
     @Override
     public Collection<ClasspathScanRequest> classpathScanRequests() {
         return classpathScanRequestBuilder().predicate(ELHandlerPredicate.INSTANCE).build();
@@ -126,7 +135,13 @@ public class ELPlugin extends AbstractSeedPlugin {
                 elMap.put(typeParameterClass, (Class<ELHandler<?>>) elHandlerClass);
             }
 
-            elModule = new ELModule((ExpressionFactory) EXPRESSION_FACTORY, elMap);
+            ELConfig elConfig = getConfiguration(ELConfig.class);
+            ELExpressionCache elExpressionCache = new ELExpressionCache(elConfig.getCacheSize());
+            if (diagnosticManager != null) {
+                diagnosticManager.registerDiagnosticInfoCollector("el", elExpressionCache);
+            }
+
+            elModule = new ELModule((ExpressionFactory) EXPRESSION_FACTORY, elExpressionCache, elMap);
         } else {
             LOGGER.info("Java EL is not present in the classpath, EL support disabled");
         }
@@ -27,23 +27,26 @@ import org.seedstack.seed.el.ELService;
 class ELServiceInternal implements ELService {
     @Inject
     private ExpressionFactory expressionFactory;
+    @Inject
+    private ELExpressionCache elExpressionCache;
 
     @Override
     public ELContextProvider withExpression(String el, Class returnType) {
         checkArgument(!Strings.isNullOrEmpty(el), "An expression is required");
-        return new ELInstance(expressionFactory, el, checkNotNull(returnType, "The return type must not be null"));
+        return new ELInstance(expressionFactory, elExpressionCache, el, checkNotNull(returnType,
+                "The return type must not be null"));
     }
 
     @Override
     public ValueExpressionProvider withValueExpression(ValueExpression valueExpression) {
-        ELInstance elInstance = new ELInstance(expressionFactory);
+        ELInstance elInstance = new ELInstance(expressionFactory, elExpressionCache);
         elInstance.setValueExpression(checkNotNull(valueExpression, "The value expression must not be null"));
         return elInstance;
     }
 
     @Override
     public MethodExpressionProvider withMethodExpression(MethodExpression methodExpression) {
-        ELInstance elInstance = new ELInstance(expressionFactory);
+        ELInstance elInstance = new ELInstance(expressionFactory, elExpressionCache);
         elInstance.setMethodExpression(checkNotNull(methodExpression, "The method expression must not be null"));
         return elInstance;
     }
@@ -51,18 +54,22 @@ class ELServiceInternal implements ELService {
     private static class ELInstance implements ELContextProvider, ELExpressionProvider, ELService
             .MethodExpressionProvider, ELService.ValueExpressionProvider {
         private final ExpressionFactory expressionFactory;
+        private final ELExpressionCache elExpressionCache;
         private String el;
         private Class returnType;
         private MethodExpression methodExpression;
         private ValueExpression valueExpression;
         private ELContext context;
 
-        ELInstance(ExpressionFactory expressionFactory) {
+        ELInstance(ExpressionFactory expressionFactory, ELExpressionCache elExpressionCache) {
             this.expressionFactory = expressionFactory;
+            this.elExpressionCache = elExpressionCache;
         }
 
-        ELInstance(ExpressionFactory expressionFactory, String el, Class returnType) {
+        ELInstance(ExpressionFactory expressionFactory, ELExpressionCache elExpressionCache, String el,
+                Class returnType) {
             this.expressionFactory = expressionFactory;
+            this.elExpressionCache = elExpressionCache;
             this.el = el;
             this.returnType = returnType;
         }
@@ -86,7 +93,7 @@ class ELServiceInternal implements ELService {
 
         @Override
         public ValueExpressionProvider asValueExpression() {
-            valueExpression = expressionFactory.createValueExpression(context, el, returnType);
+            valueExpression = elExpressionCache.getValueExpression(expressionFactory, context, el, returnType);
             return this;
         }
 
@@ -97,7 +104,8 @@ class ELServiceInternal implements ELService {
 
         @Override
         public MethodExpressionProvider asMethodExpression(Class<?>[] expectedParamTypes) {
-            methodExpression = expressionFactory.createMethodExpression(context, el, returnType, expectedParamTypes);
+            methodExpression = elExpressionCache.getMethodExpression(expressionFactory, context, el, returnType,
+                    expectedParamTypes);
             return this;
         }
 
@@ -9,12 +9,17 @@ package org.seedstack.seed.core.internal.transaction;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.name.Names;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.inject.Inject;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -35,10 +40,20 @@ import org.seedstack.seed.transaction.spi.TransactionMetadataResolver;
 abstract class AbstractTransactionManager implements TransactionManager {
     private final MethodInterceptorImplementation methodInterceptorImplementation = new
             MethodInterceptorImplementation();
+    // resolvers may depend on the target instance, so a method inherited by several classes has one plan per class
+    private final ClassValue<ConcurrentMap<Method, TransactionPlan>> transactionPlans =
+            new ClassValue<ConcurrentMap<Method, TransactionPlan>>() {
+                @Override
+                protected ConcurrentMap<Method, TransactionPlan> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
     @Inject
     protected Injector injector;
     @Inject
     private Set<TransactionMetadataResolver> transactionMetadataResolvers;
+    @Inject
+    private TransactionTracer transactionTracer;
     @Configuration
     private TransactionConfig transactionConfig;
 
@@ -50,80 +65,83 @@ abstract class AbstractTransactionManager implements TransactionManager {
     /**
      * This method provide the technology-specific interception behavior.
      *
-     * @param transactionLogger   The object that must be used to log transaction progress.
-     * @param invocation          The method interception object.
-     * @param transactionMetadata Metadata of the current transaction.
-     * @param transactionHandler  Transaction handler for the current transacted resource.
+     * @param transactionLogger  The object that must be used to log transaction progress.
+     * @param invocation         The method interception object.
+     * @param transactionPlan    The resolved transaction plan of the intercepted method.
+     * @param transactionHandler Transaction handler for the current transacted resource.
      * @return the value of the method invocation
      * @throws Throwable if any problem occurs during interception.
      */
     protected abstract <T> Object doMethodInterception(TransactionLogger transactionLogger, MethodInvocation invocation,
-            TransactionMetadata transactionMetadata, TransactionHandler<T> transactionHandler) throws Throwable;
+            TransactionPlan transactionPlan, TransactionHandler<T> transactionHandler) throws Throwable;
 
     /**
      * This method call the wrapped transactional method.
      *
-     * @param transactionLogger   The object that must be used to log transaction progress.
-     * @param invocation          the {@link MethodInvocation} denoting the transactional method.
-     * @param transactionMetadata the current transaction metadata.
-     * @param currentTransaction  the current transaction object if any.
+     * @param transactionLogger  The object that must be used to log transaction progress.
+     * @param invocation         the {@link MethodInvocation} denoting the transactional method.
+     * @param transactionPlan    the resolved transaction plan of the transactional method.
+     * @param currentTransaction the current transaction object if any.
      * @return the return value of the transactional method.
      * @throws Throwable if an exception occurs during the method invocation.
      */
     protected Object doInvocation(TransactionLogger transactionLogger, MethodInvocation invocation,
-            TransactionMetadata transactionMetadata, Object currentTransaction) throws Throwable {
+            TransactionPlan transactionPlan, Object currentTransaction) throws Throwable {
         Object result = null;
+        long startTime = transactionLogger.phaseStarted();
         try {
-            transactionLogger.log("invocation started", transactionLogger);
+            transactionLogger.log("invocation started");
             result = invocation.proceed();
-            transactionLogger.log("invocation ended", transactionLogger);
+            transactionLogger.log("invocation ended");
         } catch (Exception exception) {
-            doHandleException(transactionLogger, exception, transactionMetadata, currentTransaction);
+            doHandleException(transactionLogger, exception, transactionPlan, currentTransaction);
+        } finally {
+            transactionLogger.phaseEnded(TransactionPhase.INVOCATION, startTime);
         }
         return result;
     }
 
-    @SuppressWarnings("unchecked")
     private void doHandleException(TransactionLogger transactionLogger, Exception exception,
-            TransactionMetadata transactionMetadata, Object currentTransaction) throws Exception {
-        boolean matchForRollback = false, matchForNoRollback = false;
-
-        // Check for the need to rollback
-        for (Class<? extends Exception> rollbackExceptionClass : transactionMetadata.getRollbackOn()) {
-            if (rollbackExceptionClass.isAssignableFrom(exception.getClass())) {
-                matchForRollback = true;
-
-                for (Class<? extends Exception> noRollbackExceptionClass : transactionMetadata.getNoRollbackFor()) {
-                    if (noRollbackExceptionClass.isAssignableFrom(exception.getClass())) {
-                        matchForNoRollback = true;
-                    }
-                }
-            }
-        }
-
-        if (matchForRollback && !matchForNoRollback) {
-            if (transactionMetadata.getExceptionHandler() != null) {
-                ExceptionHandler exceptionHandler;
-                if (transactionMetadata.getResource() != null) {
-                    exceptionHandler = injector.getInstance(Key.get(transactionMetadata.getExceptionHandler(),
-                            Names.named(transactionMetadata.getResource())));
-                } else {
-                    exceptionHandler = injector.getInstance(transactionMetadata.getExceptionHandler());
-                }
+            TransactionPlan transactionPlan, Object currentTransaction) throws Exception {
+        switch (transactionPlan.getExceptionDecision(exception.getClass())) {
+            case IGNORE:
+                break;
+            case HANDLE:
+                ExceptionHandler exceptionHandler = transactionPlan.getExceptionHandler();
                 if (exceptionHandler != null
                         && exceptionHandler.handleException(exception,
-                        new TransactionMetadata().mergeFrom(transactionMetadata),
+                        new TransactionMetadata().mergeFrom(transactionPlan.getTransactionMetadata()),
                         currentTransaction)) {
-                    transactionLogger.log("transaction exception has been handled", transactionLogger);
+                    transactionLogger.log("transaction exception has been handled");
                 } else {
                     throw exception;
                 }
-            } else {
+                break;
+            default:
                 throw exception;
-            }
         }
     }
 
+    private TransactionPlan getTransactionPlan(MethodInvocation methodInvocation) {
+        ConcurrentMap<Method, TransactionPlan> plans = transactionPlans.get(methodInvocation.getThis().getClass());
+        TransactionPlan transactionPlan = plans.get(methodInvocation.getMethod());
+        if (transactionPlan == null) {
+            transactionPlan = plans.computeIfAbsent(methodInvocation.getMethod(),
+                    method -> createTransactionPlan(methodInvocation));
+        }
+        return transactionPlan;
+    }
+
+    private TransactionPlan createTransactionPlan(MethodInvocation methodInvocation) {
+        TransactionMetadata transactionMetadata = readTransactionMetadata(methodInvocation);
+        return new TransactionPlan(
+                transactionMetadata,
+                getTransactionHandlerProvider(transactionMetadata.getHandler(), transactionMetadata.getResource()),
+                getExceptionHandlerProvider(transactionMetadata.getExceptionHandler(),
+                        transactionMetadata.getResource())
+        );
+    }
+
     private TransactionMetadata readTransactionMetadata(MethodInvocation methodInvocation) {
         Method method = methodInvocation.getMethod();
         TransactionMetadata defaults = defaultTransactionMetadata();
@@ -168,16 +186,19 @@ abstract class AbstractTransactionManager implements TransactionManager {
         return defaults;
     }
 
-    private <T extends TransactionHandler<?>> T getTransactionHandler(Class<T> handlerClass, String resource) {
+    @SuppressWarnings("unchecked")
+    private Provider<? extends TransactionHandler<?>> getTransactionHandlerProvider(
+            Class<? extends TransactionHandler> handlerClass, String resource) {
         if (handlerClass == null) {
             throw SeedException.createNew(TransactionErrorCode.NO_TRANSACTION_HANDLER_SPECIFIED);
         }
 
         try {
             if (resource == null) {
-                return injector.getInstance(handlerClass);
+                return injector.getProvider(Key.get((Class<? extends TransactionHandler<?>>) handlerClass));
             } else {
-                return injector.getInstance(Key.get(handlerClass, Names.named(resource)));
+                return injector.getProvider(Key.get((Class<? extends TransactionHandler<?>>) handlerClass,
+                        Names.named(resource)));
             }
         } catch (Exception e) {
             throw SeedException.wrap(e, TransactionErrorCode.SPECIFIED_TRANSACTION_HANDLER_NOT_FOUND)
@@ -186,6 +207,23 @@ abstract class AbstractTransactionManager implements TransactionManager {
         }
     }
 
+    private Provider<? extends ExceptionHandler> getExceptionHandlerProvider(
+            Class<? extends ExceptionHandler> exceptionHandlerClass, String resource) {
+        if (exceptionHandlerClass == null) {
+            return null;
+        }
+        // The binding is only looked up when an exception is handled for the first time, so a missing exception
+        // handler doesn't fail transactions which never throw
+        Supplier<Provider<? extends ExceptionHandler>> providerSupplier = Suppliers.memoize(() -> {
+            if (resource == null) {
+                return injector.getProvider(Key.get(exceptionHandlerClass));
+            } else {
+                return injector.getProvider(Key.get(exceptionHandlerClass, Names.named(resource)));
+            }
+        });
+        return () -> providerSupplier.get().get();
+    }
+
     @SuppressWarnings("unchecked")
     private Class<? extends Exception>[] asExceptions(Class<?>[] classes) {
         for (Class<?> aClass : classes) {
@@ -198,29 +236,39 @@ abstract class AbstractTransactionManager implements TransactionManager {
 
     private final class MethodInterceptorImplementation implements MethodInterceptor {
         @Override
-        @SuppressWarnings("unchecked")
         public Object invoke(MethodInvocation invocation) throws Throwable {
-            TransactionLogger transactionLogger = new TransactionLogger();
-            transactionLogger.log("intercepting {}#{}", invocation.getMethod().getDeclaringClass().getCanonicalName(),
-                    invocation.getMethod().getName());
-
-            TransactionMetadata transactionMetadata = readTransactionMetadata(invocation);
-            transactionLogger.log("{}", transactionMetadata);
+            TransactionLogger transactionLogger = transactionTracer.createLogger(invocation.getMethod());
+            if (transactionLogger.isTraceEnabled()) {
+                transactionLogger.log("intercepting {}#{}",
+                        invocation.getMethod().getDeclaringClass().getCanonicalName(),
+                        invocation.getMethod().getName());
+            }
 
+            TransactionPlan transactionPlan;
             TransactionHandler<?> transactionHandler;
             try {
-                transactionHandler = getTransactionHandler(transactionMetadata.getHandler(),
-                        transactionMetadata.getResource());
+                transactionPlan = getTransactionPlan(invocation);
+                transactionHandler = transactionPlan.getTransactionHandler();
             } catch (SeedException e) {
                 throw e.put("method", invocation.getMethod().toString());
             }
 
-            transactionLogger.log("using {} transaction handler", transactionHandler.getClass().getCanonicalName());
+            transactionLogger.log("{}", transactionPlan.getTransactionMetadata());
+            if (transactionLogger.isTraceEnabled()) {
+                transactionLogger.log("using {} transaction handler",
+                        transactionHandler.getClass().getCanonicalName());
+            }
 
+            boolean failed = true;
             try {
-                return doMethodInterception(transactionLogger, invocation, transactionMetadata, transactionHandler);
+                Object result = doMethodInterception(transactionLogger, invocation, transactionPlan,
+                        transactionHandler);
+                failed = false;
+                return result;
             } catch (SeedException e) {
                 throw e.put("method", invocation.getMethod().toString());
+            } finally {
+                transactionLogger.transactionEnded(failed);
             }
         }
     }
@@ -38,7 +38,8 @@ public class JtaTransactionManager extends AbstractTransactionManager {
 
     @Override
     protected <T> Object doMethodInterception(TransactionLogger transactionLogger, MethodInvocation invocation,
-            TransactionMetadata transactionMetadata, TransactionHandler<T> transactionHandler) throws Throwable {
+            TransactionPlan transactionPlan, TransactionHandler<T> transactionHandler) throws Throwable {
+        TransactionMetadata transactionMetadata = transactionPlan.getTransactionMetadata();
         initJTAObjects(transactionLogger);
 
         PropagationResult propagationResult;
@@ -69,7 +70,9 @@ public class JtaTransactionManager extends AbstractTransactionManager {
             try {
                 if (propagationResult.isNewTransactionNeeded()) {
                     transactionLogger.log("beginning the JTA transaction");
+                    long phaseStart = transactionLogger.phaseStarted();
                     userTransaction.begin();
+                    transactionLogger.phaseEnded(TransactionPhase.BEGIN, phaseStart);
                 } else {
                     transactionLogger.log("participating in an existing JTA transaction");
                 }
@@ -80,15 +83,19 @@ public class JtaTransactionManager extends AbstractTransactionManager {
                     }
 
                     try {
-                        result = doInvocation(transactionLogger, invocation, transactionMetadata, userTransaction);
+                        result = doInvocation(transactionLogger, invocation, transactionPlan, userTransaction);
                     } catch (Throwable throwable) {
                         if (propagationResult.isNewTransactionNeeded()) {
                             transactionLogger.log("rolling back JTA transaction after invocation exception");
+                            long phaseStart = transactionLogger.phaseStarted();
                             userTransaction.rollback();
+                            transactionLogger.phaseEnded(TransactionPhase.ROLLBACK, phaseStart);
                         } else if (transactionMetadata.isRollbackOnParticipationFailure()) {
                             transactionLogger.log(
                                     "marking JTA transaction as rollback-only after invocation exception");
+                            long phaseStart = transactionLogger.phaseStarted();
                             userTransaction.setRollbackOnly();
+                            transactionLogger.phaseEnded(TransactionPhase.ROLLBACK, phaseStart);
                         }
 
                         throw throwable;
@@ -96,19 +103,25 @@ public class JtaTransactionManager extends AbstractTransactionManager {
 
                     if (propagationResult.isNewTransactionNeeded()) {
                         transactionLogger.log("committing JTA transaction");
+                        long phaseStart = transactionLogger.phaseStarted();
                         userTransaction.commit();
+                        transactionLogger.phaseEnded(TransactionPhase.COMMIT, phaseStart);
                     }
                 } finally {
                     if (propagationResult.isNewTransactionNeeded() && userTransaction.getStatus() == Status
                             .STATUS_ACTIVE) {
                         transactionLogger.log("rolling back JTA transaction (no commit occurred)");
+                        long phaseStart = transactionLogger.phaseStarted();
                         userTransaction.rollback();
+                        transactionLogger.phaseEnded(TransactionPhase.ROLLBACK, phaseStart);
                     }
                 }
             } finally {
                 if (propagationResult.isNewTransactionNeeded()) {
                     transactionLogger.log("cleaning up transaction handler");
+                    long phaseStart = transactionLogger.phaseStarted();
                     transactionHandler.doCleanup();
+                    transactionLogger.phaseEnded(TransactionPhase.RELEASE, phaseStart);
                 }
             }
 
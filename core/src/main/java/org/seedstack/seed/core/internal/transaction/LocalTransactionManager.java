@@ -20,7 +20,8 @@ import org.seedstack.seed.transaction.spi.TransactionMetadata;
 public class LocalTransactionManager extends AbstractTransactionManager {
     @Override
     protected <T> Object doMethodInterception(TransactionLogger transactionLogger, MethodInvocation invocation,
-            TransactionMetadata transactionMetadata, TransactionHandler<T> transactionHandler) throws Throwable {
+            TransactionPlan transactionPlan, TransactionHandler<T> transactionHandler) throws Throwable {
+        TransactionMetadata transactionMetadata = transactionPlan.getTransactionMetadata();
         T currentTransaction = transactionHandler.getCurrentTransaction();
         PropagationResult propagationResult = handlePropagation(transactionMetadata.getPropagation(),
                 currentTransaction);
@@ -42,18 +43,24 @@ public class LocalTransactionManager extends AbstractTransactionManager {
             try {
                 if (propagationResult.isNewTransactionNeeded()) {
                     transactionLogger.log("beginning the transaction");
+                    long phaseStart = transactionLogger.phaseStarted();
                     transactionHandler.doBeginTransaction(currentTransaction);
+                    transactionLogger.phaseEnded(TransactionPhase.BEGIN, phaseStart);
                 }
 
                 try {
-                    result = doInvocation(transactionLogger, invocation, transactionMetadata, currentTransaction);
+                    result = doInvocation(transactionLogger, invocation, transactionPlan, currentTransaction);
                 } catch (Throwable throwable) {
                     if (propagationResult.isNewTransactionNeeded()) {
                         transactionLogger.log("rolling back the transaction after invocation exception");
+                        long phaseStart = transactionLogger.phaseStarted();
                         transactionHandler.doRollbackTransaction(currentTransaction);
+                        transactionLogger.phaseEnded(TransactionPhase.ROLLBACK, phaseStart);
                     } else if (currentTransaction != null && transactionMetadata.isRollbackOnParticipationFailure()) {
                         transactionLogger.log("marking the transaction as rollback-only after invocation exception");
+                        long phaseStart = transactionLogger.phaseStarted();
                         transactionHandler.doMarkTransactionAsRollbackOnly(currentTransaction);
+                        transactionLogger.phaseEnded(TransactionPhase.ROLLBACK, phaseStart);
                     }
 
                     throw throwable;
@@ -61,18 +68,24 @@ public class LocalTransactionManager extends AbstractTransactionManager {
 
                 if (propagationResult.isNewTransactionNeeded()) {
                     transactionLogger.log("committing transaction");
+                    long phaseStart = transactionLogger.phaseStarted();
                     transactionHandler.doCommitTransaction(currentTransaction);
+                    transactionLogger.phaseEnded(TransactionPhase.COMMIT, phaseStart);
                 }
             } finally {
                 if (propagationResult.isNewTransactionNeeded()) {
                     transactionLogger.log("releasing transaction");
+                    long phaseStart = transactionLogger.phaseStarted();
                     transactionHandler.doReleaseTransaction(currentTransaction);
+                    transactionLogger.phaseEnded(TransactionPhase.RELEASE, phaseStart);
                 }
             }
         } finally {
             if (propagationResult.isNewTransactionNeeded()) {
                 transactionLogger.log("cleaning up transaction handler");
+                long phaseStart = transactionLogger.phaseStarted();
                 transactionHandler.doCleanup();
+                transactionLogger.phaseEnded(TransactionPhase.RELEASE, phaseStart);
             }
         }
 
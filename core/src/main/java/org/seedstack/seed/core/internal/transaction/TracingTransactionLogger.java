@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import java.lang.reflect.Method;
+
+/**
+ * Transaction logger that also records the duration of each transaction phase. One instance is created per
+ * transactional invocation and its trace is pushed to the {@link TransactionTracer} when the invocation ends.
+ */
+class TracingTransactionLogger extends TransactionLogger {
+    private static final TransactionPhase[] PHASES = TransactionPhase.values();
+    private final TransactionTracer transactionTracer;
+    private final Method method;
+    private final long startTimestamp = System.currentTimeMillis();
+    private final long startTime = System.nanoTime();
+    private final long[] phaseDurations = new long[PHASES.length];
+
+    TracingTransactionLogger(TransactionTracer transactionTracer, Method method) {
+        this.transactionTracer = transactionTracer;
+        this.method = method;
+    }
+
+    @Override
+    long phaseStarted() {
+        return System.nanoTime();
+    }
+
+    @Override
+    void phaseEnded(TransactionPhase phase, long startTime) {
+        phaseDurations[phase.ordinal()] += System.nanoTime() - startTime;
+    }
+
+    @Override
+    void transactionEnded(boolean failed) {
+        transactionTracer.record(new TransactionTrace(
+                method,
+                Thread.currentThread().getName(),
+                startTimestamp,
+                System.nanoTime() - startTime,
+                phaseDurations,
+                failed
+        ));
+    }
+}
@@ -10,19 +10,73 @@ package org.seedstack.seed.core.internal.transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Logs transaction progress at trace level. The shared {@link #INSTANCE} doesn't allocate anything when trace logging is
+ * disabled and doesn't record phase timings. See {@link TracingTransactionLogger} for the timing-enabled variant.
+ */
 class TransactionLogger {
+    static final TransactionLogger INSTANCE = new TransactionLogger();
     private static final Logger LOGGER = LoggerFactory.getLogger(TransactionLogger.class);
-    private final String prefix;
-    private final boolean isTraceEnabled;
+    private static final String PREFIX_FORMAT = "TX[%d]: %s";
 
     TransactionLogger() {
-        this.prefix = String.format("TX[%d]: ", Thread.currentThread().getId());
-        this.isTraceEnabled = LOGGER.isTraceEnabled();
+        // only the shared instance and subclasses are allowed
+    }
+
+    /**
+     * @return true if transaction progress is logged, so log arguments that are costly to compute can be skipped.
+     */
+    boolean isTraceEnabled() {
+        return LOGGER.isTraceEnabled();
+    }
+
+    void log(String message) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix(message));
+        }
+    }
+
+    void log(String format, Object argument) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix(format), argument);
+        }
     }
 
-    public void log(String format, Object... arguments) {
-        if (isTraceEnabled) {
-            LOGGER.trace(prefix + format, arguments);
+    void log(String format, Object argument1, Object argument2) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix(format), argument1, argument2);
         }
     }
+
+    /**
+     * Marks the start of a transaction phase.
+     *
+     * @return the start time of the phase, to be passed to {@link #phaseEnded(TransactionPhase, long)}.
+     */
+    long phaseStarted() {
+        return 0L;
+    }
+
+    /**
+     * Marks the end of a transaction phase.
+     *
+     * @param phase     the phase that ended.
+     * @param startTime the start time returned by {@link #phaseStarted()}.
+     */
+    void phaseEnded(TransactionPhase phase, long startTime) {
+        // no timing recorded by default
+    }
+
+    /**
+     * Marks the end of the whole transactional invocation.
+     *
+     * @param failed true if the invocation ended with an exception, false otherwise.
+     */
+    void transactionEnded(boolean failed) {
+        // no timing recorded by default
+    }
+
+    private String prefix(String message) {
+        return String.format(PREFIX_FORMAT, Thread.currentThread().getId(), message);
+    }
 }
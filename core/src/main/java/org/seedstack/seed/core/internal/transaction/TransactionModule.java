@@ -20,11 +20,13 @@ import org.seedstack.seed.transaction.spi.TransactionMetadataResolver;
 @TransactionConcern
 class TransactionModule extends AbstractModule {
     private final TransactionManager transactionManager;
+    private final TransactionTracer transactionTracer;
     private final Set<Class<? extends TransactionMetadataResolver>> transactionMetadataResolvers;
 
-    TransactionModule(TransactionManager transactionManager,
+    TransactionModule(TransactionManager transactionManager, TransactionTracer transactionTracer,
             Set<Class<? extends TransactionMetadataResolver>> transactionMetadataResolvers) {
         this.transactionManager = transactionManager;
+        this.transactionTracer = transactionTracer;
         this.transactionMetadataResolvers = transactionMetadataResolvers;
     }
 
@@ -45,6 +47,7 @@ class TransactionModule extends AbstractModule {
             transactionMetadataResolverMultibinder.addBinding().to(transactionMetadataResolver);
         }
 
+        bind(TransactionTracer.class).toInstance(transactionTracer);
         requestInjection(transactionManager);
         bindInterceptor(Matchers.any(), buildMethodMatcher(), transactionManager.getMethodInterceptor());
         bind(TransactionManager.class).toInstance(transactionManager);
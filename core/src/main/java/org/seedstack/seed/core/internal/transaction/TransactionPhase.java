@@ -0,0 +1,19 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+/**
+ * The phases of a transaction that are timed when transaction tracing is enabled.
+ */
+enum TransactionPhase {
+    BEGIN,
+    INVOCATION,
+    COMMIT,
+    ROLLBACK,
+    RELEASE
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import com.google.inject.Provider;
+import org.seedstack.seed.transaction.spi.ExceptionHandler;
+import org.seedstack.seed.transaction.spi.TransactionHandler;
+import org.seedstack.seed.transaction.spi.TransactionMetadata;
+
+/**
+ * Immutable transaction plan of a transactional method, resolved once on its first invocation and reused by all
+ * subsequent ones. The transaction metadata it holds is shared between invocations and must not be modified.
+ */
+class TransactionPlan {
+    private final TransactionMetadata transactionMetadata;
+    private final Provider<? extends TransactionHandler<?>> transactionHandlerProvider;
+    private final Provider<? extends ExceptionHandler> exceptionHandlerProvider;
+    private final Class<? extends Exception>[] rollbackOn;
+    private final Class<? extends Exception>[] noRollbackFor;
+    private final ClassValue<ExceptionDecision> exceptionDecisions = new ClassValue<ExceptionDecision>() {
+        @Override
+        protected ExceptionDecision computeValue(Class<?> exceptionClass) {
+            return computeExceptionDecision(exceptionClass);
+        }
+    };
+
+    TransactionPlan(TransactionMetadata transactionMetadata,
+            Provider<? extends TransactionHandler<?>> transactionHandlerProvider,
+            Provider<? extends ExceptionHandler> exceptionHandlerProvider) {
+        this.transactionMetadata = transactionMetadata;
+        this.transactionHandlerProvider = transactionHandlerProvider;
+        this.exceptionHandlerProvider = exceptionHandlerProvider;
+        this.rollbackOn = transactionMetadata.getRollbackOn();
+        this.noRollbackFor = transactionMetadata.getNoRollbackFor();
+    }
+
+    TransactionMetadata getTransactionMetadata() {
+        return transactionMetadata;
+    }
+
+    TransactionHandler<?> getTransactionHandler() {
+        return transactionHandlerProvider.get();
+    }
+
+    /**
+     * Returns the exception handler of the transaction if any.
+     *
+     * @return the exception handler instance or null if no exception handler is specified.
+     */
+    ExceptionHandler getExceptionHandler() {
+        return exceptionHandlerProvider == null ? null : exceptionHandlerProvider.get();
+    }
+
+    /**
+     * Returns the decision to apply when the specified exception is thrown by the transactional method, according to
+     * the rollbackOn, noRollbackFor and exceptionHandler attributes of the transaction metadata. Decisions are computed
+     * once per exception class.
+     *
+     * @param exceptionClass the class of the exception.
+     * @return the decision to apply.
+     */
+    ExceptionDecision getExceptionDecision(Class<? extends Exception> exceptionClass) {
+        return exceptionDecisions.get(exceptionClass);
+    }
+
+    private ExceptionDecision computeExceptionDecision(Class<?> exceptionClass) {
+        if (isRollbackNeeded(exceptionClass)) {
+            return exceptionHandlerProvider == null ? ExceptionDecision.RETHROW : ExceptionDecision.HANDLE;
+        } else {
+            return ExceptionDecision.IGNORE;
+        }
+    }
+
+    private boolean isRollbackNeeded(Class<?> exceptionClass) {
+        if (rollbackOn != null) {
+            for (Class<? extends Exception> rollbackExceptionClass : rollbackOn) {
+                if (rollbackExceptionClass.isAssignableFrom(exceptionClass)) {
+                    if (noRollbackFor != null) {
+                        for (Class<? extends Exception> noRollbackExceptionClass : noRollbackFor) {
+                            if (noRollbackExceptionClass.isAssignableFrom(exceptionClass)) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The outcome of an exception thrown by a transactional method.
+     */
+    enum ExceptionDecision {
+        /**
+         * The exception doesn't match the rollback rules: it is swallowed and the transaction proceeds normally.
+         */
+        IGNORE,
+        /**
+         * The exception matches the rollback rules and is given to the exception handler first.
+         */
+        HANDLE,
+        /**
+         * The exception matches the rollback rules and is rethrown, causing the transaction to be rolled back.
+         */
+        RETHROW
+    }
+}
@@ -16,7 +16,9 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import javax.transaction.Transactional;
+import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.core.internal.AbstractSeedPlugin;
+import org.seedstack.seed.diagnostic.DiagnosticManager;
 import org.seedstack.seed.transaction.TransactionConfig;
 import org.seedstack.seed.transaction.spi.TransactionManager;
 import org.seedstack.seed.transaction.spi.TransactionMetadataResolver;
@@ -37,12 +39,19 @@ public class TransactionPlugin extends AbstractSeedPlugin {
     private static final Logger LOGGER = LoggerFactory.getLogger(TransactionPlugin.class);
     private final Set<Class<? extends TransactionMetadataResolver>> transactionMetadataResolvers = new HashSet<>();
     private TransactionManager transactionManager;
+    private TransactionTracer transactionTracer;
+    private DiagnosticManager diagnosticManager;
 
     @Override
     public String name() {
         return "transaction";
     }
 
+    @Override
+    protected void setup(SeedRuntime seedRuntime) {
+        diagnosticManager = seedRuntime.getDiagnosticManager();
+    }
+
     @Override
     public Collection<ClasspathScanRequest> classpathScanRequests() {
         return classpathScanRequestBuilder().subtypeOf(TransactionMetadataResolver.class).build();
@@ -57,6 +66,15 @@ public class TransactionPlugin extends AbstractSeedPlugin {
         }
         this.transactionManager = Classes.instantiateDefault(txManagerClass);
 
+        this.transactionTracer = new TransactionTracer(transactionConfig.tracing());
+        if (transactionTracer.isEnabled()) {
+            LOGGER.info("Transaction tracing enabled, timings of the last {} transactions are available as diagnostic "
+                    + "information", transactionConfig.tracing().getBufferSize());
+            if (diagnosticManager != null) {
+                diagnosticManager.registerDiagnosticInfoCollector("transaction", transactionTracer);
+            }
+        }
+
         initContext.scannedSubTypesByParentClass().get(TransactionMetadataResolver.class).stream()
                 .filter(TransactionMetadataResolver.class::isAssignableFrom)
                 .forEach(candidate -> {
@@ -71,6 +89,7 @@ public class TransactionPlugin extends AbstractSeedPlugin {
     public Object nativeUnitModule() {
         return new TransactionModule(
                 this.transactionManager,
+                this.transactionTracer,
                 this.transactionMetadataResolvers
         );
     }
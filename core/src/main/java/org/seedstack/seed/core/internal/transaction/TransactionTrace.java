@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable timings of a single transactional invocation.
+ */
+class TransactionTrace {
+    private static final TransactionPhase[] PHASES = TransactionPhase.values();
+    private final Method method;
+    private final String thread;
+    private final long startTimestamp;
+    private final long totalDuration;
+    private final long[] phaseDurations;
+    private final boolean failed;
+
+    TransactionTrace(Method method, String thread, long startTimestamp, long totalDuration, long[] phaseDurations,
+            boolean failed) {
+        this.method = method;
+        this.thread = thread;
+        this.startTimestamp = startTimestamp;
+        this.totalDuration = totalDuration;
+        this.phaseDurations = phaseDurations.clone();
+        this.failed = failed;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("method", method.getDeclaringClass().getName() + "#" + method.getName());
+        result.put("thread", thread);
+        result.put("start", Instant.ofEpochMilli(startTimestamp).toString());
+        result.put("totalMicros", TimeUnit.NANOSECONDS.toMicros(totalDuration));
+        result.put("failed", failed);
+        Map<String, Object> phases = new LinkedHashMap<>();
+        for (TransactionPhase phase : PHASES) {
+            long phaseDuration = phaseDurations[phase.ordinal()];
+            if (phaseDuration > 0) {
+                phases.put(phase.name().toLowerCase(), TimeUnit.NANOSECONDS.toMicros(phaseDuration));
+            }
+        }
+        result.put("phaseMicros", phases);
+        return result;
+    }
+}
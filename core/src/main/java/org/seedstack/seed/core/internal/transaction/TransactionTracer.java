@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.seedstack.seed.diagnostic.spi.DiagnosticInfoCollector;
+import org.seedstack.seed.transaction.TransactionConfig;
+
+/**
+ * Keeps the traces of the most recent transactional invocations in a fixed-size ring buffer and exposes them as
+ * diagnostic information. When tracing is disabled, the shared no-op {@link TransactionLogger} is used instead.
+ */
+class TransactionTracer implements DiagnosticInfoCollector {
+    private final boolean enabled;
+    private final AtomicReferenceArray<TransactionTrace> traces;
+    private final AtomicLong count = new AtomicLong();
+
+    TransactionTracer(TransactionConfig.TracingConfig tracingConfig) {
+        this.enabled = tracingConfig.isEnabled();
+        this.traces = new AtomicReferenceArray<>(enabled ? Math.max(1, tracingConfig.getBufferSize()) : 0);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    TransactionLogger createLogger(Method method) {
+        if (enabled) {
+            return new TracingTransactionLogger(this, method);
+        } else {
+            return TransactionLogger.INSTANCE;
+        }
+    }
+
+    void record(TransactionTrace transactionTrace) {
+        traces.set((int) (count.getAndIncrement() % traces.length()), transactionTrace);
+    }
+
+    @Override
+    public Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("tracingEnabled", enabled);
+        if (enabled) {
+            long total = count.get();
+            int size = traces.length();
+            List<Map<String, Object>> recentTraces = new ArrayList<>();
+            for (long i = Math.max(0, total - size); i < total; i++) {
+                TransactionTrace transactionTrace = traces.get((int) (i % size));
+                if (transactionTrace != null) {
+                    recentTraces.add(transactionTrace.toMap());
+                }
+            }
+            result.put("totalTransactions", total);
+            result.put("recentTransactions", recentTraces);
+        }
+        return result;
+    }
+}
@@ -30,6 +30,14 @@ public class ExpressionLanguageHandlerIT {
         Assertions.assertThat(count).isEqualTo(4);
     }
 
+    @Test
+    public void el_can_access_invocation_arguments_and_result() {
+        for (String message : new String[]{"hello", "goodbye"}) {
+            injector.getInstance(SomeDTO.class).echo(message);
+            Assertions.assertThat(ExpressionLanguageHandlerIT.message).isEqualTo(message + " world");
+        }
+    }
+
     @Test(expected = SeedException.class)
     public void error_when_annotation_value_not_available() {
         injector.getInstance(Foo.class).pok();
@@ -71,4 +71,28 @@ public class ExpressionLanguageIT {
                 elContext).asValueExpression().eval();
         Assertions.assertThat(eval).isEqualTo(HELLO_WORLD);
     }
+
+    @Test
+    public void compiled_expressions_are_shared_between_default_contexts() {
+        for (int i = 0; i < 3; i++) {
+            Object eval = elService.withExpression("${value * 2}", Integer.class)
+                    .withContext(elContextBuilder.defaultContext().withProperty("value", i).build())
+                    .asValueExpression().eval();
+            Assertions.assertThat(eval).isEqualTo(i * 2);
+        }
+    }
+
+    @Test
+    public void compiled_expressions_depend_on_mapped_functions() throws NoSuchMethodException {
+        Double max = (Double) elService.withExpression("${math:fn(24,42)}", double.class)
+                .withContext(elContextBuilder.defaultContext().withFunction("math", "fn",
+                        Math.class.getMethod("max", double.class, double.class)).build())
+                .asValueExpression().eval();
+        Double min = (Double) elService.withExpression("${math:fn(24,42)}", double.class)
+                .withContext(elContextBuilder.defaultContext().withFunction("math", "fn",
+                        Math.class.getMethod("min", double.class, double.class)).build())
+                .asValueExpression().eval();
+        Assertions.assertThat(max).isEqualTo(42);
+        Assertions.assertThat(min).isEqualTo(24);
+    }
 }
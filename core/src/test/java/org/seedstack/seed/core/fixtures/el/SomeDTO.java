@@ -19,6 +19,11 @@ public class SomeDTO {
         this.message = message;
     }
 
+    @PostEL("${args[0].concat(result)}")
+    public String echo(String message) {
+        return " world";
+    }
+
     @PreEL("${zz}")
     public void failingMethod() {
         // do nothing
@@ -19,6 +19,7 @@ import mockit.Mocked;
 import mockit.Verifications;
 import org.junit.Test;
 import org.seedstack.seed.crypto.EncryptionService;
+import org.seedstack.seed.crypto.HashingService;
 
 /**
  * Unit test for {@link CryptoModule}
@@ -39,8 +40,9 @@ public class CryptoModuleTest {
         rsaServices.put(Key.get(EncryptionService.class, Names.named("k1")), asymetricCryptingRSA);
         rsaServices.put(Key.get(EncryptionService.class, Names.named("k2")), asymetricCryptingRSA);
 
+        final PBKDF2HashingService hashingService = new PBKDF2HashingService();
         CryptoModule module = new CryptoModule(rsaServices, keyStores, keyStore, sslContext, new ArrayList<>(),
-                null);
+                null, hashingService);
         module.configure(binder);
         new Verifications() {
             {
@@ -52,6 +54,8 @@ public class CryptoModuleTest {
                 times = 1;
                 binder.bind(SSLContext.class).toInstance(sslContext);
                 times = 1;
+                binder.bind(HashingService.class).toInstance(hashingService);
+                times = 1;
             }
         };
     }
@@ -49,7 +49,7 @@ public class CryptoPluginTest {
         underTest.nativeUnitModule();
 
         new Verifications() {{
-            new CryptoModule(encryptionServices, keyStores, trustStore, sslContext, keyManagerAdapters, null);
+            new CryptoModule(encryptionServices, keyStores, trustStore, sslContext, keyManagerAdapters, null, null);
             times = 1;
         }};
     }
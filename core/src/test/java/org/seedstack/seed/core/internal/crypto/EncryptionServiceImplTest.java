@@ -7,9 +7,20 @@
  */
 package org.seedstack.seed.core.internal.crypto;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -182,4 +193,86 @@ public class EncryptionServiceImplTest {
         asymetricCrypting.decrypt(toDecrypt.getBytes());
 
     }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(List)}. Test a batch of values encrypted with a real key
+     * pair.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test
+    public void testBatchDecrypt() throws Exception {
+        EncryptionServiceImpl encryptionService = createRealEncryptionService();
+        List<byte[]> encrypted = new ArrayList<>();
+        for (String value : Arrays.asList("one", "two", "three")) {
+            encrypted.add(encryptionService.encrypt(value.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        List<byte[]> decrypted = encryptionService.decrypt(encrypted);
+
+        assertThat(decrypted).hasSize(3);
+        assertThat(new String(decrypted.get(0), StandardCharsets.UTF_8)).isEqualTo("one");
+        assertThat(new String(decrypted.get(1), StandardCharsets.UTF_8)).isEqualTo("two");
+        assertThat(new String(decrypted.get(2), StandardCharsets.UTF_8)).isEqualTo("three");
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(List)}. Test that a single cipher decrypts the whole batch.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test
+    public void testBatchDecryptUsesOneCipher(@Mocked final Key key, @Mocked final Cipher cipher) throws Exception {
+        EncryptionServiceImpl encryptionService = new EncryptionServiceImpl("alias", null, key);
+
+        encryptionService.decrypt(Arrays.asList(new byte[]{1}, new byte[]{2}, new byte[]{3}));
+
+        new Verifications() {
+            {
+                Cipher.getInstance(anyString);
+                times = 1;
+                cipher.doFinal((byte[]) any);
+                times = 3;
+            }
+        };
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(byte[])}. Test that ciphers are safely reused across
+     * concurrent threads and after a failed decryption.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test
+    public void testConcurrentEncryptionAndDecryption() throws Exception {
+        EncryptionServiceImpl encryptionService = createRealEncryptionService();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String value = "value" + i;
+                futures.add(executorService.submit(() -> {
+                    try {
+                        encryptionService.decrypt(new byte[]{1, 2, 3});
+                    } catch (SeedException e) {
+                        // expected, the cipher must be usable afterwards
+                    }
+                    byte[] encrypted = encryptionService.encrypt(value.getBytes(StandardCharsets.UTF_8));
+                    return new String(encryptionService.decrypt(encrypted), StandardCharsets.UTF_8);
+                }));
+            }
+            for (int i = 0; i < 64; i++) {
+                assertThat(futures.get(i).get()).isEqualTo("value" + i);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private EncryptionServiceImpl createRealEncryptionService() throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        return new EncryptionServiceImpl("alias", keyPair.getPublic(), keyPair.getPrivate());
+    }
 }
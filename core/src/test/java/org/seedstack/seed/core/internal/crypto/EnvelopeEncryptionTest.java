@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.crypto.EncryptionService;
+
+/**
+ * Unit test for {@link EnvelopeEncryption} through {@link EncryptionServiceImpl}.
+ */
+public class EnvelopeEncryptionTest {
+    private static final int SEGMENT_SIZE = EnvelopeEncryption.SEGMENT_SIZE;
+    private static EncryptionServiceImpl encryptionService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        encryptionService = new EncryptionServiceImpl("alias", keyPair.getPublic(), keyPair.getPrivate());
+    }
+
+    @Test
+    public void testRoundTripOfVariousSizes() {
+        for (int size : new int[]{0, 1, 1000, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 3 * SEGMENT_SIZE + 7}) {
+            byte[] payload = randomBytes(size);
+            assertThat(encryptionService.decryptEnvelope(encryptionService.encryptEnvelope(payload)))
+                    .as("payload of %d bytes", size)
+                    .isEqualTo(payload);
+        }
+    }
+
+    @Test
+    public void testStreamRoundTrip() {
+        byte[] payload = randomBytes(2 * SEGMENT_SIZE + 42);
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        encryptionService.encrypt(new ByteArrayInputStream(payload), encrypted);
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        encryptionService.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+        assertThat(decrypted.toByteArray()).isEqualTo(payload);
+    }
+
+    @Test
+    public void testEachEnvelopeUsesADifferentDataKey() {
+        byte[] payload = randomBytes(100);
+        assertThat(encryptionService.encryptEnvelope(payload)).isNotEqualTo(encryptionService.encryptEnvelope(payload));
+    }
+
+    @Test
+    public void testTamperedEnvelopeIsRejected() {
+        byte[] envelope = encryptionService.encryptEnvelope(randomBytes(1000));
+        envelope[envelope.length - 20] ^= 1;
+        assertInvalidEnvelope(envelope);
+    }
+
+    @Test
+    public void testTamperedDataKeyIsRejected() {
+        byte[] envelope = encryptionService.encryptEnvelope(randomBytes(1000));
+        // the wrapped data key follows the version and its length
+        envelope[10] ^= 1;
+        assertInvalidEnvelope(envelope);
+    }
+
+    @Test
+    public void testTruncatedEnvelopeIsRejected() {
+        byte[] envelope = encryptionService.encryptEnvelope(randomBytes(2 * SEGMENT_SIZE));
+        int headerSize = envelope.length - 2 * (SEGMENT_SIZE + 16);
+        assertInvalidEnvelope(Arrays.copyOf(envelope, headerSize + SEGMENT_SIZE + 16));
+        assertInvalidEnvelope(Arrays.copyOf(envelope, headerSize));
+        assertInvalidEnvelope(Arrays.copyOf(envelope, 1));
+    }
+
+    @Test(expected = SeedException.class)
+    public void testEnvelopeWithoutPublicKey() {
+        new EncryptionServiceImpl("alias", null, null).encryptEnvelope(new byte[10]);
+    }
+
+    @Test
+    public void testEnvelopeIsNotSupportedByDefault() {
+        EncryptionService legacyService = new EncryptionService() {
+            @Override
+            public byte[] encrypt(byte[] toEncrypt) {
+                return toEncrypt;
+            }
+
+            @Override
+            public byte[] decrypt(byte[] toDecrypt) {
+                return toDecrypt;
+            }
+        };
+        try {
+            legacyService.encryptEnvelope(new byte[10]);
+            fail("should have failed");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode().toString()).isEqualTo("UNSUPPORTED_ENCRYPTION_OPERATION");
+            assertThat(e.<String>get("operation")).isEqualTo("encryptEnvelope");
+        }
+    }
+
+    private void assertInvalidEnvelope(byte[] envelope) {
+        try {
+            encryptionService.decryptEnvelope(envelope);
+            fail("should have failed");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode()).isEqualTo(CryptoErrorCode.INVALID_ENVELOPE);
+        }
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class InstancePoolTest {
+    private final AtomicInteger created = new AtomicInteger();
+
+    @Test
+    public void releasedInstancesAreReused() {
+        InstancePool<Object> pool = new InstancePool<>(2, this::create);
+
+        Object first = pool.acquire();
+        pool.release(first);
+
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void instancesAreCreatedWhenPoolIsEmpty() {
+        InstancePool<Object> pool = new InstancePool<>(2, this::create);
+
+        Object first = pool.acquire();
+        Object second = pool.acquire();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(created.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void idleInstancesAreBounded() {
+        InstancePool<Object> pool = new InstancePool<>(2, this::create);
+        Object first = pool.acquire();
+        Object second = pool.acquire();
+        Object third = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        assertThat(pool.idleCount()).isEqualTo(2);
+    }
+
+    private Object create() {
+        created.incrementAndGet();
+        return new Object();
+    }
+}
@@ -9,8 +9,12 @@ package org.seedstack.seed.core.internal.crypto;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.Before;
 import org.junit.Test;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.crypto.CryptoConfig;
 import org.seedstack.seed.crypto.Hash;
 
 public class PBKDF2HashingSupportTest {
@@ -40,4 +44,93 @@ public class PBKDF2HashingSupportTest {
             assertThat(hashingSupport.validatePassword(password, hash)).isTrue();
         }
     }
+
+    @Test
+    public void testHashesCarryTheirParameters() {
+        PBKDF2HashingService sha512HashingService = new PBKDF2HashingService(new CryptoConfig.HashingConfig()
+                .setAlgorithm("PBKDF2WithHmacSHA512")
+                .setIterations(2000)
+                .setHashSize(32), null);
+        Hash hash = sha512HashingService.createHash("password");
+        assertThat(hash.getAlgorithm()).isEqualTo("PBKDF2WithHmacSHA512");
+        assertThat(hash.getIterations()).isEqualTo(2000);
+        assertThat(hash.getHash()).hasSize(32);
+
+        // the hash parameters take precedence over the configured ones
+        assertThat(hashingSupport.validatePassword("password", hash)).isTrue();
+        assertThat(hashingSupport.validatePassword("wrong", hash)).isFalse();
+    }
+
+    @Test
+    public void testHashesSurvivePersistence() {
+        PBKDF2HashingService sha256HashingService = new PBKDF2HashingService(new CryptoConfig.HashingConfig()
+                .setAlgorithm("PBKDF2WithHmacSHA256")
+                .setIterations(1500), null);
+        Hash hash = sha256HashingService.createHash("password");
+        assertThat(hash.toString()).startsWith("PBKDF2WithHmacSHA256$1500$");
+
+        Hash storedHash = Hash.parse(hash.toString());
+        assertThat(storedHash.getAlgorithm()).isEqualTo("PBKDF2WithHmacSHA256");
+        assertThat(storedHash.getIterations()).isEqualTo(1500);
+        assertThat(storedHash.getHash()).isEqualTo(hash.getHash());
+        assertThat(storedHash.getSalt()).isEqualTo(hash.getSalt());
+        assertThat(hashingSupport.validatePassword("password", storedHash)).isTrue();
+    }
+
+    @Test
+    public void testHashesWithDefaultParametersKeepLegacyForm() {
+        Hash hash = hashingSupport.createHash("password");
+        assertThat(hash.getAlgorithm()).isEqualTo(Hash.LEGACY_ALGORITHM);
+        assertThat(hash.getIterations()).isEqualTo(Hash.LEGACY_ITERATIONS);
+        assertThat(hash.toString()).isEqualTo(hash.getHashAsString() + ":" + hash.getSaltAsString());
+        assertThat(hashingSupport.validatePassword("password", Hash.parse(hash.toString()))).isTrue();
+    }
+
+    @Test
+    public void testHashesWithoutParametersUseLegacyOnes() {
+        Hash hash = hashingSupport.createHash("password");
+        String legacyForm = hash.getHashAsString() + ":" + hash.getSaltAsString();
+        PBKDF2HashingService sha512HashingService = new PBKDF2HashingService(new CryptoConfig.HashingConfig()
+                .setAlgorithm("PBKDF2WithHmacSHA512")
+                .setIterations(2000), null);
+
+        Hash storedHash = Hash.parse(legacyForm);
+        assertThat(storedHash.getAlgorithm()).isNull();
+        assertThat(storedHash.toString()).isEqualTo(legacyForm);
+        assertThat(sha512HashingService.validatePassword("password", storedHash)).isTrue();
+        assertThat(sha512HashingService.validatePassword("wrong", storedHash)).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidHashFormat() {
+        Hash.parse("PBKDF2WithHmacSHA1$many$00$00");
+    }
+
+    @Test
+    public void testCalibration() {
+        PBKDF2HashingService calibratedHashingService = new PBKDF2HashingService(new CryptoConfig.HashingConfig()
+                .setAlgorithm("PBKDF2WithHmacSHA256")
+                .setCalibrationTarget(5), null);
+        assertThat(calibratedHashingService.getIterations()).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test(expected = SeedException.class)
+    public void testUnsupportedAlgorithm() {
+        new PBKDF2HashingService(new CryptoConfig.HashingConfig().setAlgorithm("unknown"), null);
+    }
+
+    @Test
+    public void testAsyncValidation() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            PBKDF2HashingService asyncHashingService = new PBKDF2HashingService(new CryptoConfig.HashingConfig(),
+                    executorService);
+            Hash hash = asyncHashingService.createHash("password");
+            assertThat(asyncHashingService.validatePasswordAsync("password".toCharArray(), hash).get()).isTrue();
+            assertThat(asyncHashingService.validatePasswordAsync("wrong".toCharArray(), hash).get()).isFalse();
+            assertThat(hashingSupport.validatePasswordAsync("password".toCharArray(), hash).get()).isTrue();
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
@@ -17,6 +17,7 @@ import static org.seedstack.shed.reflect.ReflectUtils.makeAccessible;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import javax.transaction.Transactional;
@@ -54,8 +55,10 @@ public abstract class AbstractTransactionManagerTest {
                 any(TransactionMetadata.class))).thenReturn(transactionMetadata);
 
         Injector injector = mock(Injector.class);
-        when(injector.getInstance(TransactionHandler.class)).thenReturn(transactionHandler);
-        when(injector.getInstance(ExceptionHandler.class)).thenReturn(exceptionHandler);
+        when(injector.getProvider(Key.get(TransactionHandler.class))).thenReturn(() -> transactionHandler);
+        when(injector.getProvider(Key.get(ExceptionHandler.class))).thenReturn(() -> exceptionHandler);
+        when(injector.getProvider(Key.get(UnboundExceptionHandler.class))).thenThrow(
+                new IllegalStateException("No binding for UnboundExceptionHandler"));
 
         underTest = doProvideTransactionManager();
         Deencapsulation.setField(underTest,
@@ -67,6 +70,9 @@ public abstract class AbstractTransactionManagerTest {
         Deencapsulation.setField(underTest,
                 "transactionConfig",
                 new TransactionConfig());
+        Deencapsulation.setField(underTest,
+                "transactionTracer",
+                new TransactionTracer(new TransactionConfig().tracing()));
     }
 
     protected abstract TransactionManager doProvideTransactionManager() throws Exception;
@@ -116,6 +122,27 @@ public abstract class AbstractTransactionManagerTest {
         verify(exceptionHandler).handleException(any(Exception.class), any(TransactionMetadata.class), any());
     }
 
+    @Test
+    public void missing_exception_handler_does_not_fail_transactions_without_exception() throws Throwable {
+        transactionMetadata.setExceptionHandler(UnboundExceptionHandler.class);
+
+        invoke(TransactionalMethods.Enum.OK);
+
+        doAssertCommitOccurred();
+    }
+
+    @Test
+    public void missing_exception_handler_is_detected_when_an_exception_is_handled() throws Throwable {
+        transactionMetadata.setExceptionHandler(UnboundExceptionHandler.class);
+
+        try {
+            invoke(TransactionalMethods.Enum.FAIL);
+            fail("missing exception handler should have been detected");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessageContaining("UnboundExceptionHandler");
+        }
+    }
+
     @Test
     public void rollback_on_all_exceptions_by_default() throws Throwable {
         try {
@@ -257,4 +284,7 @@ public abstract class AbstractTransactionManagerTest {
 
     private class MyError extends Error {
     }
+
+    private interface UnboundExceptionHandler extends ExceptionHandler<Object> {
+    }
 }
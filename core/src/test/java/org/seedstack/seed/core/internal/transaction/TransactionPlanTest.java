@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.seedstack.seed.core.internal.transaction.TransactionPlan.ExceptionDecision;
+import org.seedstack.seed.transaction.spi.ExceptionHandler;
+import org.seedstack.seed.transaction.spi.TransactionMetadata;
+
+public class TransactionPlanTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exceptionDecisionsFollowRollbackRules() {
+        TransactionMetadata transactionMetadata = new TransactionMetadata();
+        transactionMetadata.setRollbackOn(new Class[]{RuntimeException.class});
+        transactionMetadata.setNoRollbackFor(new Class[]{IllegalStateException.class});
+        TransactionPlan transactionPlan = new TransactionPlan(transactionMetadata, () -> null, null);
+
+        assertThat(transactionPlan.getExceptionDecision(IllegalArgumentException.class))
+                .isEqualTo(ExceptionDecision.RETHROW);
+        assertThat(transactionPlan.getExceptionDecision(IllegalStateException.class))
+                .isEqualTo(ExceptionDecision.IGNORE);
+        assertThat(transactionPlan.getExceptionDecision(Exception.class))
+                .isEqualTo(ExceptionDecision.IGNORE);
+        assertThat(transactionPlan.getExceptionDecision(IllegalArgumentException.class))
+                .isSameAs(transactionPlan.getExceptionDecision(IllegalArgumentException.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void exceptionHandlerIsUsedWhenRollbackIsNeeded() {
+        TransactionMetadata transactionMetadata = new TransactionMetadata();
+        transactionMetadata.setRollbackOn(new Class[]{Exception.class});
+        transactionMetadata.setNoRollbackFor(new Class[0]);
+        ExceptionHandler<?> exceptionHandler = mock(ExceptionHandler.class);
+        TransactionPlan transactionPlan = new TransactionPlan(transactionMetadata, () -> null,
+                () -> exceptionHandler);
+
+        assertThat(transactionPlan.getExceptionDecision(Exception.class)).isEqualTo(ExceptionDecision.HANDLE);
+        assertThat(transactionPlan.getExceptionHandler()).isSameAs(exceptionHandler);
+    }
+}
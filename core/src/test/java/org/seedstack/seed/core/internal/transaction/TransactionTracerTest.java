@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.seedstack.seed.transaction.TransactionConfig;
+
+public class TransactionTracerTest {
+    private Method method;
+
+    @Before
+    public void setUp() throws Exception {
+        method = TransactionTracerTest.class.getDeclaredMethod("setUp");
+    }
+
+    @Test
+    public void disabledTracerUsesSharedLogger() {
+        TransactionTracer transactionTracer = new TransactionTracer(new TransactionConfig.TracingConfig());
+        assertThat(transactionTracer.createLogger(method)).isSameAs(TransactionLogger.INSTANCE);
+        assertThat(transactionTracer.collect()).containsEntry("tracingEnabled", false);
+    }
+
+    @Test
+    public void enabledTracerRecordsPhases() {
+        TransactionTracer transactionTracer = new TransactionTracer(new TransactionConfig.TracingConfig()
+                .setEnabled(true));
+        TransactionLogger transactionLogger = transactionTracer.createLogger(method);
+        assertThat(transactionLogger).isInstanceOf(TracingTransactionLogger.class);
+        transactionLogger.phaseEnded(TransactionPhase.COMMIT, transactionLogger.phaseStarted() - 5000);
+        transactionLogger.transactionEnded(false);
+
+        List<Map<String, Object>> traces = recentTransactions(transactionTracer);
+        assertThat(traces).hasSize(1);
+        assertThat(traces.get(0)).containsEntry("failed", false);
+        assertThat((Map<String, Object>) traces.get(0).get("phaseMicros")).containsOnlyKeys("commit");
+    }
+
+    @Test
+    public void ringBufferKeepsMostRecentTraces() {
+        TransactionTracer transactionTracer = new TransactionTracer(new TransactionConfig.TracingConfig()
+                .setEnabled(true)
+                .setBufferSize(2));
+        for (int i = 0; i < 5; i++) {
+            transactionTracer.createLogger(method).transactionEnded(i == 4);
+        }
+
+        List<Map<String, Object>> traces = recentTransactions(transactionTracer);
+        assertThat(transactionTracer.collect()).containsEntry("totalTransactions", 5L);
+        assertThat(traces).hasSize(2);
+        assertThat(traces.get(0)).containsEntry("failed", false);
+        assertThat(traces.get(1)).containsEntry("failed", true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> recentTransactions(TransactionTracer transactionTracer) {
+        return (List<Map<String, Object>>) transactionTracer.collect().get("recentTransactions");
+    }
+}
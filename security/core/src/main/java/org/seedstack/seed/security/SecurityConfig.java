@@ -22,7 +22,6 @@ import org.apache.shiro.authc.pam.AtLeastOneSuccessfulStrategy;
 import org.apache.shiro.authc.pam.AuthenticationStrategy;
 import org.apache.shiro.authc.pam.ModularRealmAuthenticator;
 import org.apache.shiro.cache.CacheManager;
-import org.apache.shiro.cache.MemoryConstrainedCacheManager;
 import org.apache.shiro.mgt.SessionStorageEvaluator;
 import org.apache.shiro.mgt.SubjectDAO;
 import org.apache.shiro.mgt.SubjectFactory;
@@ -30,6 +29,7 @@ import org.apache.shiro.session.mgt.SessionValidationScheduler;
 import org.apache.shiro.subject.SubjectContext;
 import org.seedstack.coffig.Config;
 import org.seedstack.coffig.SingleValue;
+import org.seedstack.seed.security.internal.BoundedCacheManager;
 import org.seedstack.seed.security.internal.SeedSessionStorageEvaluator;
 
 @Config("security")
@@ -136,6 +136,7 @@ public class SecurityConfig {
     public static class UserConfig {
         @SingleValue
         private String password = "";
+        private boolean hashed;
         private Set<String> roles = new HashSet<>();
 
         public String getPassword() {
@@ -147,6 +148,19 @@ public class SecurityConfig {
             return this;
         }
 
+        /**
+         * @return true if the password is a hash as returned by {@link org.seedstack.seed.crypto.Hash#toString()}
+         *         ("algorithm$iterations$hash$salt" or the legacy "hash:salt"), false if it is in plain text.
+         */
+        public boolean isHashed() {
+            return hashed;
+        }
+
+        public UserConfig setHashed(boolean hashed) {
+            this.hashed = hashed;
+            return this;
+        }
+
         public Set<String> getRoles() {
             return Collections.unmodifiableSet(roles);
         }
@@ -289,7 +303,10 @@ public class SecurityConfig {
         private boolean enabled = false;
         private ItemCacheConfig authentication = new ItemCacheConfig();
         private ItemCacheConfig authorization = new ItemCacheConfig();
-        private Class<? extends CacheManager> manager = MemoryConstrainedCacheManager.class;
+        private Class<? extends CacheManager> manager = BoundedCacheManager.class;
+        private int refreshThreads = 2;
+        private int expressionsMaxSize = 1000;
+        private int permissionsMaxSize = 10000;
 
         public boolean isEnabled() {
             return enabled;
@@ -317,10 +334,49 @@ public class SecurityConfig {
             return this;
         }
 
+        /**
+         * @return the number of threads used to refresh authorization information in the background.
+         */
+        public int getRefreshThreads() {
+            return refreshThreads;
+        }
+
+        public CacheConfig setRefreshThreads(int refreshThreads) {
+            this.refreshThreads = refreshThreads;
+            return this;
+        }
+
+        /**
+         * @return the maximum number of compiled security expressions kept, whether realm caches are enabled or not.
+         */
+        public int getExpressionsMaxSize() {
+            return expressionsMaxSize;
+        }
+
+        public CacheConfig setExpressionsMaxSize(int expressionsMaxSize) {
+            this.expressionsMaxSize = expressionsMaxSize;
+            return this;
+        }
+
+        /**
+         * @return the maximum number of parsed permissions kept, whether realm caches are enabled or not.
+         */
+        public int getPermissionsMaxSize() {
+            return permissionsMaxSize;
+        }
+
+        public CacheConfig setPermissionsMaxSize(int permissionsMaxSize) {
+            this.permissionsMaxSize = permissionsMaxSize;
+            return this;
+        }
+
         public static class ItemCacheConfig {
             @SingleValue
             private boolean enabled = true;
             private String name;
+            private int maxSize = 10000;
+            private int refreshAfter = 0;
+            private int expireAfter = 0;
 
             public boolean isEnabled() {
                 return enabled;
@@ -339,6 +395,46 @@ public class SecurityConfig {
                 this.name = name;
                 return this;
             }
+
+            /**
+             * @return the maximum number of entries of the cache.
+             */
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public ItemCacheConfig setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+                return this;
+            }
+
+            /**
+             * Only applies to the authorization cache: when greater than zero, authorization information is loaded
+             * as soon as the subject authenticates and is refreshed in the background once older than this number of
+             * seconds, while the previous value is still served. The cache manager is not used in that case.
+             *
+             * @return the number of seconds after which an entry is refreshed, 0 to disable refreshing.
+             */
+            public int getRefreshAfter() {
+                return refreshAfter;
+            }
+
+            public ItemCacheConfig setRefreshAfter(int refreshAfter) {
+                this.refreshAfter = refreshAfter;
+                return this;
+            }
+
+            /**
+             * @return the number of seconds after which an entry expires, 0 for no expiration.
+             */
+            public int getExpireAfter() {
+                return expireAfter;
+            }
+
+            public ItemCacheConfig setExpireAfter(int expireAfter) {
+                this.expireAfter = expireAfter;
+                return this;
+            }
         }
     }
 }
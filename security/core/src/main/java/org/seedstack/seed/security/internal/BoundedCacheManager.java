@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import org.apache.shiro.cache.AbstractCacheManager;
+import org.apache.shiro.cache.Cache;
+import org.seedstack.seed.diagnostic.DiagnosticManager;
+import org.seedstack.seed.diagnostic.spi.DiagnosticInfoCollector;
+import org.seedstack.seed.security.SecurityConfig;
+
+/**
+ * Cache manager creating caches bounded in size and age, holding strong references to their entries so they are not
+ * flushed all at once under memory pressure. Authentication and authorization caches are configured with
+ * {@link SecurityConfig.CacheConfig#authentication()} and {@link SecurityConfig.CacheConfig#authorization()}. Other
+ * caches, like the active session cache, are not bounded as evicting their entries would lose state. Statistics of
+ * each cache are available in the diagnostic report.
+ */
+public class BoundedCacheManager extends AbstractCacheManager implements DiagnosticInfoCollector {
+    private static final String AUTHENTICATION_CACHE_SUFFIX = ".authenticationCache";
+    private static final String AUTHORIZATION_CACHE_SUFFIX = ".authorizationCache";
+    private final ConcurrentMap<String, BoundedCache<?, ?>> boundedCaches = new ConcurrentHashMap<>();
+    @Inject
+    private SecurityConfig securityConfig;
+
+    @com.google.inject.Inject(optional = true)
+    void registerDiagnosticInfoCollector(DiagnosticManager diagnosticManager) {
+        diagnosticManager.registerDiagnosticInfoCollector("security-cache", this);
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String name) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().recordStats();
+        SecurityConfig.CacheConfig.ItemCacheConfig itemCacheConfig = resolveItemCacheConfig(name);
+        if (itemCacheConfig != null) {
+            cacheBuilder.maximumSize(itemCacheConfig.getMaxSize());
+            if (itemCacheConfig.getExpireAfter() > 0) {
+                cacheBuilder.expireAfterWrite(itemCacheConfig.getExpireAfter(), TimeUnit.SECONDS);
+            }
+        }
+        BoundedCache<Object, Object> boundedCache = new BoundedCache<>(cacheBuilder.build());
+        boundedCaches.put(name, boundedCache);
+        return boundedCache;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        super.destroy();
+        boundedCaches.clear();
+    }
+
+    @Override
+    public Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+        for (Map.Entry<String, BoundedCache<?, ?>> entry : boundedCaches.entrySet()) {
+            Map<String, Object> cacheInfo = new HashMap<>();
+            com.google.common.cache.Cache<?, ?> cache = entry.getValue().cache;
+            CacheStats stats = cache.stats();
+            cacheInfo.put("size", cache.size());
+            cacheInfo.put("hitCount", stats.hitCount());
+            cacheInfo.put("missCount", stats.missCount());
+            cacheInfo.put("evictionCount", stats.evictionCount());
+            cacheInfo.put("hitRate", stats.hitRate());
+            result.put(entry.getKey(), cacheInfo);
+        }
+        return result;
+    }
+
+    private SecurityConfig.CacheConfig.ItemCacheConfig resolveItemCacheConfig(String name) {
+        SecurityConfig.CacheConfig cacheConfig = securityConfig != null ? securityConfig.cache()
+                : new SecurityConfig.CacheConfig();
+        if (name.endsWith(AUTHENTICATION_CACHE_SUFFIX) || name.equals(cacheConfig.authentication().getName())) {
+            return cacheConfig.authentication();
+        } else if (name.endsWith(AUTHORIZATION_CACHE_SUFFIX) || name.equals(cacheConfig.authorization().getName())) {
+            return cacheConfig.authorization();
+        } else {
+            return null;
+        }
+    }
+
+    private static class BoundedCache<K, V> implements Cache<K, V> {
+        private final com.google.common.cache.Cache<K, V> cache;
+
+        private BoundedCache(com.google.common.cache.Cache<K, V> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public V get(K key) {
+            return key == null ? null : cache.getIfPresent(key);
+        }
+
+        @Override
+        public V put(K key, V value) {
+            if (value == null) {
+                return remove(key);
+            }
+            return cache.asMap().put(key, value);
+        }
+
+        @Override
+        public V remove(K key) {
+            return key == null ? null : cache.asMap().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public int size() {
+            return (int) cache.size();
+        }
+
+        @Override
+        public Set<K> keys() {
+            return Collections.unmodifiableSet(new HashSet<>(cache.asMap().keySet()));
+        }
+
+        @Override
+        public Collection<V> values() {
+            return Collections.unmodifiableList(new ArrayList<>(cache.asMap().values()));
+        }
+    }
+}
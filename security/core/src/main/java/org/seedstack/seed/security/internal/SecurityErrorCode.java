@@ -11,8 +11,10 @@ import org.seedstack.shed.exception.ErrorCode;
 
 public enum SecurityErrorCode implements ErrorCode {
     DUPLICATE_SCOPE_NAME,
+    INVALID_PASSWORD_HASH,
     MISSING_ADEQUATE_SCOPE_CONSTRUCTOR,
     MULTIPLE_MAIN_SECURITY_MODULES,
     UNABLE_TO_CREATE_SCOPE,
+    UNABLE_TO_EVALUATE_SECURITY_EXPRESSION,
     UNEXPECTED_ERROR
 }
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import org.apache.shiro.realm.Realm;
 import org.seedstack.seed.security.PrincipalCustomizer;
@@ -26,19 +27,26 @@ import org.seedstack.seed.security.RolePermissionResolver;
 import org.seedstack.seed.security.Scope;
 import org.seedstack.seed.security.SecurityConfig;
 import org.seedstack.seed.security.SecuritySupport;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
 
 class SecurityInternalModule extends PrivateModule {
     private final Map<String, Class<? extends Scope>> scopeClasses;
     private final SecurityConfigurer securityConfigurer;
+    private final Executor refreshExecutor;
+    private final PermissionCache permissionCache;
 
-    SecurityInternalModule(SecurityConfigurer securityConfigurer, Map<String, Class<? extends Scope>> scopeClasses) {
+    SecurityInternalModule(SecurityConfigurer securityConfigurer, Map<String, Class<? extends Scope>> scopeClasses,
+            Executor refreshExecutor, PermissionCache permissionCache) {
         this.securityConfigurer = securityConfigurer;
         this.scopeClasses = scopeClasses;
+        this.refreshExecutor = refreshExecutor;
+        this.permissionCache = permissionCache;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public void configure() {
+        bind(PermissionCache.class).toInstance(permissionCache);
         bind(ShiroRealmAdapter.class);
         bind(new ScopeClassesTypeLiteral()).toInstance(scopeClasses);
         bindRealms();
@@ -74,20 +82,22 @@ class SecurityInternalModule extends PrivateModule {
 
         bind(new RealmClassesTypeLiteral()).toInstance(apiRealmClasses);
         bind(new RealmsTypeLiteral()).toProvider(
-                new RealmProvider(securityConfigurer.getSecurityConfiguration())).asEagerSingleton();
+                new RealmProvider(securityConfigurer.getSecurityConfiguration(), refreshExecutor)).asEagerSingleton();
         expose(new RealmsTypeLiteral());
     }
 
     static class RealmProvider implements Provider<Set<Realm>> {
         private final SecurityConfig securityConfiguration;
+        private final Executor refreshExecutor;
         @Inject
         private Injector injector;
         @Inject
         private Set<Class<? extends org.seedstack.seed.security.Realm>> realmClasses;
         private Set<Realm> realms;
 
-        RealmProvider(SecurityConfig securityConfiguration) {
+        RealmProvider(SecurityConfig securityConfiguration, Executor refreshExecutor) {
             this.securityConfiguration = securityConfiguration;
+            this.refreshExecutor = refreshExecutor;
         }
 
         @Override
@@ -110,12 +120,20 @@ class SecurityInternalModule extends PrivateModule {
                         }
 
                         // Authorization cache
-                        realmAdapter.setAuthorizationCachingEnabled(
-                                securityConfiguration.cache().authorization().isEnabled());
-                        String authorizationCacheName = securityConfiguration.cache().authorization().getName();
+                        SecurityConfig.CacheConfig.ItemCacheConfig authorizationCacheConfig =
+                                securityConfiguration.cache().authorization();
+                        realmAdapter.setAuthorizationCachingEnabled(authorizationCacheConfig.isEnabled());
+                        String authorizationCacheName = authorizationCacheConfig.getName();
                         if (!Strings.isNullOrEmpty(authorizationCacheName)) {
                             realmAdapter.setAuthorizationCacheName(authorizationCacheName);
                         }
+                        if (authorizationCacheConfig.getRefreshAfter() > 0 && refreshExecutor != null) {
+                            realmAdapter.enableAuthorizationRefresh(
+                                    authorizationCacheConfig.getMaxSize(),
+                                    authorizationCacheConfig.getRefreshAfter(),
+                                    authorizationCacheConfig.getExpireAfter(),
+                                    refreshExecutor);
+                        }
                     } else {
                         realmAdapter.setCachingEnabled(false);
                     }
@@ -17,10 +17,12 @@ import com.google.inject.spi.Elements;
 import com.google.inject.spi.PrivateElements;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.apache.shiro.event.EventBus;
 import org.apache.shiro.mgt.SecurityManager;
 import org.seedstack.seed.SeedException;
 import org.seedstack.seed.security.Scope;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
 import org.seedstack.seed.security.internal.securityexpr.SecurityExpressionModule;
 import org.seedstack.seed.security.spi.CrudActionResolver;
 
@@ -35,24 +37,32 @@ class SecurityModule extends AbstractModule {
     private final boolean elAvailable;
     private final Collection<SecurityProvider> securityProviders;
     private final Collection<Class<? extends CrudActionResolver>> crudActionResolvers;
+    private final Executor refreshExecutor;
+    private final PermissionCache permissionCache;
 
     SecurityModule(SecurityConfigurer securityConfigurer, Map<String, Class<? extends Scope>> scopeClasses,
             boolean elAvailable, Collection<SecurityProvider> securityProviders,
-            Collection<Class<? extends CrudActionResolver>> crudActionResolvers) {
+            Collection<Class<? extends CrudActionResolver>> crudActionResolvers, Executor refreshExecutor,
+            PermissionCache permissionCache) {
         this.securityConfigurer = securityConfigurer;
         this.scopeClasses = scopeClasses;
         this.elAvailable = elAvailable;
         this.securityProviders = securityProviders;
         this.crudActionResolvers = crudActionResolvers;
+        this.refreshExecutor = refreshExecutor;
+        this.permissionCache = permissionCache;
     }
 
     @Override
     protected void configure() {
-        install(new SecurityInternalModule(securityConfigurer, scopeClasses));
+        install(new SecurityInternalModule(securityConfigurer, scopeClasses, refreshExecutor,
+                permissionCache));
         install(new SecurityAopModule(crudActionResolvers));
 
         if (elAvailable) {
-            install(new SecurityExpressionModule());
+            install(new SecurityExpressionModule(securityConfigurer.getSecurityConfiguration()
+                    .cache()
+                    .getExpressionsMaxSize()));
         }
 
         Module mainModuleToInstall = null;
@@ -10,6 +10,7 @@ package org.seedstack.seed.security.internal;
 import static org.seedstack.shed.misc.PriorityUtils.sortByPriority;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.nuun.kernel.api.plugin.InitState;
 import io.nuun.kernel.api.plugin.context.InitContext;
 import io.nuun.kernel.api.plugin.request.ClasspathScanRequest;
@@ -20,15 +21,22 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.seedstack.seed.SeedException;
+import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.core.internal.AbstractSeedPlugin;
 import org.seedstack.seed.core.internal.el.ELPlugin;
+import org.seedstack.seed.diagnostic.DiagnosticManager;
 import org.seedstack.seed.security.PrincipalCustomizer;
 import org.seedstack.seed.security.Realm;
 import org.seedstack.seed.security.RoleMapping;
 import org.seedstack.seed.security.RolePermissionResolver;
 import org.seedstack.seed.security.Scope;
 import org.seedstack.seed.security.SecurityConfig;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
 import org.seedstack.seed.security.spi.CrudActionResolver;
 import org.seedstack.seed.security.spi.SecurityScope;
 import org.seedstack.shed.misc.PriorityUtils;
@@ -45,12 +53,20 @@ public class SecurityPlugin extends AbstractSeedPlugin {
     private final Set<SecurityProvider> securityProviders = new HashSet<>();
     private final List<Class<? extends CrudActionResolver>> crudActionResolvers = new ArrayList<>();
     private SecurityConfigurer securityConfigurer;
+    private DiagnosticManager diagnosticManager;
+    private ExecutorService refreshExecutor;
+    private PermissionCache permissionCache;
 
     @Override
     public String name() {
         return "security";
     }
 
+    @Override
+    protected void setup(SeedRuntime seedRuntime) {
+        diagnosticManager = seedRuntime.getDiagnosticManager();
+    }
+
     @Override
     public Collection<Class<?>> dependencies() {
         return Lists.newArrayList(SecurityProvider.class);
@@ -84,9 +100,32 @@ public class SecurityPlugin extends AbstractSeedPlugin {
                 (Collection) scannedClasses.get(PrincipalCustomizer.class)
         );
 
+        SecurityConfig.CacheConfig cacheConfig = securityConfig.cache();
+        if (cacheConfig.isEnabled() && cacheConfig.authorization().getRefreshAfter() > 0) {
+            int refreshThreads = Math.max(1, cacheConfig.getRefreshThreads());
+            // No more than one pending load per cached entry is useful: further loads are rejected, keeping the
+            // previous authorization info until the next refresh
+            refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, cacheConfig.authorization().getMaxSize())),
+                    new ThreadFactoryBuilder().setNameFormat("seed-authorization-refresh-%d").setDaemon(true).build());
+        }
+
+        permissionCache = new PermissionCache(cacheConfig.getPermissionsMaxSize());
+        if (diagnosticManager != null) {
+            diagnosticManager.registerDiagnosticInfoCollector("security-permissions", permissionCache);
+        }
+
         return InitState.INITIALIZED;
     }
 
+    @Override
+    public void stop() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void configureCrudActionResolvers(Collection<Class<?>> candidates) {
         if (candidates != null) {
@@ -147,6 +186,8 @@ public class SecurityPlugin extends AbstractSeedPlugin {
                 scopeClasses,
                 ELPlugin.isFunctionMappingAvailable(),
                 securityProviders,
-                crudActionResolvers);
+                crudActionResolvers,
+                refreshExecutor,
+                permissionCache);
     }
 }
@@ -7,6 +7,13 @@
  */
 package org.seedstack.seed.security.internal;
 
+import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.RemovalCause;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.shiro.authc.AuthenticationException;
 import org.apache.shiro.authc.AuthenticationInfo;
@@ -17,12 +24,16 @@ import org.apache.shiro.authc.UnknownAccountException;
 import org.apache.shiro.authc.UsernamePasswordToken;
 import org.apache.shiro.authc.pam.UnsupportedTokenException;
 import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.permission.WildcardPermission;
 import org.apache.shiro.realm.AuthorizingRealm;
 import org.apache.shiro.subject.PrincipalCollection;
 import org.apache.shiro.subject.SimplePrincipalCollection;
 import org.seedstack.seed.security.PrincipalCustomizer;
 import org.seedstack.seed.security.Realm;
 import org.seedstack.seed.security.Role;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
+import org.seedstack.seed.security.internal.authorization.ScopePermission;
 import org.seedstack.seed.security.internal.authorization.SeedAuthorizationInfo;
 import org.seedstack.seed.security.internal.realms.AuthenticationTokenWrapper;
 import org.seedstack.seed.security.principals.PrincipalProvider;
@@ -34,23 +45,70 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @SuppressFBWarnings(value = "UWF_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR", justification = "Field cannot be set in constructor due to injection")
 class ShiroRealmAdapter extends AuthorizingRealm {
     private static final Logger LOGGER = LoggerFactory.getLogger(ShiroRealmAdapter.class);
     private Realm realm;
+    private Executor refreshExecutor;
+    private LoadingCache<Object, AuthorizationInfo> refreshingAuthorizationCache;
+    private final ConcurrentMap<Object, PrincipalCollection> latestPrincipals = new ConcurrentHashMap<>();
+    private PermissionCache permissionCache;
     @Inject
     private Set<PrincipalCustomizer> principalCustomizers;
 
+    @Inject
+    void setPermissionCache(PermissionCache permissionCache) {
+        this.permissionCache = permissionCache;
+        setPermissionResolver(permissionCache::get);
+    }
+
     @Override
     public AuthorizationInfo getAuthorizationInfo(PrincipalCollection principals) {
+        if (principals != null && refreshingAuthorizationCache != null && isAuthorizationCachingEnabled()) {
+            try {
+                // Concurrent loads for the same principals are coalesced and the previous value is served while
+                // refreshing
+                return getRefreshingAuthorizationInfo(principals);
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new UncheckedExecutionException(e.getCause());
+            }
+        }
         return super.getAuthorizationInfo(principals);
     }
 
+    @Override
+    protected void clearCachedAuthorizationInfo(PrincipalCollection principals) {
+        super.clearCachedAuthorizationInfo(principals);
+        if (principals != null && refreshingAuthorizationCache != null) {
+            refreshingAuthorizationCache.invalidate(getRefreshingAuthorizationCacheKey(principals));
+        }
+    }
+
+    @Override
+    protected boolean isPermitted(Permission permission, AuthorizationInfo info) {
+        // Seed authorization info checks permissions against its compiled index
+        if (info instanceof SeedAuthorizationInfo && getRolePermissionResolver() == null) {
+            if (permission instanceof ScopePermission) {
+                return ((SeedAuthorizationInfo) info).implies((ScopePermission) permission);
+            } else if (permission instanceof WildcardPermission) {
+                return ((SeedAuthorizationInfo) info).implies((WildcardPermission) permission);
+            }
+        }
+        return super.isPermitted(permission, info);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected AuthorizationInfo doGetAuthorizationInfo(PrincipalCollection principals) {
-        SeedAuthorizationInfo authzInfo = new SeedAuthorizationInfo();
+        SeedAuthorizationInfo authzInfo = new SeedAuthorizationInfo(permissionCache);
         PrincipalProvider<?> idPrincipal = (PrincipalProvider<?>) principals.getPrimaryPrincipal();
         Collection<PrincipalProvider<?>> principalProviders = new ArrayList<>();
         principalProviders.add(idPrincipal);
@@ -114,6 +172,7 @@ class ShiroRealmAdapter extends AuthorizingRealm {
             }
         }
         authcInfo.setPrincipals(principals);
+        warmUpAuthorizationInfo(principals);
         return authcInfo;
     }
 
@@ -176,6 +235,94 @@ class ShiroRealmAdapter extends AuthorizingRealm {
         this.setName(realm.name());
     }
 
+    /**
+     * Enables refresh-ahead caching of authorization information, which then bypasses the authorization cache of the
+     * cache manager.
+     *
+     * @param maxSize      the maximum number of entries.
+     * @param refreshAfter the number of seconds after which an entry is refreshed in the background.
+     * @param expireAfter  the number of seconds after which an entry expires, 0 for no expiration.
+     * @param executor     the executor used to load and refresh entries in the background.
+     */
+    void enableAuthorizationRefresh(int maxSize, int refreshAfter, int expireAfter, Executor executor) {
+        enableAuthorizationRefresh(maxSize, refreshAfter, expireAfter, executor, Ticker.systemTicker());
+    }
+
+    void enableAuthorizationRefresh(int maxSize, int refreshAfter, int expireAfter, Executor executor,
+            Ticker ticker) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder()
+                .ticker(ticker)
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter, TimeUnit.SECONDS);
+        if (expireAfter > 0) {
+            cacheBuilder.expireAfterWrite(expireAfter, TimeUnit.SECONDS);
+        }
+        this.refreshExecutor = executor;
+        this.latestPrincipals.clear();
+        this.refreshingAuthorizationCache = cacheBuilder
+                .removalListener(notification -> {
+                    if (notification.getCause() != RemovalCause.REPLACED) {
+                        latestPrincipals.remove(notification.getKey());
+                    }
+                })
+                .build(CacheLoader.asyncReloading(CacheLoader.from(this::reloadAuthorizationInfo), executor));
+    }
+
+    /**
+     * Returns the key of the refresh-ahead authorization cache. Principal providers don't implement equality, so
+     * entries are identified by the value of the principal of this realm, like in the authentication cache. It is the
+     * same in the principals given at authentication and in the subject principals, which aggregate the principals of
+     * all realms.
+     */
+    private Object getRefreshingAuthorizationCacheKey(PrincipalCollection principals) {
+        Object key = getAuthenticationCacheKey(principals);
+        return key != null ? key : principals;
+    }
+
+    private AuthorizationInfo getRefreshingAuthorizationInfo(PrincipalCollection principals)
+            throws ExecutionException {
+        Object key = getRefreshingAuthorizationCacheKey(principals);
+        // Background refreshes use the principals of the latest lookup, not the ones of the initial load
+        latestPrincipals.put(key, principals);
+        AuthorizationInfo authorizationInfo = refreshingAuthorizationCache.getIfPresent(key);
+        if (authorizationInfo != null) {
+            return authorizationInfo;
+        }
+        return refreshingAuthorizationCache.get(key, () -> doGetAuthorizationInfo(principals));
+    }
+
+    private AuthorizationInfo reloadAuthorizationInfo(Object key) {
+        PrincipalCollection principals = latestPrincipals.get(key);
+        if (principals == null) {
+            // The entry was evicted meanwhile, the refresh fails and the previous value is kept until the next lookup
+            throw new IllegalStateException("No principals to refresh the authorization info of " + key);
+        }
+        return doGetAuthorizationInfo(principals);
+    }
+
+    private void warmUpAuthorizationInfo(PrincipalCollection principals) {
+        if (refreshingAuthorizationCache != null && isAuthorizationCachingEnabled()) {
+            Object key = getRefreshingAuthorizationCacheKey(principals);
+            latestPrincipals.put(key, principals);
+            if (refreshingAuthorizationCache.getIfPresent(key) != null) {
+                // Already loaded and refreshed in the background with these principals when accessed
+                return;
+            }
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        getRefreshingAuthorizationInfo(principals);
+                    } catch (ExecutionException | RuntimeException e) {
+                        LOGGER.debug("Unable to warm up authorization info of {}", principals.getPrimaryPrincipal(),
+                                e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Authorization info warm up of {} rejected", principals.getPrimaryPrincipal(), e);
+            }
+        }
+    }
+
     private org.seedstack.seed.security.AuthenticationToken convertToken(AuthenticationToken token) {
         if (token instanceof org.seedstack.seed.security.AuthenticationToken) {
             return (org.seedstack.seed.security.AuthenticationToken) token;
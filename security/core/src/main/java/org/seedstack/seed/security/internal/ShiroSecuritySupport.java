@@ -9,13 +9,17 @@ package org.seedstack.seed.security.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import javax.inject.Inject;
 import org.apache.shiro.SecurityUtils;
 import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.Authorizer;
 import org.apache.shiro.mgt.SecurityManager;
 import org.apache.shiro.realm.Realm;
 import org.apache.shiro.session.Session;
@@ -29,6 +33,8 @@ import org.seedstack.seed.security.Role;
 import org.seedstack.seed.security.Scope;
 import org.seedstack.seed.security.SecuritySupport;
 import org.seedstack.seed.security.SimpleScope;
+import org.seedstack.seed.security.internal.authorization.IndexableWildcardPermission;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
 import org.seedstack.seed.security.internal.authorization.ScopePermission;
 import org.seedstack.seed.security.internal.authorization.SeedAuthorizationInfo;
 import org.seedstack.seed.security.internal.realms.AuthenticationTokenWrapper;
@@ -41,6 +47,8 @@ class ShiroSecuritySupport implements SecuritySupport {
     private Set<Realm> realms;
     @Inject
     private SecurityManager securityManager;
+    @Inject
+    private PermissionCache permissionCache;
 
     @Override
     public PrincipalProvider<?> getIdentityPrincipal() {
@@ -106,11 +114,42 @@ class ShiroSecuritySupport implements SecuritySupport {
         if (scopes == null || scopes.length == 0) {
             return isPermitted(permission);
         }
-        boolean isPermitted = true;
-        for (Scope scope : scopes) {
-            isPermitted = isPermitted && SecurityUtils.getSubject().isPermitted(new ScopePermission(permission, scope));
+        return getPermissionEvaluator().isPermittedOnAll(permissionCache.get(permission), scopes);
+    }
+
+    @Override
+    public BitSet isPermitted(List<String> permissions, List<? extends Scope> scopes) {
+        PermissionEvaluator permissionEvaluator = getPermissionEvaluator();
+        int columns = scopes.isEmpty() ? 1 : scopes.size();
+        BitSet result = new BitSet(permissions.size() * columns);
+        for (int i = 0; i < permissions.size(); i++) {
+            IndexableWildcardPermission permission = permissionCache.get(permissions.get(i));
+            if (scopes.isEmpty()) {
+                result.set(i, permissionEvaluator.isPermitted(permission));
+            } else {
+                for (int j = 0; j < columns; j++) {
+                    result.set(i * columns + j, permissionEvaluator.isPermitted(permission, scopes.get(j)));
+                }
+            }
         }
-        return isPermitted;
+        return result;
+    }
+
+    @Override
+    public <T> List<T> filterPermitted(Collection<T> items, String permission,
+            Function<? super T, ? extends Scope> scopeFunction) {
+        PermissionEvaluator permissionEvaluator = getPermissionEvaluator();
+        IndexableWildcardPermission wildcardPermission = permissionCache.get(permission);
+        List<T> permittedItems = new ArrayList<>();
+        for (T item : items) {
+            Scope scope = scopeFunction.apply(item);
+            // items without scope are checked against the unscoped permission
+            if (scope == null ? permissionEvaluator.isPermitted(wildcardPermission)
+                    : permissionEvaluator.isPermitted(wildcardPermission, scope)) {
+                permittedItems.add(item);
+            }
+        }
+        return permittedItems;
     }
 
     @Override
@@ -247,6 +286,26 @@ class ShiroSecuritySupport implements SecuritySupport {
         SecurityUtils.getSubject().logout();
     }
 
+    private PermissionEvaluator getPermissionEvaluator() {
+        PrincipalCollection principals = SecurityUtils.getSubject().getPrincipals();
+        List<SeedAuthorizationInfo> authorizationInfos = new ArrayList<>();
+        List<Authorizer> otherAuthorizers = new ArrayList<>();
+        if (principals != null && !principals.isEmpty()) {
+            for (Realm realm : realms) {
+                if (realm instanceof ShiroRealmAdapter
+                        && ((ShiroRealmAdapter) realm).getRolePermissionResolver() == null) {
+                    AuthorizationInfo authorizationInfo = ((ShiroRealmAdapter) realm).getAuthorizationInfo(principals);
+                    if (authorizationInfo instanceof SeedAuthorizationInfo) {
+                        authorizationInfos.add((SeedAuthorizationInfo) authorizationInfo);
+                    }
+                } else if (realm instanceof Authorizer) {
+                    otherAuthorizers.add((Authorizer) realm);
+                }
+            }
+        }
+        return new PermissionEvaluator(principals, authorizationInfos, otherAuthorizers);
+    }
+
     private SeedAuthorizationInfo getAuthorizationInfo(Realm realm) {
         SeedAuthorizationInfo authzInfo = null;
         if (realm instanceof ShiroRealmAdapter) {
@@ -289,4 +348,60 @@ class ShiroSecuritySupport implements SecuritySupport {
         return s.getHost();
     }
 
+    /**
+     * Evaluates permissions of the current subject against authorization infos resolved once, giving the same
+     * answers than the subject would. A permission is granted if at least one realm grants it.
+     */
+    private static class PermissionEvaluator {
+        private final PrincipalCollection principals;
+        private final List<SeedAuthorizationInfo> authorizationInfos;
+        private final List<Authorizer> otherAuthorizers;
+
+        private PermissionEvaluator(PrincipalCollection principals, List<SeedAuthorizationInfo> authorizationInfos,
+                List<Authorizer> otherAuthorizers) {
+            this.principals = principals;
+            this.authorizationInfos = authorizationInfos;
+            this.otherAuthorizers = otherAuthorizers;
+        }
+
+        private boolean isPermitted(IndexableWildcardPermission permission) {
+            for (SeedAuthorizationInfo authorizationInfo : authorizationInfos) {
+                if (authorizationInfo.implies(permission)) {
+                    return true;
+                }
+            }
+            for (Authorizer authorizer : otherAuthorizers) {
+                if (authorizer.isPermitted(principals, permission)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isPermitted(IndexableWildcardPermission permission, Scope scope) {
+            for (SeedAuthorizationInfo authorizationInfo : authorizationInfos) {
+                if (authorizationInfo.implies(permission, scope)) {
+                    return true;
+                }
+            }
+            if (!otherAuthorizers.isEmpty()) {
+                ScopePermission scopePermission = new ScopePermission(permission.toString(), scope);
+                for (Authorizer authorizer : otherAuthorizers) {
+                    if (authorizer.isPermitted(principals, scopePermission)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean isPermittedOnAll(IndexableWildcardPermission permission, Scope... scopes) {
+            for (Scope scope : scopes) {
+                if (!isPermitted(permission, scope)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
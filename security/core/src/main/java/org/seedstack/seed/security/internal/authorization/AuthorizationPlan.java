@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import java.util.Arrays;
+import org.seedstack.seed.security.Logical;
+
+/**
+ * Immutable authorization plan of an intercepted method, holding the roles or permissions to check and the logical
+ * operation to combine them with. Plans are resolved once per method and reused by all subsequent invocations.
+ */
+class AuthorizationPlan {
+    static final AuthorizationPlan NONE = new AuthorizationPlan(new String[0], Logical.AND);
+    private final String[] values;
+    private final Logical logical;
+
+    AuthorizationPlan(String[] values, Logical logical) {
+        this.values = values.clone();
+        this.logical = logical;
+    }
+
+    /**
+     * @return the roles or permissions to check. The returned array is shared and must not be modified.
+     */
+    String[] getValues() {
+        return values;
+    }
+
+    Logical getLogical() {
+        return logical;
+    }
+
+    @Override
+    public String toString() {
+        return logical + Arrays.toString(values);
+    }
+}
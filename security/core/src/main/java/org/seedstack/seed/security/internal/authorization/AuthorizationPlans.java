@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import org.aopalliance.intercept.MethodInvocation;
+import org.seedstack.seed.core.internal.guice.ProxyUtils;
+
+/**
+ * Resolves and caches the {@link AuthorizationPlan} of intercepted methods from their authorization annotation, or
+ * from the annotation of the target class when the method itself is not annotated. Since a method inherited by several
+ * classes can be subject to different class-level annotations, plans resolved from a class annotation are cached per
+ * target class.
+ *
+ * @param <A> the type of the authorization annotation.
+ */
+class AuthorizationPlans<A extends Annotation> {
+    private static final AuthorizationPlan FROM_CLASS = new AuthorizationPlan(new String[0], null);
+    private final Class<A> annotationClass;
+    private final BiFunction<Method, A, AuthorizationPlan> planFactory;
+    private final ConcurrentMap<Method, AuthorizationPlan> methodPlans = new ConcurrentHashMap<>();
+    private final ClassValue<ConcurrentMap<Method, AuthorizationPlan>> classPlans =
+            new ClassValue<ConcurrentMap<Method, AuthorizationPlan>>() {
+                @Override
+                protected ConcurrentMap<Method, AuthorizationPlan> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    AuthorizationPlans(Class<A> annotationClass, BiFunction<Method, A, AuthorizationPlan> planFactory) {
+        this.annotationClass = annotationClass;
+        this.planFactory = planFactory;
+    }
+
+    /**
+     * Returns the authorization plan of the intercepted method, resolving it on first invocation.
+     *
+     * @param invocation the method invocation.
+     * @return the authorization plan, {@link AuthorizationPlan#NONE} if no annotation applies.
+     */
+    AuthorizationPlan get(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        AuthorizationPlan plan = methodPlans.get(method);
+        if (plan == null) {
+            plan = methodPlans.computeIfAbsent(method, this::createMethodPlan);
+        }
+        if (plan == FROM_CLASS) {
+            Class<?> targetClass = invocation.getThis().getClass();
+            ConcurrentMap<Method, AuthorizationPlan> plans = classPlans.get(targetClass);
+            plan = plans.get(method);
+            if (plan == null) {
+                plan = plans.computeIfAbsent(method, m -> createClassPlan(m, targetClass));
+            }
+        }
+        return plan;
+    }
+
+    private AuthorizationPlan createMethodPlan(Method method) {
+        A annotation = method.getAnnotation(annotationClass);
+        if (annotation == null) {
+            return FROM_CLASS;
+        } else {
+            return planFactory.apply(method, annotation);
+        }
+    }
+
+    private AuthorizationPlan createClassPlan(Method method, Class<?> targetClass) {
+        A annotation = ProxyUtils.cleanProxy(targetClass).getAnnotation(annotationClass);
+        if (annotation == null) {
+            return AuthorizationPlan.NONE;
+        } else {
+            return planFactory.apply(method, annotation);
+        }
+    }
+}
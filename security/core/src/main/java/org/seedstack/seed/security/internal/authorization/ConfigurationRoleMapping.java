@@ -11,11 +11,14 @@ import static org.seedstack.shed.reflect.ReflectUtils.makeAccessible;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import javax.inject.Inject;
 import org.seedstack.seed.SeedException;
 import org.seedstack.seed.security.Role;
@@ -54,12 +57,17 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Means that subjects having the ADMIN.FR role from the realm(s) (like an LDAP directory) will be given the titi
  * local role within the FR scope only.
+ * <p>
+ * Scoped mappings are compiled once when the configuration is read and indexed by their literal prefix, so resolving
+ * roles doesn't involve any pattern compilation or reflective lookup and each auth is only matched against the
+ * mappings whose prefix it starts with.
  */
 public class ConfigurationRoleMapping implements RoleMapping {
     private final static String GLOBAL_WILDCARD = "*";
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationRoleMapping.class);
     private final Map<String, Set<String>> map = new HashMap<>();
     private final Set<String> everybodyRoles = new HashSet<>();
+    private final ScopedMappingIndex scopedMappings = new ScopedMappingIndex();
 
     @Inject
     private Map<String, Class<? extends Scope>> scopeClasses;
@@ -79,30 +87,12 @@ public class ConfigurationRoleMapping implements RoleMapping {
                 }
             } else {
                 // maybe a scoped auth
-                for (Map.Entry<String, Class<? extends Scope>> scopeClass : scopeClasses.entrySet()) {
-                    for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
-                        String mapKey = entry.getKey();
-                        String wildcard = String.format("{%s}", scopeClass.getKey());
-
-                        if (mapKey.contains(wildcard) && auth.matches(convertToRegex(mapKey, wildcard))) {
-                            String scopeValue = findScope(wildcard, mapKey, auth);
-
-                            for (String foundRoleName : entry.getValue()) {
-                                Scope scope;
-
-                                try {
-                                    Constructor<? extends Scope> constructor = scopeClass.getValue().getConstructor(
-                                            String.class);
-                                    makeAccessible(constructor);
-                                    scope = constructor.newInstance(scopeValue);
-                                } catch (IllegalAccessException | InstantiationException | InvocationTargetException
-                                        | NoSuchMethodException e) {
-                                    throw SeedException.wrap(e, SecurityErrorCode.UNABLE_TO_CREATE_SCOPE).put(
-                                            "scopeName", scopeClass.getValue().getName());
-                                }
-
-                                getOrCreateRoleInMap(foundRoleName, roleMap).getScopes().add(scope);
-                            }
+                for (ScopedMapping scopedMapping : scopedMappings.candidates(auth)) {
+                    if (scopedMapping.matches(auth)) {
+                        String scopeValue = findScope(scopedMapping.wildcard, scopedMapping.mapKey, auth);
+                        for (String foundRoleName : scopedMapping.roles) {
+                            getOrCreateRoleInMap(foundRoleName, roleMap).getScopes()
+                                    .add(scopedMapping.createScope(scopeValue));
                         }
                     }
                 }
@@ -146,6 +136,40 @@ public class ConfigurationRoleMapping implements RoleMapping {
                 }
             }
         }
+
+        compileScopedMappings();
+    }
+
+    private void compileScopedMappings() {
+        scopedMappings.clear();
+        for (Map.Entry<String, Class<? extends Scope>> scopeClass : scopeClasses.entrySet()) {
+            String wildcard = String.format("{%s}", scopeClass.getKey());
+            Constructor<? extends Scope> constructor = null;
+            for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
+                String mapKey = entry.getKey();
+                if (mapKey.contains(wildcard)) {
+                    if (constructor == null) {
+                        constructor = getScopeConstructor(scopeClass.getValue());
+                    }
+                    scopedMappings.add(new ScopedMapping(mapKey,
+                            wildcard,
+                            Pattern.compile(convertToRegex(mapKey, wildcard)),
+                            constructor,
+                            entry.getValue()));
+                }
+            }
+        }
+    }
+
+    private Constructor<? extends Scope> getScopeConstructor(Class<? extends Scope> scopeClass) {
+        try {
+            Constructor<? extends Scope> constructor = scopeClass.getConstructor(String.class);
+            makeAccessible(constructor);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw SeedException.wrap(e, SecurityErrorCode.UNABLE_TO_CREATE_SCOPE).put(
+                    "scopeName", scopeClass.getName());
+        }
     }
 
     /**
@@ -206,4 +230,74 @@ public class ConfigurationRoleMapping implements RoleMapping {
         }
         return result;
     }
+
+    /**
+     * A trie of scoped mappings keyed by the characters of their literal prefix. The candidates of an auth are found by
+     * walking its characters, regardless of the number of mappings.
+     */
+    private static class ScopedMappingIndex {
+        private final Map<Character, ScopedMappingIndex> children = new HashMap<>();
+        private final List<ScopedMapping> mappings = new ArrayList<>();
+
+        private void add(ScopedMapping scopedMapping) {
+            ScopedMappingIndex node = this;
+            for (char c : scopedMapping.prefix.toCharArray()) {
+                node = node.children.computeIfAbsent(c, key -> new ScopedMappingIndex());
+            }
+            node.mappings.add(scopedMapping);
+        }
+
+        private List<ScopedMapping> candidates(String auth) {
+            List<ScopedMapping> candidates = new ArrayList<>(mappings);
+            ScopedMappingIndex node = this;
+            for (int i = 0; i < auth.length() && node != null; i++) {
+                node = node.children.get(auth.charAt(i));
+                if (node != null) {
+                    candidates.addAll(node.mappings);
+                }
+            }
+            return candidates;
+        }
+
+        private void clear() {
+            children.clear();
+            mappings.clear();
+        }
+    }
+
+    /**
+     * A mapping containing a scope wildcard, compiled with the constructor of its scope.
+     */
+    private static class ScopedMapping {
+        private final String mapKey;
+        private final String wildcard;
+        private final String prefix;
+        private final Pattern pattern;
+        private final Constructor<? extends Scope> scopeConstructor;
+        private final Set<String> roles;
+
+        private ScopedMapping(String mapKey, String wildcard, Pattern pattern,
+                Constructor<? extends Scope> scopeConstructor, Set<String> roles) {
+            this.mapKey = mapKey;
+            this.wildcard = wildcard;
+            this.prefix = mapKey.substring(0, mapKey.indexOf(wildcard));
+            this.pattern = pattern;
+            this.scopeConstructor = scopeConstructor;
+            this.roles = roles;
+        }
+
+        private boolean matches(String auth) {
+            // the literal prefix is already matched by the index
+            return pattern.matcher(auth).matches();
+        }
+
+        private Scope createScope(String scopeValue) {
+            try {
+                return scopeConstructor.newInstance(scopeValue);
+            } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+                throw SeedException.wrap(e, SecurityErrorCode.UNABLE_TO_CREATE_SCOPE).put(
+                        "scopeName", scopeConstructor.getDeclaringClass().getName());
+            }
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.apache.shiro.authz.permission.WildcardPermission;
+
+/**
+ * A {@link WildcardPermission} exposing its parts so it can be stored in and looked up from a {@link PermissionIndex}.
+ * It is otherwise strictly equivalent to a wildcard permission. Its parts cannot be modified, so it can be shared
+ * through a {@link PermissionCache}.
+ */
+public class IndexableWildcardPermission extends WildcardPermission {
+    private static final long serialVersionUID = 1L;
+    private final List<Set<String>> unmodifiableParts;
+
+    /**
+     * Creates the permission from its string representation.
+     *
+     * @param wildcardString the permission string.
+     */
+    public IndexableWildcardPermission(String wildcardString) {
+        super(wildcardString);
+        List<Set<String>> parts = new ArrayList<>();
+        for (Set<String> part : super.getParts()) {
+            parts.add(Collections.unmodifiableSet(part));
+        }
+        this.unmodifiableParts = Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * Converts any wildcard permission to an indexable one.
+     *
+     * @param wildcardPermission the wildcard permission.
+     * @return the equivalent indexable permission.
+     */
+    static IndexableWildcardPermission of(WildcardPermission wildcardPermission) {
+        if (wildcardPermission instanceof IndexableWildcardPermission) {
+            return (IndexableWildcardPermission) wildcardPermission;
+        } else {
+            return new IndexableWildcardPermission(wildcardPermission.toString());
+        }
+    }
+
+    @Override
+    protected List<Set<String>> getParts() {
+        return unmodifiableParts;
+    }
+
+    List<Set<String>> parts() {
+        return unmodifiableParts;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.HashMap;
+import java.util.Map;
+import org.seedstack.seed.diagnostic.spi.DiagnosticInfoCollector;
+
+/**
+ * Bounded interning cache of parsed permissions, shared by the permission checks of a kernel. Identical permission
+ * strings share the same parsed instance, whose parts cannot be modified, so permission checks don't have to split
+ * and allocate the permission parts each time.
+ */
+public class PermissionCache implements DiagnosticInfoCollector {
+    private final LoadingCache<String, IndexableWildcardPermission> cache;
+
+    /**
+     * Creates a permission cache.
+     *
+     * @param maximumSize the maximum number of parsed permissions kept.
+     */
+    public PermissionCache(int maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build(new CacheLoader<String, IndexableWildcardPermission>() {
+                    @Override
+                    public IndexableWildcardPermission load(String permission) {
+                        return new IndexableWildcardPermission(permission);
+                    }
+                });
+    }
+
+    /**
+     * Returns the parsed permission corresponding to the permission string.
+     *
+     * @param permission the permission string.
+     * @return the shared parsed permission.
+     */
+    public IndexableWildcardPermission get(String permission) {
+        try {
+            return cache.getUnchecked(permission);
+        } catch (UncheckedExecutionException e) {
+            // rethrow the parsing exception as if the permission was parsed directly
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+        CacheStats stats = cache.stats();
+        result.put("size", cache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("hitRate", stats.hitRate());
+        return result;
+    }
+}
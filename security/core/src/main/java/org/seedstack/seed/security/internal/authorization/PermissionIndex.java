@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.seedstack.seed.security.Scope;
+
+/**
+ * Compiled index of the permissions of an {@link SeedAuthorizationInfo}, giving the same answers than
+ * {@link IndexableWildcardPermission#implies(org.apache.shiro.authz.Permission)} and
+ * {@link ScopePermission#implies(org.apache.shiro.authz.Permission)} would by checking each granted permission.
+ * <p>
+ * Granted permissions are stored in tries keyed by permission parts, so checking a permission only walks as deep as
+ * the permission parts instead of evaluating every granted permission. Scoped permissions are additionally bucketed
+ * by scope. Granted parts listing several sub-parts without wildcard (like {@code "doc:read,write"}) cannot be keyed
+ * and are checked one by one.
+ * </p>
+ */
+class PermissionIndex {
+    private static final String WILDCARD_TOKEN = "*";
+    private final PermissionTrie unscopedPermissions = new PermissionTrie();
+    private final PermissionTrie anyScopePermissions = new PermissionTrie();
+    private final Map<Scope, PermissionTrie> scopedPermissions = new HashMap<>();
+
+    PermissionIndex(Collection<IndexableWildcardPermission> permissions, Set<ScopePermission> scopePermissions) {
+        for (IndexableWildcardPermission permission : permissions) {
+            unscopedPermissions.add(permission);
+        }
+        for (ScopePermission scopePermission : scopePermissions) {
+            IndexableWildcardPermission wildcardPermission = scopePermission.getWildcardPermission();
+            anyScopePermissions.add(wildcardPermission);
+            scopedPermissions.computeIfAbsent(scopePermission.getScope(), scope -> new PermissionTrie())
+                    .add(wildcardPermission);
+        }
+    }
+
+    /**
+     * Checks an unscoped permission. It is implied by unscoped permissions and by scoped permissions whatever their
+     * scope.
+     *
+     * @param permission the permission to check.
+     * @return true if the permission is implied by the indexed permissions.
+     */
+    boolean implies(IndexableWildcardPermission permission) {
+        return unscopedPermissions.implies(permission) || anyScopePermissions.implies(permission);
+    }
+
+    /**
+     * Checks a scoped permission. It is only implied by scoped permissions whose scope includes its scope.
+     *
+     * @param permission the scoped permission to check.
+     * @return true if the permission is implied by the indexed permissions.
+     */
+    boolean implies(ScopePermission permission) {
+        return implies(permission.getWildcardPermission(), permission.getScope());
+    }
+
+    /**
+     * Checks a permission on a scope. It is only implied by scoped permissions whose scope includes the scope.
+     *
+     * @param permission the permission to check.
+     * @param scope      the scope to check the permission on.
+     * @return true if the permission is implied by the indexed permissions.
+     */
+    boolean implies(IndexableWildcardPermission permission, Scope scope) {
+        for (Map.Entry<Scope, PermissionTrie> entry : scopedPermissions.entrySet()) {
+            if (entry.getKey().includes(scope) && entry.getValue().implies(permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class PermissionTrie {
+        private final Node root = new Node();
+        private final List<IndexableWildcardPermission> unindexedPermissions = new ArrayList<>();
+
+        void add(IndexableWildcardPermission permission) {
+            List<Set<String>> parts = permission.parts();
+            Node node = root;
+            for (Set<String> part : parts) {
+                if (part.contains(WILDCARD_TOKEN)) {
+                    if (node.wildcard == null) {
+                        node.wildcard = new Node();
+                    }
+                    node = node.wildcard;
+                } else if (part.size() == 1) {
+                    node = node.children.computeIfAbsent(part.iterator().next(), token -> new Node());
+                } else {
+                    unindexedPermissions.add(permission);
+                    return;
+                }
+            }
+            node.terminal = true;
+        }
+
+        boolean implies(IndexableWildcardPermission permission) {
+            if (root.implies(permission.parts(), 0)) {
+                return true;
+            }
+            for (IndexableWildcardPermission unindexedPermission : unindexedPermissions) {
+                if (unindexedPermission.implies(permission)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private boolean terminal;
+
+        boolean implies(List<Set<String>> parts, int index) {
+            if (terminal) {
+                // a granted permission with less parts implies all permissions below it
+                return true;
+            }
+            if (index == parts.size()) {
+                // remaining granted parts must all be wildcards
+                return wildcard != null && wildcard.implies(parts, index);
+            }
+            if (wildcard != null && wildcard.implies(parts, index + 1)) {
+                return true;
+            }
+            Set<String> part = parts.get(index);
+            if (part.size() == 1) {
+                Node child = children.get(part.iterator().next());
+                return child != null && child.implies(parts, index + 1);
+            }
+            return false;
+        }
+    }
+}
@@ -13,44 +13,39 @@ import java.util.Optional;
 import java.util.Set;
 import javax.inject.Inject;
 import org.aopalliance.intercept.MethodInvocation;
-import org.seedstack.seed.core.internal.guice.ProxyUtils;
 import org.seedstack.seed.security.AuthorizationException;
 import org.seedstack.seed.security.CrudAction;
 import org.seedstack.seed.security.RequiresCrudPermissions;
 import org.seedstack.seed.security.spi.CrudActionResolver;
 
 public class RequiresCrudPermissionsInterceptor extends AbstractPermissionsInterceptor {
+    private final AuthorizationPlans<RequiresCrudPermissions> authorizationPlans = new AuthorizationPlans<>(
+            RequiresCrudPermissions.class,
+            this::createAuthorizationPlan);
     @Inject
     private Set<CrudActionResolver> resolvers;
 
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        findAnnotation(invocation).ifPresent(rcpAnnotation -> {
-            CrudAction action = findVerb(invocation).<AuthorizationException>orElseThrow(() -> {
-                throw new AuthorizationException(
-                        "Unable to determine CRUD action on method " + invocation.getMethod().toString());
-            });
-            checkPermissions(
-                    invocation.getMethod(),
-                    Arrays.stream(rcpAnnotation.value())
-                            .map(permission -> String.format("%s:%s", permission, action.getVerb()))
-                            .toArray(String[]::new),
-                    rcpAnnotation.logical());
-        });
+        AuthorizationPlan authorizationPlan = authorizationPlans.get(invocation);
+        if (authorizationPlan != AuthorizationPlan.NONE) {
+            checkPermissions(invocation.getMethod(), authorizationPlan.getValues(), authorizationPlan.getLogical());
+        }
         return invocation.proceed();
     }
 
-    private Optional<RequiresCrudPermissions> findAnnotation(MethodInvocation invocation) {
-        RequiresCrudPermissions annotation = invocation.getMethod().getAnnotation(RequiresCrudPermissions.class);
-        if (annotation == null) {
-            annotation = ProxyUtils.cleanProxy(invocation.getThis().getClass()).getAnnotation(
-                    RequiresCrudPermissions.class);
-        }
-        return Optional.ofNullable(annotation);
+    private AuthorizationPlan createAuthorizationPlan(Method method, RequiresCrudPermissions rcpAnnotation) {
+        CrudAction action = findVerb(method).<AuthorizationException>orElseThrow(() -> {
+            throw new AuthorizationException("Unable to determine CRUD action on method " + method.toString());
+        });
+        return new AuthorizationPlan(
+                Arrays.stream(rcpAnnotation.value())
+                        .map(permission -> String.format("%s:%s", permission, action.getVerb()))
+                        .toArray(String[]::new),
+                rcpAnnotation.logical());
     }
 
-    private Optional<CrudAction> findVerb(MethodInvocation invocation) {
-        Method method = invocation.getMethod();
+    private Optional<CrudAction> findVerb(Method method) {
         // returns the result of the first resolver that gives a valid action
         return resolvers.stream()
                 .map(x -> x.resolve(method))
@@ -7,29 +7,23 @@
  */
 package org.seedstack.seed.security.internal.authorization;
 
-import java.util.Optional;
 import org.aopalliance.intercept.MethodInvocation;
-import org.seedstack.seed.core.internal.guice.ProxyUtils;
 import org.seedstack.seed.security.RequiresPermissions;
 
 /**
  * Interceptor for the annotation RequiresPermissions
  */
 public class RequiresPermissionsInterceptor extends AbstractPermissionsInterceptor {
+    private final AuthorizationPlans<RequiresPermissions> authorizationPlans = new AuthorizationPlans<>(
+            RequiresPermissions.class,
+            (method, annotation) -> new AuthorizationPlan(annotation.value(), annotation.logical()));
+
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        findAnnotation(invocation).ifPresent(rpAnnotation -> {
-            checkPermissions(invocation.getMethod(), rpAnnotation.value(), rpAnnotation.logical());
-        });
-        return invocation.proceed();
-    }
-
-    private Optional<RequiresPermissions> findAnnotation(MethodInvocation invocation) {
-        RequiresPermissions annotation = invocation.getMethod().getAnnotation(RequiresPermissions.class);
-        if (annotation == null) {
-            annotation = ProxyUtils.cleanProxy(invocation.getThis().getClass()).getAnnotation(
-                    RequiresPermissions.class);
+        AuthorizationPlan authorizationPlan = authorizationPlans.get(invocation);
+        if (authorizationPlan != AuthorizationPlan.NONE) {
+            checkPermissions(invocation.getMethod(), authorizationPlan.getValues(), authorizationPlan.getLogical());
         }
-        return Optional.ofNullable(annotation);
+        return invocation.proceed();
     }
 }
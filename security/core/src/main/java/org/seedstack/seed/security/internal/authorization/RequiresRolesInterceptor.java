@@ -8,10 +8,8 @@
 package org.seedstack.seed.security.internal.authorization;
 
 import java.util.Arrays;
-import java.util.Optional;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
-import org.seedstack.seed.core.internal.guice.ProxyUtils;
 import org.seedstack.seed.security.AuthorizationException;
 import org.seedstack.seed.security.Logical;
 import org.seedstack.seed.security.RequiresRoles;
@@ -20,18 +18,21 @@ import org.seedstack.seed.security.RequiresRoles;
  * Interceptor for annotation RequiresRoles
  */
 public class RequiresRolesInterceptor extends AbstractInterceptor implements MethodInterceptor {
+    private final AuthorizationPlans<RequiresRoles> authorizationPlans = new AuthorizationPlans<>(
+            RequiresRoles.class,
+            (method, annotation) -> new AuthorizationPlan(annotation.value(), annotation.logical()));
+
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        Optional<RequiresRoles> annotation = findAnnotation(invocation);
-        if (annotation.isPresent()) {
-            RequiresRoles rrAnnotation = annotation.get();
-            String[] roles = rrAnnotation.value();
+        AuthorizationPlan authorizationPlan = authorizationPlans.get(invocation);
+        if (authorizationPlan != AuthorizationPlan.NONE) {
+            String[] roles = authorizationPlan.getValues();
             if (roles.length == 1) {
                 checkRole(roles[0]);
             } else {
-                boolean isAllowed = hasRoles(roles, rrAnnotation.logical());
+                boolean isAllowed = hasRoles(roles, authorizationPlan.getLogical());
                 if (!isAllowed) {
-                    if (Logical.OR.equals(rrAnnotation.logical())) {
+                    if (Logical.OR.equals(authorizationPlan.getLogical())) {
                         throw new AuthorizationException(
                                 "User does not have any of the roles to access method " + invocation.getMethod()
                                         .toString());
@@ -43,12 +44,4 @@ public class RequiresRolesInterceptor extends AbstractInterceptor implements Met
         }
         return invocation.proceed();
     }
-
-    private Optional<RequiresRoles> findAnnotation(MethodInvocation invocation) {
-        RequiresRoles annotation = invocation.getMethod().getAnnotation(RequiresRoles.class);
-        if (annotation == null) {
-            annotation = ProxyUtils.cleanProxy(invocation.getThis().getClass()).getAnnotation(RequiresRoles.class);
-        }
-        return Optional.ofNullable(annotation);
-    }
 }
@@ -9,7 +9,6 @@ package org.seedstack.seed.security.internal.authorization;
 
 import java.io.Serializable;
 import org.apache.shiro.authz.Permission;
-import org.apache.shiro.authz.permission.WildcardPermission;
 import org.seedstack.seed.security.Scope;
 
 /**
@@ -17,7 +16,7 @@ import org.seedstack.seed.security.Scope;
  */
 public class ScopePermission implements Permission, Serializable {
     private static final long serialVersionUID = 1L;
-    private final WildcardPermission permission;
+    private final IndexableWildcardPermission permission;
     private final Scope scope;
 
     /**
@@ -26,8 +25,7 @@ public class ScopePermission implements Permission, Serializable {
      * @param permission the permission
      */
     public ScopePermission(String permission) {
-        this.permission = new WildcardPermission(permission);
-        this.scope = null;
+        this(new IndexableWildcardPermission(permission), null);
     }
 
     /**
@@ -37,7 +35,11 @@ public class ScopePermission implements Permission, Serializable {
      * @param scope      the scope
      */
     public ScopePermission(String permission, Scope scope) {
-        this.permission = new WildcardPermission(permission);
+        this(new IndexableWildcardPermission(permission), scope);
+    }
+
+    ScopePermission(IndexableWildcardPermission permission, Scope scope) {
+        this.permission = permission;
         this.scope = scope;
     }
 
@@ -60,6 +62,10 @@ public class ScopePermission implements Permission, Serializable {
         return permission.toString();
     }
 
+    IndexableWildcardPermission getWildcardPermission() {
+        return permission;
+    }
+
     /**
      * Getter scopes
      *
@@ -9,12 +9,15 @@ package org.seedstack.seed.security.internal.authorization;
 
 import org.apache.shiro.authz.AuthorizationInfo;
 import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.permission.WildcardPermission;
 import org.seedstack.seed.security.Role;
 import org.seedstack.seed.security.Scope;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -26,6 +29,24 @@ public class SeedAuthorizationInfo implements AuthorizationInfo {
     private final Set<String> roles = new HashSet<>();
     private final Set<String> stringPermissions = new HashSet<>();
     private final Set<ScopePermission> scopePermissions = new HashSet<>();
+    private final transient PermissionCache permissionCache;
+    private transient volatile PermissionIndex permissionIndex;
+
+    /**
+     * Creates an authorization info parsing its permissions without cache.
+     */
+    public SeedAuthorizationInfo() {
+        this(null);
+    }
+
+    /**
+     * Creates an authorization info parsing its permissions through the specified cache.
+     *
+     * @param permissionCache the cache of parsed permissions or null to parse permissions without cache.
+     */
+    public SeedAuthorizationInfo(PermissionCache permissionCache) {
+        this.permissionCache = permissionCache;
+    }
 
     @Override
     public Collection<String> getRoles() {
@@ -60,13 +81,14 @@ public class SeedAuthorizationInfo implements AuthorizationInfo {
         for (org.seedstack.seed.security.Permission permission : role.getPermissions()) {
             if (!role.getScopes().isEmpty()) {
                 for (Scope scope : role.getScopes()) {
-                    ScopePermission sp = new ScopePermission(permission.getPermission(), scope);
+                    ScopePermission sp = new ScopePermission(parse(permission.getPermission()), scope);
                     scopePermissions.add(sp);
                 }
             } else {
                 stringPermissions.add(permission.getPermission());
             }
         }
+        permissionIndex = null;
     }
 
     /**
@@ -76,5 +98,60 @@ public class SeedAuthorizationInfo implements AuthorizationInfo {
      */
     public void addPermission(String permission) {
         stringPermissions.add(permission);
+        permissionIndex = null;
+    }
+
+    /**
+     * Checks if an unscoped permission is implied by the permissions of this authorization info. The permissions are
+     * compiled into an index on first check.
+     *
+     * @param permission the permission to check.
+     * @return true if the permission is implied, false otherwise.
+     */
+    public boolean implies(WildcardPermission permission) {
+        return getPermissionIndex().implies(IndexableWildcardPermission.of(permission));
+    }
+
+    /**
+     * Checks if a scoped permission is implied by the permissions of this authorization info. The permissions are
+     * compiled into an index on first check.
+     *
+     * @param permission the scoped permission to check.
+     * @return true if the permission is implied, false otherwise.
+     */
+    public boolean implies(ScopePermission permission) {
+        return getPermissionIndex().implies(permission);
+    }
+
+    /**
+     * Checks if a permission is implied on the specified scope by the permissions of this authorization info. This is
+     * equivalent to checking a {@link ScopePermission} without having to create one.
+     *
+     * @param permission the permission to check.
+     * @param scope      the scope to check the permission on.
+     * @return true if the permission is implied, false otherwise.
+     */
+    public boolean implies(WildcardPermission permission, Scope scope) {
+        return getPermissionIndex().implies(IndexableWildcardPermission.of(permission), scope);
+    }
+
+    private PermissionIndex getPermissionIndex() {
+        PermissionIndex index = permissionIndex;
+        if (index == null) {
+            List<IndexableWildcardPermission> permissions = new ArrayList<>(stringPermissions.size());
+            for (String stringPermission : stringPermissions) {
+                permissions.add(parse(stringPermission));
+            }
+            permissionIndex = index = new PermissionIndex(permissions, scopePermissions);
+        }
+        return index;
+    }
+
+    private IndexableWildcardPermission parse(String permission) {
+        if (permissionCache != null) {
+            return permissionCache.get(permission);
+        } else {
+            return new IndexableWildcardPermission(permission);
+        }
     }
 }
@@ -7,6 +7,9 @@
  */
 package org.seedstack.seed.security.internal.realms;
 
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.crypto.Hash;
+import org.seedstack.seed.crypto.HashingService;
 import org.seedstack.seed.security.AuthenticationException;
 import org.seedstack.seed.security.AuthenticationInfo;
 import org.seedstack.seed.security.AuthenticationToken;
@@ -18,26 +21,40 @@ import org.seedstack.seed.security.SecurityConfig;
 import org.seedstack.seed.security.UnknownAccountException;
 import org.seedstack.seed.security.UnsupportedTokenException;
 import org.seedstack.seed.security.UsernamePasswordToken;
+import org.seedstack.seed.security.internal.SecurityErrorCode;
 import org.seedstack.seed.security.principals.PrincipalProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Objects.requireNonNull;
 
 /**
- * A realm that authenticate users and gives authorities using SeedStack configuration.
+ * A realm that authenticate users and gives authorities using SeedStack configuration. Users are indexed by name and
+ * passwords are compared in constant time. Passwords can be specified in plain text or as hashes produced by the
+ * {@link HashingService}.
  */
 public class ConfigurationRealm implements Realm {
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationRealm.class);
-    private final Set<ConfigurationUser> users = new HashSet<>();
+    private final Map<String, ConfigurationUser> users = new HashMap<>();
     private final RoleMapping roleMapping;
     private final RolePermissionResolver rolePermissionResolver;
+    @Inject
+    private HashingService hashingService;
 
     @Inject
     protected ConfigurationRealm(@Named("ConfigurationRealm-role-mapping") RoleMapping roleMapping,
@@ -50,7 +67,7 @@ public class ConfigurationRealm implements Realm {
         } else {
             for (Map.Entry<String, SecurityConfig.UserConfig> entry : securityConfig.getUsers().entrySet()) {
                 SecurityConfig.UserConfig userConfig = entry.getValue();
-                users.add(new ConfigurationUser(entry.getKey(), userConfig.getPassword(), userConfig.getRoles()));
+                users.put(entry.getKey(), new ConfigurationUser(entry.getKey(), userConfig));
             }
         }
     }
@@ -58,7 +75,7 @@ public class ConfigurationRealm implements Realm {
     @Override
     public Set<String> getRealmRoles(PrincipalProvider<?> identityPrincipal,
                                      Collection<PrincipalProvider<?>> otherPrincipals) {
-        ConfigurationUser user = findUser(identityPrincipal.get().toString());
+        ConfigurationUser user = users.get(identityPrincipal.get().toString());
         if (user != null) {
             return user.roles;
         }
@@ -69,14 +86,15 @@ public class ConfigurationRealm implements Realm {
     public AuthenticationInfo getAuthenticationInfo(AuthenticationToken token) throws AuthenticationException {
         if (token instanceof UsernamePasswordToken) {
             UsernamePasswordToken userNamePasswordToken = (UsernamePasswordToken) token;
-            ConfigurationUser user = findUser(userNamePasswordToken.getUsername());
+            char[] password = requireNonNull(userNamePasswordToken.getPassword(), "Password cannot be null");
+            ConfigurationUser user = users.get(userNamePasswordToken.getUsername());
             if (user == null) {
                 throw new UnknownAccountException("Unknown user " + userNamePasswordToken.getUsername());
             }
-            if (!user.password.equals(new String(userNamePasswordToken.getPassword()))) {
+            if (!user.checkPassword(password)) {
                 throw new IncorrectCredentialsException();
             }
-            return new AuthenticationInfo(userNamePasswordToken.getUsername(), userNamePasswordToken.getPassword());
+            return new AuthenticationInfo(userNamePasswordToken.getUsername(), password);
         } else {
             throw new UnsupportedTokenException("ConfigurationRealm only supports UsernamePasswordToken");
         }
@@ -97,45 +115,60 @@ public class ConfigurationRealm implements Realm {
         return UsernamePasswordToken.class;
     }
 
-    private ConfigurationUser findUser(String username) {
-        for (ConfigurationUser user : users) {
-            if (user.username.equals(username)) {
-                return user;
-            }
-        }
-        return null;
+    private static byte[] toBytes(char[] chars) {
+        ByteBuffer byteBuffer = StandardCharsets.UTF_8.encode(CharBuffer.wrap(chars));
+        byte[] bytes = Arrays.copyOfRange(byteBuffer.array(), byteBuffer.position(), byteBuffer.limit());
+        Arrays.fill(byteBuffer.array(), (byte) 0);
+        return bytes;
     }
 
     /**
      * Class to represent a user from the configuration. In the file, key is the name, first value is the password,
      * following values are the roles.
      */
-    private static class ConfigurationUser {
+    private class ConfigurationUser {
         private final String username;
-        private final String password;
+        private final byte[] password;
+        private final Hash passwordHash;
         private final Set<String> roles;
 
-        ConfigurationUser(String username, String password, Set<String> roles) {
+        ConfigurationUser(String username, SecurityConfig.UserConfig userConfig) {
             this.username = username;
-            this.password = password;
-            this.roles = new HashSet<>(roles);
+            if (userConfig.isHashed()) {
+                this.password = null;
+                this.passwordHash = parseHash(userConfig.getPassword());
+            } else {
+                this.password = toBytes(userConfig.getPassword().toCharArray());
+                this.passwordHash = null;
+            }
+            this.roles = Collections.unmodifiableSet(new HashSet<>(userConfig.getRoles()));
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+        boolean checkPassword(char[] candidate) {
+            if (passwordHash != null) {
+                // verifications go through the bounded pool of the hashing service if one is configured
+                try {
+                    return hashingService.validatePasswordAsync(candidate, passwordHash).join();
+                } catch (CompletionException e) {
+                    throw new AuthenticationException("Unable to verify the password of user " + username,
+                            e.getCause());
+                }
+            } else {
+                byte[] candidateBytes = toBytes(candidate);
+                try {
+                    return MessageDigest.isEqual(password, candidateBytes);
+                } finally {
+                    Arrays.fill(candidateBytes, (byte) 0);
+                }
             }
-            ConfigurationUser configurationUser = (ConfigurationUser) o;
-            return username.equals(configurationUser.username);
         }
 
-        @Override
-        public int hashCode() {
-            return username.hashCode();
+        private Hash parseHash(String value) {
+            try {
+                return Hash.parse(value);
+            } catch (IllegalArgumentException e) {
+                throw SeedException.wrap(e, SecurityErrorCode.INVALID_PASSWORD_HASH).put("user", username);
+            }
         }
     }
 }
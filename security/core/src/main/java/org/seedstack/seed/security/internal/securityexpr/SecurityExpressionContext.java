@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.securityexpr;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.Method;
+import java.util.Map;
+import javax.el.ArrayELResolver;
+import javax.el.BeanELResolver;
+import javax.el.CompositeELResolver;
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.ExpressionFactory;
+import javax.el.FunctionMapper;
+import javax.el.ListELResolver;
+import javax.el.MapELResolver;
+import javax.el.ResourceBundleELResolver;
+import javax.el.VariableMapper;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.core.internal.el.ELLevel3Resolvers;
+import org.seedstack.seed.core.internal.el.ELPlugin;
+import org.seedstack.seed.security.internal.SecurityErrorCode;
+
+/**
+ * Lightweight EL context for security expressions. The security functions and the resolver chain are built once and
+ * shared, so creating a context for each evaluation only costs a small allocation.
+ */
+class SecurityExpressionContext extends ELContext {
+    private static final FunctionMapper FUNCTION_MAPPER = new SecurityFunctionMapper();
+    private static final ELResolver EL_RESOLVER = createELResolver();
+
+    private static ELResolver createELResolver() {
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        if (ELPlugin.isLevel3()) {
+            // streams and static fields, as available in a standard EL context
+            ELLevel3Resolvers.addTo(compositeELResolver, (ExpressionFactory) ELPlugin.getExpressionFactory());
+        }
+        compositeELResolver.add(new MapELResolver(true));
+        compositeELResolver.add(new ResourceBundleELResolver());
+        compositeELResolver.add(new ListELResolver(true));
+        compositeELResolver.add(new ArrayELResolver(true));
+        compositeELResolver.add(new BeanELResolver(true));
+        return compositeELResolver;
+    }
+
+    @Override
+    public ELResolver getELResolver() {
+        return EL_RESOLVER;
+    }
+
+    @Override
+    public FunctionMapper getFunctionMapper() {
+        return FUNCTION_MAPPER;
+    }
+
+    @Override
+    public VariableMapper getVariableMapper() {
+        return null;
+    }
+
+    private static class SecurityFunctionMapper extends FunctionMapper {
+        private final Map<String, Method> functions;
+
+        private SecurityFunctionMapper() {
+            try {
+                functions = ImmutableMap.of(
+                        "hasRole",
+                        SecurityExpressionUtils.class.getDeclaredMethod("hasRole", String.class),
+                        "hasRoleOn",
+                        SecurityExpressionUtils.class.getDeclaredMethod("hasRoleOn", String.class, String.class),
+                        "hasPermission",
+                        SecurityExpressionUtils.class.getDeclaredMethod("hasPermission", String.class),
+                        "hasPermissionOn",
+                        SecurityExpressionUtils.class.getDeclaredMethod("hasPermissionOn", String.class,
+                                String.class)
+                );
+            } catch (NoSuchMethodException e) {
+                throw SeedException.wrap(e, SecurityErrorCode.UNEXPECTED_ERROR);
+            }
+        }
+
+        @Override
+        public Method resolveFunction(String prefix, String localName) {
+            if (prefix == null || prefix.isEmpty()) {
+                return functions.get(localName);
+            }
+            return null;
+        }
+    }
+}
@@ -7,24 +7,33 @@
  */
 package org.seedstack.seed.security.internal.securityexpr;
 
-import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
-import javax.el.ELContext;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.ExecutionException;
+import javax.el.ELException;
+import javax.el.ValueExpression;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import org.seedstack.seed.SeedException;
-import org.seedstack.seed.el.ELContextBuilder;
 import org.seedstack.seed.el.ELService;
 import org.seedstack.seed.security.internal.SecurityErrorCode;
 
 /**
  * The Security Expression Interpreter has the responsibility to interpret any form of security expression.
  */
+@Singleton
 public class SecurityExpressionInterpreter {
+    private final Cache<String, ValueExpression> expressions;
     @Inject
     private ELService elService;
-    @Inject
-    private ELContextBuilder elContextBuilder;
+
+    SecurityExpressionInterpreter(int maximumSize) {
+        this.expressions = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
 
     /**
      * This methods will interpret any security expression. It will handle it
@@ -32,6 +41,7 @@ public class SecurityExpressionInterpreter {
      * <p>
      * For now, Boolean will be interpreted as Boolean and String will be
      * interpreted by the {@link ELService} as an Expression Language from the JSR 341.
+     * String expressions are compiled once and reused for subsequent interpretations.
      *
      * @param securityExpression the security expression.
      * @return True if the security expression interpretation is secured.
@@ -49,30 +59,29 @@ public class SecurityExpressionInterpreter {
     }
 
     private Boolean expression(String expression) {
-        ELContextBuilder.ELPropertyProvider elContextProvider = elContextBuilder.defaultContext();
-
-        for (Map.Entry<String, Method> entry : getMethods().entrySet()) {
-            elContextProvider.withFunction("", entry.getKey(), entry.getValue());
+        ValueExpression valueExpression = compile(expression);
+        try {
+            return (Boolean) valueExpression.getValue(new SecurityExpressionContext());
+        } catch (ELException e) {
+            throw SeedException.wrap(e, SecurityErrorCode.UNABLE_TO_EVALUATE_SECURITY_EXPRESSION)
+                    .put("expression", expression);
         }
-
-        ELContext elContext = elContextProvider.build();
-        return (Boolean) elService.withExpression(expression, Boolean.class).withContext(
-                elContext).asValueExpression().eval();
     }
 
-    private Map<String, Method> getMethods() {
-        Map<String, Method> availableMethods = new HashMap<>();
-        try {
-            availableMethods.put("hasRole", SecurityExpressionUtils.class.getDeclaredMethod("hasRole", String.class));
-            availableMethods.put("hasRoleOn",
-                    SecurityExpressionUtils.class.getDeclaredMethod("hasRoleOn", String.class, String.class));
-            availableMethods.put("hasPermission",
-                    SecurityExpressionUtils.class.getDeclaredMethod("hasPermission", String.class));
-            availableMethods.put("hasPermissionOn",
-                    SecurityExpressionUtils.class.getDeclaredMethod("hasPermissionOn", String.class, String.class));
-        } catch (NoSuchMethodException e) {
-            throw SeedException.wrap(e, SecurityErrorCode.UNEXPECTED_ERROR);
+    private ValueExpression compile(String expression) {
+        ValueExpression valueExpression = expressions.getIfPresent(expression);
+        if (valueExpression == null) {
+            try {
+                valueExpression = expressions.get(expression, () -> elService.withExpression(expression, Boolean.class)
+                        .withContext(new SecurityExpressionContext())
+                        .asValueExpression()
+                        .valueExpression());
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                Throwables.throwIfInstanceOf(e.getCause(), SeedException.class);
+                throw SeedException.wrap(e.getCause(), SecurityErrorCode.UNABLE_TO_EVALUATE_SECURITY_EXPRESSION)
+                        .put("expression", expression);
+            }
         }
-        return availableMethods;
+        return valueExpression;
     }
 }
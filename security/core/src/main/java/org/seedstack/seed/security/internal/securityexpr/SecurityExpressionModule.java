@@ -10,10 +10,15 @@ package org.seedstack.seed.security.internal.securityexpr;
 import com.google.inject.AbstractModule;
 
 public class SecurityExpressionModule extends AbstractModule {
+    private final int maxCachedExpressions;
+
+    public SecurityExpressionModule(int maxCachedExpressions) {
+        this.maxCachedExpressions = maxCachedExpressions;
+    }
 
     @Override
     protected void configure() {
-        bind(SecurityExpressionInterpreter.class);
+        bind(SecurityExpressionInterpreter.class).toInstance(new SecurityExpressionInterpreter(maxCachedExpressions));
 
         // we inject the security support
         requestStaticInjection(SecurityExpressionUtils.class);
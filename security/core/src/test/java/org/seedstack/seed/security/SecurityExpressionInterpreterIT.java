@@ -11,6 +11,8 @@ import javax.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.security.internal.SecurityErrorCode;
 import org.seedstack.seed.security.internal.securityexpr.SecurityExpressionInterpreter;
 import org.seedstack.seed.testing.junit4.SeedITRunner;
 
@@ -47,4 +49,45 @@ public class SecurityExpressionInterpreterIT {
         Assertions.assertThat(interpreter.interpret("${hasRole('ghost') && hasRole('king')}")).isFalse();
         Assertions.assertThat(interpreter.interpret("${hasRole('ghost') || hasRole('king')}")).isTrue();
     }
+
+    @Test
+    @WithUser(id = "Obiwan", password = "yodarulez")
+    public void sharedExpressionIsEvaluatedForFirstPrincipal() {
+        Assertions.assertThat(interpreter.interpret("${hasRole('jedi') && hasRole('ghost')}")).isFalse();
+        Assertions.assertThat(interpreter.interpret("${hasRoleOn('ghost', 'MU')}")).isFalse();
+    }
+
+    @Test
+    @WithUser(id = "ThePoltergeist", password = "bouh")
+    public void sharedExpressionIsEvaluatedForSecondPrincipal() {
+        Assertions.assertThat(interpreter.interpret("${hasRole('jedi') && hasRole('ghost')}")).isTrue();
+        Assertions.assertThat(interpreter.interpret("${hasRoleOn('ghost', 'MU')}")).isTrue();
+    }
+
+    @Test
+    @WithUser(id = "ThePoltergeist", password = "bouh")
+    public void sharedExpressionIsEvaluatedForEachScope() {
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(interpreter.interpret("${hasRoleOn('ghost', 'MU')}")).isTrue();
+            Assertions.assertThat(interpreter.interpret("${hasRoleOn('ghost', 'SX')}")).isTrue();
+            Assertions.assertThat(interpreter.interpret("${hasRoleOn('ghost', 'FR')}")).isFalse();
+        }
+    }
+
+    @Test
+    @WithUser(id = "Obiwan", password = "yodarulez")
+    public void staticFieldsAndStreamsAreResolved() {
+        Assertions.assertThat(interpreter.interpret("${Integer.MAX_VALUE > 0 && hasRole('jedi')}")).isTrue();
+        Assertions.assertThat(interpreter.interpret("${[1, 2, 3].stream().filter(x -> x > 1).count() == 2}"))
+                .isTrue();
+    }
+
+    @Test
+    @WithUser(id = "Obiwan", password = "yodarulez")
+    public void evaluationFailureIsReported() {
+        Assertions.assertThatThrownBy(() -> interpreter.interpret("${unknownVariable}"))
+                .isInstanceOf(SeedException.class)
+                .satisfies(e -> Assertions.assertThat(((SeedException) e).getErrorCode())
+                        .isEqualTo(SecurityErrorCode.UNABLE_TO_EVALUATE_SECURITY_EXPRESSION));
+    }
 }
@@ -10,6 +10,8 @@ package org.seedstack.seed.security;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.seedstack.seed.security.principals.Principals.getSimplePrincipalByName;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -76,6 +78,28 @@ public class SecurityIT {
         assertThat(securitySupport.getSimpleScopes().contains(new SimpleScope("SX"))).isTrue();
     }
 
+    @Test
+    @WithUser(id = "ThePoltergeist", password = "bouh")
+    public void thePoltergeistPermissionsCanBeCheckedInBatch() {
+        BitSet permitted = securitySupport.isPermitted(Arrays.asList("site:haunt", "academy:teach", "site:build"),
+                Arrays.asList(new SimpleScope("MU"), new SimpleScope("FR")));
+        assertThat(permitted.cardinality()).isEqualTo(1);
+        assertThat(permitted.get(0)).isTrue();
+
+        BitSet unscopedPermitted = securitySupport.isPermitted(Arrays.asList("site:haunt", "academy:teach",
+                "site:build"), Arrays.asList());
+        assertThat(unscopedPermitted.get(0)).isTrue();
+        assertThat(unscopedPermitted.get(1)).isTrue();
+        assertThat(unscopedPermitted.get(2)).isFalse();
+
+        assertThat(securitySupport.filterPermitted(Arrays.asList("MU", "FR", "SX", "DE"), "site:haunt",
+                SimpleScope::new)).containsExactly("MU", "SX");
+        assertThat(securitySupport.filterPermitted(Arrays.asList("MU", "FR", "ANY"), "site:haunt",
+                item -> "ANY".equals(item) ? null : new SimpleScope(item))).containsExactly("MU", "ANY");
+        assertThat(securitySupport.filterPermitted(Arrays.asList("MU", "ANY"), "site:build",
+                item -> "ANY".equals(item) ? null : new SimpleScope(item))).isEmpty();
+    }
+
     @Test
     @WithUser(id = "Obiwan", password = "yodarulez")
     public void obiwanShouldBeAbleToCallTheForceAndTeach() {
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.shiro.cache.Cache;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.seedstack.seed.security.SecurityConfig;
+
+public class BoundedCacheManagerUnitTest {
+    private BoundedCacheManager underTest;
+
+    @Before
+    public void setUp() {
+        SecurityConfig securityConfig = new SecurityConfig();
+        securityConfig.cache().authorization().setMaxSize(2);
+        underTest = new BoundedCacheManager();
+        Whitebox.setInternalState(underTest, "securityConfig", securityConfig);
+    }
+
+    @Test
+    public void authorizationCacheIsBounded() {
+        Cache<Object, Object> cache = underTest.getCache("realm.authorizationCache");
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    public void otherCachesAreNotBounded() {
+        Cache<Object, Object> cache = underTest.getCache("shiro-activeSessionCache");
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void cacheBehavesLikeAMap() {
+        Cache<Object, Object> cache = underTest.getCache("realm.authenticationCache");
+
+        assertThat(cache.put("a", 1)).isNull();
+        assertThat(cache.put("a", 2)).isEqualTo(1);
+        assertThat(cache.keys()).containsExactly("a");
+        assertThat(cache.values()).containsExactly(2);
+        assertThat(cache.get(null)).isNull();
+        assertThat(cache.remove("a")).isEqualTo(2);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void statisticsAreCollectedPerCache() {
+        Cache<Object, Object> cache = underTest.getCache("realm.authorizationCache");
+        cache.put("a", 1);
+        cache.get("a");
+        cache.get("b");
+
+        Map<String, Object> info = (Map<String, Object>) underTest.collect().get("realm.authorizationCache");
+        assertThat(info).containsEntry("size", 1L)
+                .containsEntry("hitCount", 1L)
+                .containsEntry("missCount", 1L);
+    }
+}
@@ -20,14 +20,17 @@ import com.google.inject.TypeLiteral;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import org.apache.shiro.realm.Realm;
 import org.junit.Before;
 import org.junit.Test;
 import org.powermock.reflect.Whitebox;
+import org.seedstack.seed.crypto.HashingService;
 import org.seedstack.seed.security.SecurityConfig;
 import org.seedstack.seed.security.internal.authorization.ConfigurationRoleMapping;
 import org.seedstack.seed.security.internal.authorization.ConfigurationRolePermissionResolver;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
 import org.seedstack.seed.security.internal.realms.ConfigurationRealm;
 
 public class SecurityInternalModuleIntegrationTest {
@@ -39,7 +42,8 @@ public class SecurityInternalModuleIntegrationTest {
     public void before() {
         securityConfigurer = mock(SecurityConfigurer.class);
         securityGuiceConfigurer = mock(SecurityGuiceConfigurer.class);
-        underTest = new SecurityInternalModule(securityConfigurer, new HashMap<>());
+        underTest = new SecurityInternalModule(securityConfigurer, new HashMap<>(), null,
+                new PermissionCache(10));
     }
 
     @Test
@@ -55,7 +59,8 @@ public class SecurityInternalModuleIntegrationTest {
         confRealms.add(confRealm);
         when(securityConfigurer.getConfigurationRealms()).thenReturn(confRealms);
 
-        Injector injector = Guice.createInjector(underTest, new DefaultSecurityModule(securityGuiceConfigurer));
+        Injector injector = Guice.createInjector(underTest, new DefaultSecurityModule(securityGuiceConfigurer),
+                binder -> binder.bind(HashingService.class).toInstance(mock(HashingService.class)));
 
         //Verify realm
         Set<Realm> exposedRealms = injector.getInstance(Key.get(new TypeLiteral<Set<Realm>>() {
@@ -65,7 +70,7 @@ public class SecurityInternalModuleIntegrationTest {
         assertEquals(ShiroRealmAdapter.class, exposedRealm.getClass());
 
         ConfigurationRealm innerRealm = (ConfigurationRealm) ((ShiroRealmAdapter) exposedRealm).getRealm();
-        Set<?> users = Whitebox.getInternalState(innerRealm, "users");
+        Map<?, ?> users = Whitebox.getInternalState(innerRealm, "users");
         assertTrue(users.size() > 0);
 
         assertNotNull(innerRealm.getRoleMapping());
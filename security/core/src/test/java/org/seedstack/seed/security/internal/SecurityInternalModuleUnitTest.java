@@ -19,6 +19,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.powermock.reflect.Whitebox;
 import org.seedstack.seed.security.SecurityConfig;
+import org.seedstack.seed.security.internal.authorization.PermissionCache;
 import org.seedstack.seed.security.internal.realms.ConfigurationRealm;
 
 import java.lang.annotation.Annotation;
@@ -50,7 +51,8 @@ public class SecurityInternalModuleUnitTest {
         when(binder.skipSources(any(Class.class), any(Class.class))).thenReturn(binder);
         when(binder.skipSources(any(Class.class))).thenReturn(binder);
         securityConfigurer = mock(SecurityConfigurer.class);
-        underTest = new SecurityInternalModule(securityConfigurer, new HashMap<>());
+        underTest = new SecurityInternalModule(securityConfigurer, new HashMap<>(), null,
+                new PermissionCache(10));
         Whitebox.setInternalState(underTest, "binder", binder);
     }
 
@@ -66,7 +68,7 @@ public class SecurityInternalModuleUnitTest {
 
     @Test
     public void testProvider() {
-        SecurityInternalModule.RealmProvider rp = new SecurityInternalModule.RealmProvider(new SecurityConfig());
+        SecurityInternalModule.RealmProvider rp = new SecurityInternalModule.RealmProvider(new SecurityConfig(), null);
         Injector i = mock(Injector.class);
         ShiroRealmAdapter adapter = new ShiroRealmAdapter();
         when(i.getInstance(ShiroRealmAdapter.class)).thenReturn(adapter);
@@ -0,0 +1,232 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.apache.shiro.authc.UsernamePasswordToken;
+import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.seedstack.seed.security.AuthenticationInfo;
+import org.seedstack.seed.security.AuthenticationToken;
+import org.seedstack.seed.security.PrincipalCustomizer;
+import org.seedstack.seed.security.Realm;
+import org.seedstack.seed.security.RoleMapping;
+import org.seedstack.seed.security.RolePermissionResolver;
+import org.seedstack.seed.security.principals.PrincipalProvider;
+import org.seedstack.seed.security.principals.Principals;
+import org.seedstack.seed.security.principals.SimplePrincipalProvider;
+
+public class ShiroRealmAdapterUnitTest {
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+    private volatile CountDownLatch loadLatch = new CountDownLatch(0);
+    private volatile Collection<PrincipalProvider<?>> loadedPrincipals;
+    private ShiroRealmAdapter underTest;
+    private SimplePrincipalCollection principals;
+
+    @Before
+    public void setUp() {
+        underTest = new ShiroRealmAdapter();
+        underTest.setRealm(new CountingRealm());
+        underTest.setCachingEnabled(true);
+        underTest.setAuthorizationCachingEnabled(true);
+        underTest.enableAuthorizationRefresh(100, 60, 0, Runnable::run);
+        principals = new SimplePrincipalCollection(Principals.identityPrincipal("jdoe"), underTest.getName());
+    }
+
+    @Test
+    public void authorizationInfoIsLoadedOnce() {
+        AuthorizationInfo first = underTest.getAuthorizationInfo(principals);
+        AuthorizationInfo second = underTest.getAuthorizationInfo(principals);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStringPermissions()).containsExactly("load:1");
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void clearingCacheReloadsAuthorizationInfo() {
+        underTest.getAuthorizationInfo(principals);
+        underTest.clearCachedAuthorizationInfo(principals);
+
+        assertThat(underTest.getAuthorizationInfo(principals).getStringPermissions()).containsExactly("load:2");
+    }
+
+    @Test
+    public void cachingCanBeDisabled() {
+        underTest.setAuthorizationCachingEnabled(false);
+        underTest.getAuthorizationInfo(principals);
+        underTest.getAuthorizationInfo(principals);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void staleAuthorizationInfoIsServedWhileRefreshing() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            underTest.enableAuthorizationRefresh(100, 60, 0, executorService, ticker);
+            AuthorizationInfo first = underTest.getAuthorizationInfo(principals);
+
+            loadLatch = new CountDownLatch(1);
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+            for (int i = 0; i < 10; i++) {
+                // The refresh is blocked in the background: the previous value is served and no other load starts
+                assertThat(underTest.getAuthorizationInfo(principals)).isSameAs(first);
+            }
+
+            loadLatch.countDown();
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(underTest.getAuthorizationInfo(principals).getStringPermissions()).containsExactly("load:2");
+            assertThat(loadCount.get()).isEqualTo(2);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentLoadsAreCoalesced() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            underTest.enableAuthorizationRefresh(100, 60, 0, Runnable::run, ticker);
+            loadLatch = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++) {
+                executorService.execute(() -> {
+                    underTest.getAuthorizationInfo(principals);
+                    done.countDown();
+                });
+            }
+
+            Thread.sleep(100);
+            loadLatch.countDown();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(loadCount.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void authorizationInfoIsWarmedUpOnceForTheSubjectPrincipals() {
+        AtomicInteger warmUpCount = new AtomicInteger();
+        underTest.enableAuthorizationRefresh(100, 60, 0, command -> {
+            warmUpCount.incrementAndGet();
+            command.run();
+        }, ticker);
+        Whitebox.setInternalState(underTest, "principalCustomizers", Collections.emptySet());
+
+        SimplePrincipalCollection subjectPrincipals = new SimplePrincipalCollection();
+        subjectPrincipals.addAll(underTest.getAuthenticationInfo(new UsernamePasswordToken("jdoe", "pwd"))
+                .getPrincipals());
+        underTest.getAuthenticationInfo(new UsernamePasswordToken("jdoe", "pwd"));
+        // Principals of other realms are aggregated in the subject principals
+        subjectPrincipals.add(Principals.identityPrincipal("john.doe"), "otherRealm");
+
+        assertThat(underTest.getAuthorizationInfo(subjectPrincipals).getStringPermissions())
+                .containsExactly("load:1");
+        assertThat(warmUpCount.get()).isEqualTo(1);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void refreshUsesThePrincipalsOfTheLatestAuthentication() {
+        AtomicReference<String> fullName = new AtomicReference<>("John Doe");
+        underTest.enableAuthorizationRefresh(100, 60, 0, Runnable::run, ticker);
+        PrincipalCustomizer<Realm> principalCustomizer = mock(PrincipalCustomizer.class);
+        when(principalCustomizer.supportedRealm()).thenReturn(Realm.class);
+        when(principalCustomizer.principalsToAdd(any(), any()))
+                .thenAnswer(invocation -> Collections.singleton(Principals.fullNamePrincipal(fullName.get())));
+        Whitebox.setInternalState(underTest, "principalCustomizers", Collections.singleton(principalCustomizer));
+
+        underTest.getAuthenticationInfo(new UsernamePasswordToken("jdoe", "pwd"));
+        assertThat(fullNames()).containsExactly("John Doe");
+
+        fullName.set("Jane Doe");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        PrincipalCollection newPrincipals = underTest.getAuthenticationInfo(
+                new UsernamePasswordToken("jdoe", "pwd")).getPrincipals();
+        underTest.getAuthorizationInfo(newPrincipals);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(fullNames()).containsExactly("Jane Doe");
+    }
+
+    private List<String> fullNames() {
+        return Principals.getSimplePrincipals(loadedPrincipals).stream()
+                .filter(principal -> Principals.FULL_NAME.equals(principal.getName()))
+                .map(SimplePrincipalProvider::get)
+                .collect(Collectors.toList());
+    }
+
+    private class CountingRealm implements Realm {
+        @Override
+        public Set<String> getRealmPermissions(PrincipalProvider<?> identityPrincipal,
+                Collection<PrincipalProvider<?>> otherPrincipals) {
+            try {
+                loadLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            loadedPrincipals = otherPrincipals;
+            Set<String> permissions = new HashSet<>();
+            permissions.add("load:" + loadCount.incrementAndGet());
+            return permissions;
+        }
+
+        @Override
+        public AuthenticationInfo getAuthenticationInfo(AuthenticationToken token) {
+            return new AuthenticationInfo(String.valueOf(token.getPrincipal()), token.getCredentials());
+        }
+
+        @Override
+        public RoleMapping getRoleMapping() {
+            return (realmData, principalProviders) -> Collections.emptySet();
+        }
+
+        @Override
+        public RolePermissionResolver getRolePermissionResolver() {
+            return role -> Collections.emptySet();
+        }
+
+        @Override
+        public Class<? extends AuthenticationToken> supportedToken() {
+            return AuthenticationToken.class;
+        }
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.seedstack.seed.security.internal.authorization;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.Sets;
@@ -22,6 +23,7 @@ import org.junit.Test;
 import org.seedstack.seed.security.Role;
 import org.seedstack.seed.security.Scope;
 import org.seedstack.seed.security.SecurityConfig;
+import org.seedstack.seed.security.SimpleScope;
 
 public class ConfigurationRoleMappingUnitTest {
 
@@ -74,4 +76,52 @@ public class ConfigurationRoleMappingUnitTest {
         Set<String> roles2 = roleMap.get("foo.bar");
         assertTrue(roles2.contains("foo"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resolveRoles_should_return_scoped_roles() {
+        Map<String, Class<? extends Scope>> scopeClasses = new HashMap<>();
+        scopeClasses.put("SCOPE", SimpleScope.class);
+        Reflection.field("scopeClasses").ofType(new TypeRef<Map<String, Class<? extends Scope>>>() {
+        }).in(underTest).set(scopeClasses);
+        underTest.readConfiguration(new SecurityConfig()
+                .addRole("admin", Sets.newHashSet("ADMIN.{SCOPE}"))
+                .addRole("reader", Sets.newHashSet("{SCOPE}.READER")));
+
+        Collection<Role> resolvedRoles = underTest.resolveRoles(
+                Sets.newHashSet("ADMIN.FR", "ADMIN.DE", "UK.READER", "OTHER.FR"), null);
+
+        assertThat(resolvedRoles).hasSize(2);
+        for (Role resolvedRole : resolvedRoles) {
+            if (resolvedRole.getName().equals("admin")) {
+                assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("FR"), new SimpleScope("DE"));
+            } else {
+                assertThat(resolvedRole.getName()).isEqualTo("reader");
+                assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("UK"));
+            }
+        }
+    }
+
+    @Test
+    public void resolveRoles_should_match_scoped_roles_sharing_a_prefix() {
+        Map<String, Class<? extends Scope>> scopeClasses = new HashMap<>();
+        scopeClasses.put("SCOPE", SimpleScope.class);
+        Reflection.field("scopeClasses").ofType(new TypeRef<Map<String, Class<? extends Scope>>>() {
+        }).in(underTest).set(scopeClasses);
+        underTest.readConfiguration(new SecurityConfig()
+                .addRole("admin", Sets.newHashSet("APP.{SCOPE}"))
+                .addRole("superAdmin", Sets.newHashSet("APP.ADMIN.{SCOPE}"))
+                .addRole("other", Sets.newHashSet("OTHER.{SCOPE}")));
+
+        Collection<Role> resolvedRoles = underTest.resolveRoles(Sets.newHashSet("APP.ADMIN.FR", "AP.FR"), null);
+
+        assertThat(resolvedRoles).hasSize(2);
+        for (Role resolvedRole : resolvedRoles) {
+            if (resolvedRole.getName().equals("admin")) {
+                assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("ADMIN.FR"));
+            } else {
+                assertThat(resolvedRole.getName()).isEqualTo("superAdmin");
+                assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("FR"));
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class PermissionCacheUnitTest {
+    private final PermissionCache underTest = new PermissionCache(2);
+
+    @Test
+    public void identical_permissions_share_the_same_instance() {
+        IndexableWildcardPermission permission = underTest.get("doc:read");
+        assertThat(underTest.get("doc:read")).isSameAs(permission);
+        assertThat(underTest.get("doc:write")).isNotSameAs(permission);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shared_permissions_cannot_be_modified() {
+        underTest.get("doc:read,write").parts().get(1).add("delete");
+    }
+
+    @Test
+    public void shared_permissions_keep_wildcard_semantics() {
+        IndexableWildcardPermission permission = underTest.get("doc:*");
+        assertThat(permission.implies(underTest.get("doc:read"))).isTrue();
+        assertThat(permission.implies(new IndexableWildcardPermission("doc:read:1"))).isTrue();
+        assertThat(underTest.get("doc:read").implies(permission)).isFalse();
+        assertThat(permission).isEqualTo(new IndexableWildcardPermission("doc:*"));
+    }
+
+    @Test
+    public void cache_is_bounded_and_reports_metrics() {
+        underTest.get("a");
+        underTest.get("a");
+        underTest.get("b");
+        underTest.get("c");
+        Map<String, Object> metrics = underTest.collect();
+        assertThat(metrics.get("size")).isEqualTo(2L);
+        assertThat(metrics.get("hitCount")).isEqualTo(1L);
+        assertThat(metrics.get("missCount")).isEqualTo(3L);
+        assertThat(metrics.get("evictionCount")).isEqualTo(1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_permissions_are_rejected() {
+        underTest.get("");
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.seedstack.seed.security.internal.authorization;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 import org.aopalliance.intercept.MethodInvocation;
@@ -116,6 +117,25 @@ public class RequiresPermissionsInterceptorTest extends AbstractShiroTest {
         underTest.invoke(methodInvocation);
     }
 
+    @Test
+    public void test_class_level_permission_is_resolved_per_target_class() throws Throwable {
+        Mockito.doThrow(new org.apache.shiro.authz.AuthorizationException()).when(subjectUnderTest)
+                .checkPermission("EAT");
+
+        underTest = new RequiresPermissionsInterceptor();
+        MethodInvocation codeInvocation = Mockito.mock(MethodInvocation.class);
+        when(codeInvocation.getMethod()).thenReturn(BaseService.class.getMethod("inheritedMethod"));
+        when(codeInvocation.getThis()).thenReturn(new CodeService());
+        MethodInvocation eatInvocation = Mockito.mock(MethodInvocation.class);
+        when(eatInvocation.getMethod()).thenReturn(BaseService.class.getMethod("inheritedMethod"));
+        when(eatInvocation.getThis()).thenReturn(new EatService());
+
+        underTest.invoke(codeInvocation);
+        underTest.invoke(codeInvocation);
+        Mockito.verify(subjectUnderTest, Mockito.times(2)).checkPermission("CODE");
+        assertThatThrownBy(() -> underTest.invoke(eatInvocation)).isInstanceOf(AuthorizationException.class);
+    }
+
     @RequiresPermissions("CODE")
     public void securedMethod() {
     }
@@ -127,4 +147,17 @@ public class RequiresPermissionsInterceptorTest extends AbstractShiroTest {
     @RequiresPermissions(value = {"CODE", "EAT"}, logical = Logical.AND)
     public void securedAndMethod() {
     }
+
+    public static class BaseService {
+        public void inheritedMethod() {
+        }
+    }
+
+    @RequiresPermissions("CODE")
+    public static class CodeService extends BaseService {
+    }
+
+    @RequiresPermissions("EAT")
+    public static class EatService extends BaseService {
+    }
 }
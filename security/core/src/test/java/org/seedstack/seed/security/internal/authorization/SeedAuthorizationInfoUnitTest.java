@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.permission.WildcardPermission;
+import org.junit.Before;
+import org.junit.Test;
+import org.seedstack.seed.security.Role;
+import org.seedstack.seed.security.SimpleScope;
+
+public class SeedAuthorizationInfoUnitTest {
+    private static final List<String> PERMISSIONS = Arrays.asList(
+            "doc:read",
+            "doc:read,write:123",
+            "printer:*:lp7200",
+            "admin",
+            "user:*:*",
+            "report:export,print",
+            "*:audit");
+    private static final List<String> CHECKED_PERMISSIONS = Arrays.asList(
+            "doc", "doc:read", "doc:read:1", "doc:write", "doc:write:123", "doc:read,write:123", "doc:write:456",
+            "printer", "printer:print", "printer:print:lp7200", "printer:print:lp4400", "printer:*:lp7200",
+            "admin", "admin:anything:else", "user", "user:create", "user:create:1", "user:create:1:2",
+            "report:export", "report:print", "report:export,print", "report:delete", "report:*",
+            "anything:audit", "anything:audit:1", "anything:else", "*", "unknown");
+    private SeedAuthorizationInfo underTest;
+    private List<Permission> grantedPermissions;
+
+    @Before
+    public void before() {
+        underTest = new SeedAuthorizationInfo();
+        grantedPermissions = new ArrayList<>();
+        Role unscoped = new Role("unscoped");
+        Role scoped = new Role("scoped");
+        scoped.getScopes().add(new SimpleScope("FR"));
+        for (int i = 0; i < PERMISSIONS.size(); i++) {
+            Role role = i % 2 == 0 ? unscoped : scoped;
+            role.getPermissions().add(new org.seedstack.seed.security.Permission(PERMISSIONS.get(i)));
+        }
+        underTest.addRole(unscoped);
+        underTest.addRole(scoped);
+        underTest.addPermission("direct:permission");
+        for (String stringPermission : underTest.getStringPermissions()) {
+            grantedPermissions.add(new WildcardPermission(stringPermission));
+        }
+        grantedPermissions.addAll(underTest.getObjectPermissions());
+    }
+
+    @Test
+    public void index_gives_the_same_answers_than_permissions() {
+        for (String checkedPermission : CHECKED_PERMISSIONS) {
+            WildcardPermission wildcardPermission = new WildcardPermission(checkedPermission);
+            assertThat(underTest.implies(wildcardPermission))
+                    .as(checkedPermission)
+                    .isEqualTo(impliedByOnePermission(wildcardPermission));
+            for (String scope : Arrays.asList("FR", "DE")) {
+                ScopePermission scopePermission = new ScopePermission(checkedPermission, new SimpleScope(scope));
+                assertThat(underTest.implies(scopePermission))
+                        .as(checkedPermission + " on " + scope)
+                        .isEqualTo(impliedByOnePermission(scopePermission));
+            }
+        }
+    }
+
+    @Test
+    public void index_is_refreshed_when_permissions_are_added() {
+        assertThat(underTest.implies(new WildcardPermission("new:permission"))).isFalse();
+        underTest.addPermission("new:*");
+        assertThat(underTest.implies(new WildcardPermission("new:permission"))).isTrue();
+    }
+
+    private boolean impliedByOnePermission(Permission permission) {
+        for (Permission grantedPermission : grantedPermissions) {
+            if (grantedPermission.implies(permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
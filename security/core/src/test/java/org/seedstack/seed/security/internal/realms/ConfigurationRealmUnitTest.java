@@ -9,6 +9,11 @@ package org.seedstack.seed.security.internal.realms;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.crypto.Hash;
+import org.seedstack.seed.crypto.HashingService;
+import org.seedstack.seed.security.AuthenticationException;
 import org.seedstack.seed.security.AuthenticationInfo;
 import org.seedstack.seed.security.AuthenticationToken;
 import org.seedstack.seed.security.IncorrectCredentialsException;
@@ -19,24 +24,47 @@ import org.seedstack.seed.security.UsernamePasswordToken;
 import org.seedstack.seed.security.principals.PrincipalProvider;
 import org.seedstack.seed.security.principals.Principals;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class ConfigurationRealmUnitTest {
     private static final String USERNAME = "username";
     private static final String PASSWORD = "password";
     private static final String ROLE_1 = "role1";
     private static final String ROLE_2 = "role2";
+    private static final String HASHED_USERNAME = "hashed";
+    private static final String PASSWORD_HASH = "PBKDF2WithHmacSHA256$2000$0A1B2C3D$4E5F";
+    private static final String LEGACY_USERNAME = "legacy";
+    private static final String LEGACY_PASSWORD_HASH = "0A1B2C3D:4E5F";
     private ConfigurationRealm underTest;
 
     @Before
     public void before() {
+        HashingService hashingService = mock(HashingService.class);
+        when(hashingService.validatePasswordAsync(any(char[].class), any(Hash.class))).thenAnswer(
+                invocation -> {
+                    char[] password = invocation.getArgument(0);
+                    Hash hash = invocation.getArgument(1);
+                    return CompletableFuture.completedFuture(Arrays.equals(password, PASSWORD.toCharArray())
+                            && (hash.getAlgorithm() == null || hash.getAlgorithm().equals("PBKDF2WithHmacSHA256")
+                            && hash.getIterations() == 2000));
+                });
         underTest = new ConfigurationRealm(null, null, new SecurityConfig()
                 .addUser(USERNAME,
                         new SecurityConfig.UserConfig().setPassword(PASSWORD).addRole(ROLE_1).addRole(ROLE_2))
+                .addUser(HASHED_USERNAME, new SecurityConfig.UserConfig().setPassword(PASSWORD_HASH).setHashed(true))
+                .addUser(LEGACY_USERNAME,
+                        new SecurityConfig.UserConfig().setPassword(LEGACY_PASSWORD_HASH).setHashed(true))
                 .addUser("toto", new SecurityConfig.UserConfig()));
+        Whitebox.setInternalState(underTest, "hashingService", hashingService);
     }
 
     @Test
@@ -71,6 +99,48 @@ public class ConfigurationRealmUnitTest {
         underTest.getAuthenticationInfo(token);
     }
 
+    @Test
+    public void getAuthenticationInfo_with_hashed_password() {
+        UsernamePasswordToken token = new UsernamePasswordToken(HASHED_USERNAME, PASSWORD.toCharArray(), null, false);
+        AuthenticationInfo authInfo = underTest.getAuthenticationInfo(token);
+        assertThat(authInfo.getIdentityPrincipal().get()).isEqualTo(HASHED_USERNAME);
+    }
+
+    @Test
+    public void getAuthenticationInfo_with_legacy_hashed_password() {
+        UsernamePasswordToken token = new UsernamePasswordToken(LEGACY_USERNAME, PASSWORD.toCharArray(), null, false);
+        AuthenticationInfo authInfo = underTest.getAuthenticationInfo(token);
+        assertThat(authInfo.getIdentityPrincipal().get()).isEqualTo(LEGACY_USERNAME);
+    }
+
+    @Test(expected = IncorrectCredentialsException.class)
+    public void getAuthenticationInfo_throws_exception_if_incorrect_hashed_password() {
+        UsernamePasswordToken token = new UsernamePasswordToken(HASHED_USERNAME, "wrong".toCharArray(), null, false);
+        underTest.getAuthenticationInfo(token);
+    }
+
+    @Test
+    public void getAuthenticationInfo_throws_exception_if_hashed_password_verification_is_rejected() {
+        HashingService hashingService = mock(HashingService.class);
+        CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(new IllegalStateException("rejected"));
+        when(hashingService.validatePasswordAsync(any(char[].class), any(Hash.class))).thenReturn(rejected);
+        ConfigurationRealm realm = new ConfigurationRealm(null, null, new SecurityConfig()
+                .addUser(HASHED_USERNAME, new SecurityConfig.UserConfig().setPassword(PASSWORD_HASH).setHashed(true)));
+        Whitebox.setInternalState(realm, "hashingService", hashingService);
+
+        assertThatThrownBy(() -> realm.getAuthenticationInfo(
+                new UsernamePasswordToken(HASHED_USERNAME, PASSWORD.toCharArray(), null, false)))
+                .isExactlyInstanceOf(AuthenticationException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test(expected = SeedException.class)
+    public void invalid_password_hash_is_rejected() {
+        new ConfigurationRealm(null, null, new SecurityConfig()
+                .addUser(USERNAME, new SecurityConfig.UserConfig().setPassword(PASSWORD).setHashed(true)));
+    }
+
     @Test(expected = UnknownAccountException.class)
     public void getAuthenticationInfo_throws_exception_if_unknown_user() {
         UsernamePasswordToken token = new UsernamePasswordToken("", PASSWORD.toCharArray(), null, false);
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal.securityexpr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.el.ELContext;
+import javax.el.ELException;
+import javax.el.ValueExpression;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.el.ELService;
+import org.seedstack.seed.security.internal.SecurityErrorCode;
+
+public class SecurityExpressionInterpreterUnitTest {
+    private ELService elService;
+    private ELService.ELContextProvider elContextProvider;
+    private ValueExpression valueExpression;
+
+    @Before
+    public void before() {
+        elService = mock(ELService.class);
+        elContextProvider = mock(ELService.ELContextProvider.class);
+        ELService.ELExpressionProvider elExpressionProvider = mock(ELService.ELExpressionProvider.class);
+        ELService.ValueExpressionProvider valueExpressionProvider = mock(ELService.ValueExpressionProvider.class);
+        valueExpression = mock(ValueExpression.class);
+        when(elService.withExpression(anyString(), eq(Boolean.class))).thenReturn(elContextProvider);
+        when(elContextProvider.withContext(any(ELContext.class))).thenReturn(elExpressionProvider);
+        when(elExpressionProvider.asValueExpression()).thenReturn(valueExpressionProvider);
+        when(valueExpressionProvider.valueExpression()).thenReturn(valueExpression);
+        when(valueExpression.getValue(any(ELContext.class))).thenReturn(true);
+    }
+
+    @Test
+    public void booleansAreNotCompiled() {
+        SecurityExpressionInterpreter underTest = createInterpreter(10);
+
+        assertThat(underTest.interpret(true)).isTrue();
+        assertThat(underTest.interpret(false)).isFalse();
+        verify(elService, times(0)).withExpression(anyString(), eq(Boolean.class));
+    }
+
+    @Test
+    public void compiledExpressionIsReusedAcrossEvaluations() {
+        SecurityExpressionInterpreter underTest = createInterpreter(10);
+
+        assertThat(underTest.interpret("${hasRole('jedi')}")).isTrue();
+        assertThat(underTest.interpret("${hasRole('jedi')}")).isTrue();
+        assertThat(underTest.interpret("${hasRole('jedi')}")).isTrue();
+
+        verify(elService, times(1)).withExpression("${hasRole('jedi')}", Boolean.class);
+        verify(valueExpression, times(3)).getValue(any(ELContext.class));
+    }
+
+    @Test
+    public void cachedExpressionsAreBounded() {
+        SecurityExpressionInterpreter underTest = createInterpreter(1);
+
+        underTest.interpret("${hasRole('jedi')}");
+        underTest.interpret("${hasRole('ghost')}");
+        underTest.interpret("${hasRole('jedi')}");
+
+        verify(elService, times(2)).withExpression("${hasRole('jedi')}", Boolean.class);
+        verify(elService, times(1)).withExpression("${hasRole('ghost')}", Boolean.class);
+    }
+
+    @Test
+    public void evaluationFailureIsReported() {
+        when(valueExpression.getValue(any(ELContext.class))).thenThrow(new ELException("evaluation failure"));
+        SecurityExpressionInterpreter underTest = createInterpreter(10);
+
+        try {
+            underTest.interpret("${hasRole('jedi')}");
+            fail("should have failed");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode()).isEqualTo(SecurityErrorCode.UNABLE_TO_EVALUATE_SECURITY_EXPRESSION);
+            assertThat(e.<String>get("expression")).isEqualTo("${hasRole('jedi')}");
+        }
+    }
+
+    @Test
+    public void compilationFailureIsReported() {
+        when(elContextProvider.withContext(any(ELContext.class))).thenThrow(new ELException("compilation failure"));
+        SecurityExpressionInterpreter underTest = createInterpreter(10);
+
+        try {
+            underTest.interpret("${hasRole(}");
+            fail("should have failed");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode()).isEqualTo(SecurityErrorCode.UNABLE_TO_EVALUATE_SECURITY_EXPRESSION);
+            assertThat(e.<String>get("expression")).isEqualTo("${hasRole(}");
+        }
+    }
+
+    private SecurityExpressionInterpreter createInterpreter(int maximumSize) {
+        SecurityExpressionInterpreter interpreter = new SecurityExpressionInterpreter(maximumSize);
+        Whitebox.setInternalState(interpreter, "elService", elService);
+        return interpreter;
+    }
+}
@@ -10,8 +10,12 @@ package org.seedstack.seed.security;
 import org.seedstack.seed.security.principals.PrincipalProvider;
 import org.seedstack.seed.security.principals.SimplePrincipalProvider;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Support for all security concerns. Retrieve connected user principals, get/check roles/permissions...
@@ -93,6 +97,56 @@ public interface SecuritySupport {
      */
     boolean isPermitted(String permission, Scope... scopes);
 
+    /**
+     * Evaluates a matrix of permissions and scopes for the connected user. The default implementation calls
+     * {@link #isPermitted(String, Scope...)} for each cell. Implementations can override it to parse each permission
+     * once and resolve the user authorizations once, whatever the size of the matrix.<br>
+     * The permissions are given as Strings in the form "object:action[:id]" (e.g. door:open or document:print).
+     *
+     * @param permissions the string permissions to test. Not null
+     * @param scopes      the scopes to verify each permission on. If empty, permissions are verified without scope.
+     * @return a bit set where the bit at index {@code i * scopes.size() + j} is set if the user has the permission
+     *         {@code i} on the scope {@code j} (or the bit at index {@code i} if no scope is given).
+     */
+    default BitSet isPermitted(List<String> permissions, List<? extends Scope> scopes) {
+        int columns = scopes.isEmpty() ? 1 : scopes.size();
+        BitSet result = new BitSet(permissions.size() * columns);
+        for (int i = 0; i < permissions.size(); i++) {
+            if (scopes.isEmpty()) {
+                result.set(i, isPermitted(permissions.get(i)));
+            } else {
+                for (int j = 0; j < columns; j++) {
+                    result.set(i * columns + j, isPermitted(permissions.get(i), scopes.get(j)));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Filters a collection of items, keeping only those on which the connected user has the given permission. The
+     * scope of each item is given by a function, allowing to filter large result lists by row-level scope. The
+     * default implementation calls {@link #isPermitted(String, Scope...)} for each item. Implementations can override
+     * it to do it in one operation.
+     *
+     * @param items         the items to filter. Not null
+     * @param permission    the string permission to test. Not null
+     * @param scopeFunction the function giving the scope of an item.
+     * @param <T>           the type of the items.
+     * @return the list of permitted items, in iteration order.
+     */
+    default <T> List<T> filterPermitted(Collection<T> items, String permission,
+            Function<? super T, ? extends Scope> scopeFunction) {
+        List<T> permittedItems = new ArrayList<>();
+        for (T item : items) {
+            Scope scope = scopeFunction.apply(item);
+            if (scope == null ? isPermitted(permission) : isPermitted(permission, scope)) {
+                permittedItems.add(item);
+            }
+        }
+        return permittedItems;
+    }
+
     /**
      * Tells if the connected user has all of the given permissions.<br>
      * The permissions are given as Strings in the form "object:action[:id]" (e.g. door:open or document:print).
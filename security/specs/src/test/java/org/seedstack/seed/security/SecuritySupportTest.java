@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SecuritySupportTest {
+    private static final SimpleScope FRANCE = new SimpleScope("FR");
+    private static final SimpleScope GERMANY = new SimpleScope("DE");
+    private SecuritySupport securitySupport;
+
+    // Mockito only calls the default methods of class mocks
+    private abstract static class DefaultSecuritySupport implements SecuritySupport {
+    }
+
+    @Before
+    public void setUp() {
+        securitySupport = mock(DefaultSecuritySupport.class);
+        when(securitySupport.isPermitted("door:open")).thenReturn(true);
+        when(securitySupport.isPermitted("door:open", FRANCE)).thenReturn(true);
+        when(securitySupport.isPermitted("window:open", GERMANY)).thenReturn(true);
+        when(securitySupport.isPermitted(anyList(), anyList())).thenCallRealMethod();
+        when(securitySupport.filterPermitted(any(), any(), any())).thenCallRealMethod();
+    }
+
+    @Test
+    public void testDefaultPermissionMatrix() {
+        BitSet result = securitySupport.isPermitted(Arrays.asList("door:open", "window:open"),
+                Arrays.asList(FRANCE, GERMANY));
+        assertThat(result.get(0)).isTrue();
+        assertThat(result.get(1)).isFalse();
+        assertThat(result.get(2)).isFalse();
+        assertThat(result.get(3)).isTrue();
+    }
+
+    @Test
+    public void testDefaultPermissionMatrixWithoutScope() {
+        BitSet result = securitySupport.isPermitted(Arrays.asList("door:open", "window:open"),
+                Collections.emptyList());
+        assertThat(result.get(0)).isTrue();
+        assertThat(result.get(1)).isFalse();
+    }
+
+    @Test
+    public void testDefaultFilterPermitted() {
+        assertThat(securitySupport.filterPermitted(Arrays.asList("FR", "DE", "IT"), "door:open",
+                (Function<String, Scope>) SimpleScope::new)).containsExactly("FR");
+        assertThat(securitySupport.filterPermitted(Arrays.asList("FR", "DE"), "door:open", item -> null))
+                .containsExactly("FR", "DE");
+    }
+}
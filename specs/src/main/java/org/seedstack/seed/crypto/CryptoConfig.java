@@ -23,6 +23,7 @@ public class CryptoConfig {
     private StoreConfig truststore;
     private Map<String, KeyStoreConfig> keystores = new HashMap<>();
     private SSLConfig ssl = new SSLConfig();
+    private HashingConfig hashing = new HashingConfig();
 
     public StoreConfig getTrustStore() {
         return truststore;
@@ -46,6 +47,10 @@ public class CryptoConfig {
         return ssl;
     }
 
+    public HashingConfig hashing() {
+        return hashing;
+    }
+
     public static class StoreConfig {
         private String path;
         private String password;
@@ -252,4 +257,103 @@ public class CryptoConfig {
             return this;
         }
     }
+
+    @Config("hashing")
+    public static class HashingConfig {
+        private static final String DEFAULT_ALGORITHM = Hash.LEGACY_ALGORITHM;
+        private static final int DEFAULT_ITERATIONS = Hash.LEGACY_ITERATIONS;
+        private static final int DEFAULT_SIZE = 24;
+        private static final int DEFAULT_VERIFICATION_QUEUE_SIZE = 256;
+        @SingleValue
+        private String algorithm = DEFAULT_ALGORITHM;
+        private int iterations = DEFAULT_ITERATIONS;
+        private int saltSize = DEFAULT_SIZE;
+        private int hashSize = DEFAULT_SIZE;
+        private long calibrationTarget;
+        private int verificationThreads;
+        private int verificationQueueSize = DEFAULT_VERIFICATION_QUEUE_SIZE;
+
+        /**
+         * @return the PBKDF2 algorithm (PBKDF2WithHmacSHA1, PBKDF2WithHmacSHA256 or PBKDF2WithHmacSHA512).
+         */
+        public String getAlgorithm() {
+            return algorithm;
+        }
+
+        public HashingConfig setAlgorithm(String algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        /**
+         * @return the number of iterations, ignored if a calibration target is specified.
+         */
+        public int getIterations() {
+            return iterations;
+        }
+
+        public HashingConfig setIterations(int iterations) {
+            this.iterations = iterations;
+            return this;
+        }
+
+        public int getSaltSize() {
+            return saltSize;
+        }
+
+        public HashingConfig setSaltSize(int saltSize) {
+            this.saltSize = saltSize;
+            return this;
+        }
+
+        public int getHashSize() {
+            return hashSize;
+        }
+
+        public HashingConfig setHashSize(int hashSize) {
+            this.hashSize = hashSize;
+            return this;
+        }
+
+        /**
+         * @return the target duration in milliseconds of a hash computation. If greater than 0, the number of
+         *         iterations is calibrated at startup to reach this duration on the current hardware. Hashes must then
+         *         be persisted with {@link Hash#toString()} which records the iterations they were computed with.
+         */
+        public long getCalibrationTarget() {
+            return calibrationTarget;
+        }
+
+        public HashingConfig setCalibrationTarget(long calibrationTarget) {
+            this.calibrationTarget = calibrationTarget;
+            return this;
+        }
+
+        /**
+         * @return the number of threads dedicated to asynchronous password verification, used by the configuration
+         *         realm to bound the number of concurrent verifications. If 0, asynchronous verifications are done in
+         *         the calling thread.
+         */
+        public int getVerificationThreads() {
+            return verificationThreads;
+        }
+
+        public HashingConfig setVerificationThreads(int verificationThreads) {
+            this.verificationThreads = verificationThreads;
+            return this;
+        }
+
+        /**
+         * @return the maximum number of pending asynchronous password verifications. Verifications beyond this
+         *         limit are rejected.
+         */
+        public int getVerificationQueueSize() {
+            return verificationQueueSize;
+        }
+
+        public HashingConfig setVerificationQueueSize(int verificationQueueSize) {
+            this.verificationQueueSize = verificationQueueSize;
+            return this;
+        }
+    }
 }
@@ -0,0 +1,24 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.crypto;
+
+import org.seedstack.seed.SeedException;
+import org.seedstack.shed.exception.ErrorCode;
+
+/**
+ * Error codes of the default methods of the cryptography API.
+ */
+enum EncryptionErrorCode implements ErrorCode {
+    UNSUPPORTED_ENCRYPTION_OPERATION;
+
+    static SeedException unsupportedOperation(Object implementation, String operation) {
+        return SeedException.createNew(UNSUPPORTED_ENCRYPTION_OPERATION)
+                .put("operation", operation)
+                .put("implementation", implementation.getClass().getName());
+    }
+}
@@ -7,10 +7,19 @@
  */
 package org.seedstack.seed.crypto;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Service to do asymmetric encryption and decryption. Encryption uses a {@link javax.security.cert.X509Certificate},
  * whereas decrypt uses
  * the private key stored in a key store.
+ * <p>
+ * Direct asymmetric encryption is limited to payloads smaller than the key size. Larger payloads must use envelope
+ * encryption, where the payload is encrypted with a random AES-GCM key which is itself encrypted with the key pair.
+ * </p>
  */
 public interface EncryptionService {
     /**
@@ -27,4 +36,65 @@ public interface EncryptionService {
      */
     byte[] decrypt(byte[] toDecrypt);
 
+    /**
+     * Encrypt a byte[] of any size with envelope encryption. The result can only be decrypted with
+     * {@link #decryptEnvelope(byte[])} or {@link #decrypt(InputStream, OutputStream)}.
+     *
+     * @param toEncrypt byte[] to encrypt
+     * @return the envelope containing the wrapped data key and the encrypted byte[]
+     * @throws org.seedstack.seed.SeedException if envelope encryption is not supported by the implementation.
+     */
+    default byte[] encryptEnvelope(byte[] toEncrypt) {
+        throw EncryptionErrorCode.unsupportedOperation(this, "encryptEnvelope");
+    }
+
+    /**
+     * Decrypt an envelope produced by {@link #encryptEnvelope(byte[])} or {@link #encrypt(InputStream, OutputStream)}.
+     *
+     * @param toDecrypt the envelope to decrypt
+     * @return byte[] decrypted
+     * @throws org.seedstack.seed.SeedException if envelope encryption is not supported by the implementation.
+     */
+    default byte[] decryptEnvelope(byte[] toDecrypt) {
+        throw EncryptionErrorCode.unsupportedOperation(this, "decryptEnvelope");
+    }
+
+    /**
+     * Encrypt a stream with envelope encryption. The payload is processed in segments so it is never fully held in
+     * memory. Streams are not closed by this method.
+     *
+     * @param in  the stream to encrypt
+     * @param out the stream the envelope is written to
+     * @throws org.seedstack.seed.SeedException if envelope encryption is not supported by the implementation.
+     */
+    default void encrypt(InputStream in, OutputStream out) {
+        throw EncryptionErrorCode.unsupportedOperation(this, "encrypt(InputStream, OutputStream)");
+    }
+
+    /**
+     * Decrypt a stream produced by {@link #encrypt(InputStream, OutputStream)} or {@link #encryptEnvelope(byte[])}.
+     * Segments are authenticated before being written, but if the envelope has been tampered with an exception can be
+     * thrown after some valid segments have been written. Streams are not closed by this method.
+     *
+     * @param in  the envelope stream to decrypt
+     * @param out the stream the decrypted payload is written to
+     * @throws org.seedstack.seed.SeedException if envelope encryption is not supported by the implementation.
+     */
+    default void decrypt(InputStream in, OutputStream out) {
+        throw EncryptionErrorCode.unsupportedOperation(this, "decrypt(InputStream, OutputStream)");
+    }
+
+    /**
+     * Decrypt a list of byte[] in one operation. Implementations can amortize the decryption setup over all elements.
+     *
+     * @param toDecrypt the list of byte[] to decrypt
+     * @return the list of decrypted byte[], in the same order
+     */
+    default List<byte[]> decrypt(List<byte[]> toDecrypt) {
+        List<byte[]> decrypted = new ArrayList<>(toDecrypt.size());
+        for (byte[] bytes : toDecrypt) {
+            decrypted.add(decrypt(bytes));
+        }
+        return decrypted;
+    }
 }
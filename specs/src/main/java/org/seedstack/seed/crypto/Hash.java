@@ -12,11 +12,33 @@ import static java.util.Objects.requireNonNull;
 /**
  * A Hash is the couple made of two byte arrays : the hashed string and the salt used to hash it. When comparing two
  * hashes made with the same salt, it has to be also through the same algorithm with the same parameters.
+ * <p>
+ * A hash can optionally carry the algorithm and the number of iterations it has been computed with. When present,
+ * they are used to validate passwords against it, regardless of the current hashing configuration. When absent, the
+ * hash is considered computed with the legacy parameters ({@value #LEGACY_ALGORITHM} with {@value #LEGACY_ITERATIONS}
+ * iterations).
+ * </p>
+ * <p>
+ * A hash is persisted with {@link #toString()} and restored with {@link #parse(String)}. Hashes computed with the
+ * legacy parameters keep the "hash:salt" form.
+ * </p>
  */
 public class Hash {
+    /**
+     * The algorithm of hashes that don't carry their parameters.
+     */
+    public static final String LEGACY_ALGORITHM = "PBKDF2WithHmacSHA1";
+    /**
+     * The number of iterations of hashes that don't carry their parameters.
+     */
+    public static final int LEGACY_ITERATIONS = 1000;
+    private static final String SEPARATOR = "$";
+    private static final String LEGACY_SEPARATOR = ":";
     private final static char[] hexArray = "0123456789ABCDEF".toCharArray();
     private final byte[] hash;
     private final byte[] salt;
+    private final String algorithm;
+    private final int iterations;
 
     /**
      * Constructor with byte arrays.
@@ -25,8 +47,22 @@ public class Hash {
      * @param salt the salt used.
      */
     public Hash(byte[] hash, byte[] salt) {
+        this(hash, salt, null, 0);
+    }
+
+    /**
+     * Constructor with byte arrays and hashing parameters.
+     *
+     * @param hash       the hashed string.
+     * @param salt       the salt used.
+     * @param algorithm  the algorithm used or null if unknown.
+     * @param iterations the number of iterations used or 0 if unknown.
+     */
+    public Hash(byte[] hash, byte[] salt, String algorithm, int iterations) {
         this.hash = requireNonNull(hash).clone();
         this.salt = requireNonNull(salt).clone();
+        this.algorithm = algorithm;
+        this.iterations = iterations;
     }
 
     /**
@@ -38,6 +74,38 @@ public class Hash {
     public Hash(String hash, String salt) {
         this.hash = hexToBytes(requireNonNull(hash));
         this.salt = hexToBytes(requireNonNull(salt));
+        this.algorithm = null;
+        this.iterations = 0;
+    }
+
+    /**
+     * Parses a hash from its string form, either "algorithm$iterations$hash$salt" as returned by {@link #toString()}
+     * or the legacy "hash:salt" form.
+     *
+     * @param value the string form of the hash.
+     * @return the parsed hash.
+     * @throws IllegalArgumentException if the string is not a valid hash.
+     */
+    public static Hash parse(String value) {
+        requireNonNull(value);
+        String[] parts = value.split("\\" + SEPARATOR, -1);
+        if (parts.length == 4) {
+            int iterations;
+            try {
+                iterations = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid hash iterations: " + parts[1], e);
+            }
+            if (parts[0].isEmpty() || iterations <= 0) {
+                throw new IllegalArgumentException("Invalid hash parameters: " + parts[0] + SEPARATOR + parts[1]);
+            }
+            return new Hash(hexToBytes(parts[2]), hexToBytes(parts[3]), parts[0], iterations);
+        }
+        parts = value.split(LEGACY_SEPARATOR, -1);
+        if (parts.length == 2) {
+            return new Hash(parts[0], parts[1]);
+        }
+        throw new IllegalArgumentException("Invalid hash format, expected algorithm$iterations$hash$salt or hash:salt");
     }
 
     /**
@@ -58,6 +126,24 @@ public class Hash {
         return salt.clone();
     }
 
+    /**
+     * Returns the algorithm the hash has been computed with, if known.
+     *
+     * @return the algorithm name or null if unknown.
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the number of iterations the hash has been computed with, if known.
+     *
+     * @return the number of iterations or 0 if unknown.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
     /**
      * Returns the hash as a string.
      *
@@ -77,10 +163,16 @@ public class Hash {
     }
 
     /**
-     * Returns the Hash formatted as "hash:salt".
+     * Returns the Hash formatted as "hash:salt" if its parameters are unknown or the legacy ones, and as
+     * "algorithm$iterations$hash$salt" otherwise. The result can be parsed back with {@link #parse(String)}.
      */
     public String toString() {
-        return getHashAsString() + ":" + getSaltAsString();
+        if (algorithm != null && iterations > 0
+                && !(LEGACY_ALGORITHM.equals(algorithm) && iterations == LEGACY_ITERATIONS)) {
+            return algorithm + SEPARATOR + iterations + SEPARATOR + getHashAsString() + SEPARATOR + getSaltAsString();
+        } else {
+            return getHashAsString() + LEGACY_SEPARATOR + getSaltAsString();
+        }
     }
 
     // We don't have Guava here
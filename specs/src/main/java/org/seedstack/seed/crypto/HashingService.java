@@ -7,6 +7,8 @@
  */
 package org.seedstack.seed.crypto;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Support for creating a hash and validating passwords.
  * When creating a hash from a string or char[], a random salt will be generated and
@@ -47,4 +49,23 @@ public interface HashingService {
      * @return true if the password is correct, false if not.
      */
     boolean validatePassword(String password, Hash correctHash);
-}
\ No newline at end of file
+
+    /**
+     * Validates a password using a hash, asynchronously. Implementations can offload the computation to a bounded
+     * pool of threads to avoid exhausting the calling threads (like HTTP worker threads) during bursts of
+     * validations.
+     *
+     * @param password    the password to check.
+     * @param correctHash the hash of the valid password.
+     * @return a future completed with true if the password is correct, false if not.
+     */
+    default CompletableFuture<Boolean> validatePasswordAsync(char[] password, Hash correctHash) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        try {
+            result.complete(validatePassword(password, correctHash));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.el;
+
+import org.seedstack.coffig.Config;
+
+@Config("el")
+public class ELConfig {
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
+    /**
+     * @return the maximum number of compiled expressions kept in cache.
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public ELConfig setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+        return this;
+    }
+}
@@ -14,6 +14,12 @@ import org.seedstack.seed.SeedException;
 
 /**
  * The ELService provides a DSL to facilitate the evaluation of expression language.
+ *
+ * <p>Expressions evaluated against a default context (see {@link ELContextProvider#withDefaultContext()} and
+ * {@link ELContextBuilder#defaultContext()}) are compiled once and cached, by expression text, expected type,
+ * expected parameter types and mapped functions. Functions must be mapped through
+ * {@link ELContextBuilder.ELPropertyProvider#withFunction(String, String, java.lang.reflect.Method)} for them to be
+ * taken into account.</p>
  */
 public interface ELService {
 
@@ -18,6 +18,7 @@ public class TransactionConfig {
     private Class<? extends TransactionManager> manager;
     private Class<? extends TransactionHandler<?>> defaultHandler;
     private JtaConfig jta = new JtaConfig();
+    private TracingConfig tracing = new TracingConfig();
 
     public Class<? extends TransactionManager> getManager() {
         return manager;
@@ -41,6 +42,10 @@ public class TransactionConfig {
         return jta;
     }
 
+    public TracingConfig tracing() {
+        return tracing;
+    }
+
     @Config("jta")
     public static class JtaConfig {
         private static final String DEFAULT_USER_TRANSACTION_NAME = "java:comp/UserTransaction";
@@ -66,4 +71,30 @@ public class TransactionConfig {
             return this;
         }
     }
+
+    @Config("tracing")
+    public static class TracingConfig {
+        private static final int DEFAULT_BUFFER_SIZE = 256;
+        @SingleValue
+        private boolean enabled = false;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public TracingConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public TracingConfig setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+    }
 }
@@ -15,7 +15,11 @@ import org.seedstack.shed.exception.ErrorCode;
 public enum WebErrorCode implements ErrorCode {
     CANNOT_RESOLVE_WEB_RESOURCE_LOCATION,
     ERROR_RETRIEVING_RESOURCE,
+    INVALID_STATIC_RESOURCES_TOOL_OPTION,
     UNABLE_TO_DETERMINE_RESOURCE_INFO,
+    UNABLE_TO_LOAD_RESOURCE_CONTENT,
+    UNABLE_TO_LOAD_RESOURCE_MANIFEST,
+    UNABLE_TO_PROCESS_STATIC_RESOURCES,
     UNABLE_TO_SCAN_TOMCAT_JNDI_DIRECTORY,
     UNABLE_TO_SCAN_TOMCAT_JNDI_JAR,
     UNABLE_TO_SCAN_WEBSPHERE_DIRECTORY,
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Negotiation of the content encoding of static resources from the Accept-Encoding header and its quality values.
+ */
+class AcceptEncoding {
+    static final String GZIP = "gzip";
+    static final String BROTLI = "br";
+    static final String ZSTD = "zstd";
+    private static final String ANY = "*";
+    private static final String QUALITY_PARAMETER = "q=";
+
+    private AcceptEncoding() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Returns the encodings accepted by the client among the supported ones, by order of preference. The encodings
+     * with the same quality value are ordered by server preference and those with a quality value of zero are
+     * excluded.
+     *
+     * @param header    the Accept-Encoding header value, can be null.
+     * @param supported the supported encodings, by order of server preference.
+     * @return the accepted encodings, possibly empty.
+     */
+    static List<String> negotiate(String header, List<String> supported) {
+        if (header == null || header.isEmpty() || supported.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, Float> qualities = new HashMap<>();
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ENGLISH);
+            if (!coding.isEmpty()) {
+                qualities.put(coding, parseQuality(parts));
+            }
+        }
+        Float anyQuality = qualities.get(ANY);
+        List<String> accepted = new ArrayList<>(supported.size());
+        List<Float> acceptedQualities = new ArrayList<>(supported.size());
+        for (String coding : supported) {
+            Float quality = qualities.getOrDefault(coding, anyQuality);
+            if (quality != null && quality > 0) {
+                // stable insertion keeps the server preference between equal qualities
+                int index = 0;
+                while (index < acceptedQualities.size() && acceptedQualities.get(index) >= quality) {
+                    index++;
+                }
+                accepted.add(index, coding);
+                acceptedQualities.add(index, quality);
+            }
+        }
+        return accepted;
+    }
+
+    private static float parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+                try {
+                    return Float.parseFloat(parameter.substring(QUALITY_PARAMETER.length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
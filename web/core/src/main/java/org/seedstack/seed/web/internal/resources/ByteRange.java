@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A range of bytes requested through the Range header, with an inclusive end.
+ */
+class ByteRange {
+    private static final String BYTES_UNIT = "bytes=";
+    private static final int MAX_RANGES = 16;
+    private final long start;
+    private final long end;
+
+    ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the value of a Range header against a resource of the specified length.
+     *
+     * @param header the Range header value.
+     * @param length the length of the resource.
+     * @return the satisfiable ranges, an empty list if none is satisfiable or null if the header is invalid or not
+     *         supported and must be ignored.
+     */
+    static List<ByteRange> parse(String header, long length) {
+        if (!header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return null;
+        }
+        String[] specs = header.substring(BYTES_UNIT.length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return null;
+        }
+        List<ByteRange> ranges = new ArrayList<>();
+        for (String spec : specs) {
+            String trimmed = spec.trim();
+            int dashIndex = trimmed.indexOf('-');
+            if (dashIndex < 0) {
+                return null;
+            }
+            try {
+                String first = trimmed.substring(0, dashIndex);
+                String last = trimmed.substring(dashIndex + 1);
+                if (first.isEmpty()) {
+                    // suffix range
+                    long suffixLength = Long.parseLong(last);
+                    if (suffixLength < 0) {
+                        return null;
+                    } else if (suffixLength > 0 && length > 0) {
+                        ranges.add(new ByteRange(Math.max(0, length - suffixLength), length - 1));
+                    }
+                } else {
+                    long start = Long.parseLong(first);
+                    long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                    if (start < 0 || end < start) {
+                        return null;
+                    } else if (start < length) {
+                        ranges.add(new ByteRange(start, Math.min(end, length - 1)));
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return ranges;
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long getEnd() {
+        return end;
+    }
+
+    long getCount() {
+        return end - start + 1;
+    }
+
+    /**
+     * @param length the length of the resource.
+     * @return the Content-Range header value of this range.
+     */
+    String toContentRange(long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+}
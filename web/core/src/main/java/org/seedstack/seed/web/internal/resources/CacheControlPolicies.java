@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.seedstack.seed.web.WebConfig;
+
+/**
+ * Compiled Cache-Control policies of static resources, resolving the Cache-Control header value of a resource from its
+ * path. Fingerprinted resources are always cached for a year without revalidation.
+ */
+class CacheControlPolicies {
+    static final String FINGERPRINTED = "max-age=31536000, immutable";
+    private final List<Policy> policies = new ArrayList<>();
+    private final ResourceManifest resourceManifest;
+
+    CacheControlPolicies(List<WebConfig.StaticResourcesConfig.CacheControlConfig> cacheControlConfigs,
+            ResourceManifest resourceManifest) {
+        this.resourceManifest = resourceManifest;
+        for (WebConfig.StaticResourcesConfig.CacheControlConfig cacheControlConfig : cacheControlConfigs) {
+            policies.add(new Policy(Pattern.compile(cacheControlConfig.getPattern()),
+                    buildHeaderValue(cacheControlConfig)));
+        }
+    }
+
+    /**
+     * Returns the Cache-Control header value of a fingerprinted resource or of the first policy matching the path.
+     *
+     * @param path the path of the resource.
+     * @return the header value or null if no policy applies.
+     */
+    String resolve(String path) {
+        if (resourceManifest != null && resourceManifest.isFingerprinted(path)) {
+            return FINGERPRINTED;
+        }
+        for (Policy policy : policies) {
+            if (policy.pattern.matcher(path).matches()) {
+                return policy.headerValue;
+            }
+        }
+        return null;
+    }
+
+    private String buildHeaderValue(WebConfig.StaticResourcesConfig.CacheControlConfig cacheControlConfig) {
+        if (cacheControlConfig.getMaxAge() > 0) {
+            return "max-age=" + cacheControlConfig.getMaxAge()
+                    + (cacheControlConfig.isImmutable() ? ", immutable" : "");
+        } else {
+            return "no-cache";
+        }
+    }
+
+    private static class Policy {
+        private final Pattern pattern;
+        private final String headerValue;
+
+        private Policy(Pattern pattern, String headerValue) {
+            this.pattern = pattern;
+            this.headerValue = headerValue;
+        }
+    }
+}
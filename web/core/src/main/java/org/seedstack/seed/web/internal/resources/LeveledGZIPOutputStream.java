@@ -0,0 +1,22 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A gzip output stream with a configurable compression level.
+ */
+public class LeveledGZIPOutputStream extends GZIPOutputStream {
+    public LeveledGZIPOutputStream(OutputStream out, int size, int level) throws IOException {
+        super(out, size);
+        def.setLevel(level);
+    }
+}
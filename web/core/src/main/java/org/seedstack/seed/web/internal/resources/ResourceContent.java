@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import org.seedstack.seed.web.spi.DirectOutput;
+
+/**
+ * Immutable contents of a static resource, as kept in the {@link ResourceContentCache}. The contents are held in a
+ * heap buffer for small resources and in a direct buffer for large ones. A gzipped variant is computed once when the
+ * resource is compressible. Resources too large to be cached only hold their entity tag and must be read from their URL
+ * on each request. When content caching is disabled, nothing is known about resources, which are represented by
+ * {@link #STREAMED}. Contents read from a file remember its path and modification time, so they can be checked against
+ * the file before being served.
+ */
+class ResourceContent {
+    static final ResourceContent STREAMED = new ResourceContent(null, null, null, -1, null, -1, 0);
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    private static final int OVERHEAD = 128;
+    private final ByteBuffer data;
+    private final byte[] gzippedData;
+    private final String hash;
+    private final long length;
+    private final Path path;
+    private final long fileSize;
+    private final long lastModified;
+
+    ResourceContent(ByteBuffer data, byte[] gzippedData, String hash) {
+        this(data, gzippedData, hash, data.remaining(), null, -1, 0);
+    }
+
+    private ResourceContent(ByteBuffer data, byte[] gzippedData, String hash, long length, Path path, long fileSize,
+            long lastModified) {
+        this.data = data;
+        this.gzippedData = gzippedData;
+        this.hash = hash;
+        this.length = length;
+        this.path = path;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+    }
+
+    static ResourceContent streamed(String hash, long length) {
+        return new ResourceContent(null, null, hash, length, null, -1, 0);
+    }
+
+    /**
+     * Returns the same contents, bound to the file they have been read from.
+     *
+     * @param path         the path of the file.
+     * @param fileSize     the size of the file before it was read.
+     * @param lastModified the modification time of the file before it was read, in milliseconds.
+     * @return the contents bound to the file.
+     */
+    ResourceContent readFrom(Path path, long fileSize, long lastModified) {
+        return new ResourceContent(data, gzippedData, hash, length, path, fileSize, lastModified);
+    }
+
+    /**
+     * @return the path of the file the contents have been read from or null if they don't come from a file.
+     */
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the size of the file the contents have been read from, before it was read.
+     */
+    long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * @return the modification time in milliseconds of the file the contents have been read from, before it was read.
+     */
+    long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return true if the contents are held in cache, false if they must be streamed from the resource URL.
+     */
+    boolean isCached() {
+        return data != null;
+    }
+
+    /**
+     * Returns the strong entity tag of a representation of the resource, computed from the hash of its contents.
+     *
+     * @param gzipped true for the representation gzipped on-the-fly, false for the resource as-is.
+     * @return the quoted entity tag or null if the contents hash is unknown.
+     */
+    String getETag(boolean gzipped) {
+        if (hash == null) {
+            return null;
+        }
+        return "\"" + hash + (gzipped ? GZIP_ETAG_SUFFIX : "") + "\"";
+    }
+
+    /**
+     * @return the length of the resource in bytes, -1 if unknown.
+     */
+    long getLength() {
+        return length;
+    }
+
+    boolean hasGzippedVariant() {
+        return gzippedData != null;
+    }
+
+    long getGzippedLength() {
+        return gzippedData.length;
+    }
+
+    /**
+     * Writes the contents to the output stream. Heap contents are written directly, without intermediate copy.
+     *
+     * @param outputStream the output stream to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeTo(OutputStream outputStream) throws IOException {
+        writeTo(outputStream, 0, data.remaining(), null);
+    }
+
+    /**
+     * Writes a range of the contents to the output stream. Off-heap contents are given to the direct output if any.
+     *
+     * @param outputStream the output stream to write to.
+     * @param start        the index of the first byte to write.
+     * @param count        the number of bytes to write.
+     * @param directOutput the container-specific output or null if not available.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeTo(OutputStream outputStream, long start, long count, DirectOutput directOutput) throws IOException {
+        if (data.hasArray()) {
+            outputStream.write(data.array(), data.arrayOffset() + data.position() + (int) start, (int) count);
+        } else {
+            ByteBuffer view = data.duplicate();
+            ((Buffer) view).position(view.position() + (int) start);
+            ((Buffer) view).limit(view.position() + (int) count);
+            if (directOutput == null || !directOutput.write(view, outputStream)) {
+                WritableByteChannel channel = Channels.newChannel(outputStream);
+                while (view.hasRemaining()) {
+                    channel.write(view);
+                }
+            }
+        }
+    }
+
+    void writeGzippedTo(OutputStream outputStream) throws IOException {
+        outputStream.write(gzippedData);
+    }
+
+    /**
+     * @return the approximate number of bytes retained by these contents.
+     */
+    int weight() {
+        return OVERHEAD + (data == null ? 0 : data.remaining()) + (gzippedData == null ? 0 : gzippedData.length);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ExecutionException;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.web.ResourceInfo;
+import org.seedstack.seed.web.WebConfig;
+import org.seedstack.seed.web.WebResourceResolver;
+import org.seedstack.seed.web.internal.WebErrorCode;
+
+/**
+ * Cache of static resource contents bounded by their total size in bytes. Contents are loaded once, along with their
+ * gzipped variant if the resource is compressible, and served from memory afterwards. Resources larger than the
+ * configured maximum resource size are not kept in cache but their contents hash is, so they can still be validated
+ * with their entity tag. Contents are always copied in memory, never mapped. When resources are watched, those coming
+ * from a file are also reloaded when its size or modification time changes. Otherwise cached contents are served
+ * without touching the file system until they are invalidated.
+ */
+class ResourceContentCache {
+    private static final int MAX_CONCURRENCY_LEVEL = 4;
+    private static final int HASH_BYTES = 16;
+    private static final HashFunction HASH_FUNCTION = Hashing.sha256();
+    private final WebResourceResolver webResourceResolver;
+    private final int bufferSize;
+    private final int maxResourceSize;
+    private final int directThreshold;
+    private final int compressionLevel;
+    private final boolean checkFiles;
+    private final Cache<ResourceInfo, ResourceContent> cache;
+
+    ResourceContentCache(WebResourceResolver webResourceResolver,
+            WebConfig.StaticResourcesConfig staticResourcesConfig) {
+        WebConfig.StaticResourcesConfig.CacheConfig cacheConfig = staticResourcesConfig.cacheConfig();
+        this.webResourceResolver = webResourceResolver;
+        this.bufferSize = staticResourcesConfig.getBufferSize();
+        this.maxResourceSize = cacheConfig.getMaxResourceSize();
+        this.directThreshold = cacheConfig.getDirectThreshold();
+        this.compressionLevel = staticResourcesConfig.getCompressionLevel();
+        this.checkFiles = staticResourcesConfig.indexConfig().isWatch();
+        if (cacheConfig.getMaxContentSize() > 0) {
+            // each cache segment must be able to hold the largest cacheable resource
+            long segments = cacheConfig.getMaxContentSize() / Math.max(1, maxResourceSize);
+            this.cache = CacheBuilder.newBuilder()
+                    .concurrencyLevel((int) Math.max(1, Math.min(MAX_CONCURRENCY_LEVEL, segments)))
+                    .maximumWeight(cacheConfig.getMaxContentSize())
+                    .weigher((ResourceInfo resourceInfo, ResourceContent content) -> content.weight())
+                    .build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns the contents of a resource, loading them on first access and, when resources are watched, reloading them
+     * if their file has changed.
+     *
+     * @param resourceInfo the resource.
+     * @return the resource contents, {@link ResourceContent#STREAMED} if they are not cached.
+     */
+    ResourceContent get(ResourceInfo resourceInfo) {
+        if (cache == null) {
+            return ResourceContent.STREAMED;
+        }
+        try {
+            ResourceContent resourceContent = cache.get(resourceInfo, () -> load(resourceInfo));
+            if (checkFiles && !isUpToDate(resourceContent)) {
+                cache.asMap().remove(resourceInfo, resourceContent);
+                resourceContent = cache.get(resourceInfo, () -> load(resourceInfo));
+            }
+            return resourceContent;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw SeedException.wrap(e.getCause(), WebErrorCode.UNABLE_TO_LOAD_RESOURCE_CONTENT)
+                    .put("url", resourceInfo.getUrl());
+        }
+    }
+
+    /**
+     * Discards all cached contents, which will be reloaded on next access.
+     */
+    void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Checks that contents read from a file still match it. A file rewritten since it was read is detected by its
+     * size or modification time.
+     *
+     * @param resourceContent the resource contents.
+     * @return true if the contents don't come from a file or if the file hasn't changed since it was read.
+     */
+    private boolean isUpToDate(ResourceContent resourceContent) {
+        Path path = resourceContent.getPath();
+        if (path == null) {
+            return true;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.size() == resourceContent.getFileSize()
+                    && attributes.lastModifiedTime().toMillis() == resourceContent.getLastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private ResourceContent load(ResourceInfo resourceInfo) throws IOException {
+        URL url = resourceInfo.getUrl();
+        Path path = toPath(url);
+        if (path != null) {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return loadFile(resourceInfo, path, attributes.size())
+                    .readFrom(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+        } else {
+            URLConnection connection = url.openConnection();
+            try (InputStream is = connection.getInputStream()) {
+                long size = connection.getContentLengthLong();
+                if (size < 0 || size > maxResourceSize) {
+                    return streamed(is);
+                }
+                return cached(resourceInfo, ByteBuffer.wrap(ByteStreams.toByteArray(is)));
+            }
+        }
+    }
+
+    private ResourceContent loadFile(ResourceInfo resourceInfo, Path path, long size) throws IOException {
+        if (size > maxResourceSize) {
+            try (InputStream is = Files.newInputStream(path)) {
+                return streamed(is);
+            }
+        }
+        // large contents are read directly off-heap, without intermediate copy
+        ByteBuffer data = size >= directThreshold ? ByteBuffer.allocateDirect((int) size)
+                : ByteBuffer.allocate((int) size);
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (data.hasRemaining()) {
+                if (fileChannel.read(data) == -1) {
+                    // the file has been truncated in the meantime, it will be reloaded on next access
+                    break;
+                }
+            }
+        }
+        ((Buffer) data).flip();
+        return cached(resourceInfo, data);
+    }
+
+    private ResourceContent cached(ResourceInfo resourceInfo, ByteBuffer data) throws IOException {
+        return new ResourceContent(data,
+                webResourceResolver.isCompressible(resourceInfo) ? gzip(data) : null,
+                encodeHash(HASH_FUNCTION.hashBytes(data.duplicate()).asBytes()));
+    }
+
+    private ResourceContent streamed(InputStream is) throws IOException {
+        CountingInputStream countingInputStream = new CountingInputStream(is);
+        String hash = hashStream(countingInputStream);
+        return ResourceContent.streamed(hash, countingInputStream.getCount());
+    }
+
+    private String hashStream(InputStream is) throws IOException {
+        Hasher hasher = HASH_FUNCTION.newHasher();
+        byte[] buffer = new byte[bufferSize];
+        int readBytes = is.read(buffer);
+        while (readBytes != -1) {
+            hasher.putBytes(buffer, 0, readBytes);
+            readBytes = is.read(buffer);
+        }
+        return encodeHash(hasher.hash().asBytes());
+    }
+
+    private String encodeHash(byte[] hash) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, HASH_BYTES));
+    }
+
+    private byte[] gzip(ByteBuffer data) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(data.remaining() / 2);
+        try (OutputStream os = new LeveledGZIPOutputStream(baos, bufferSize, compressionLevel)) {
+            new ResourceContent(data, null, null).writeTo(os);
+        }
+        return baos.toByteArray();
+    }
+
+    /**
+     * @param url the URL of a resource.
+     * @return the file system path of the resource or null if it doesn't come from the file system.
+     */
+    static Path toPath(URL url) {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return Paths.get(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
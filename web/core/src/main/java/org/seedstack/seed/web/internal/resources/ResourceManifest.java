@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.web.internal.WebErrorCode;
+
+/**
+ * Manifest of fingerprinted static resources, mapping the path of each resource to the path of its copy named after
+ * a hash of its contents. It is written at build time by the static resources tool and read from the classpath at
+ * runtime, so fingerprinted resources can be referenced and cached forever.
+ */
+public class ResourceManifest {
+    /**
+     * The location of the manifest in the classpath.
+     */
+    public static final String LOCATION = "META-INF/web-resources.properties";
+    private final Map<String, String> fingerprintedPaths = new ConcurrentSkipListMap<>();
+    private final Set<String> fingerprinted = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Loads and merges all the manifests present in the classpath.
+     *
+     * @param classLoader the class loader to load manifests from.
+     * @return the merged manifest, empty if none is present.
+     */
+    public static ResourceManifest load(ClassLoader classLoader) {
+        ResourceManifest resourceManifest = new ResourceManifest();
+        Enumeration<URL> urls;
+        try {
+            urls = classLoader.getResources(LOCATION);
+        } catch (IOException e) {
+            throw SeedException.wrap(e, WebErrorCode.UNABLE_TO_LOAD_RESOURCE_MANIFEST).put("url", LOCATION);
+        }
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            try (InputStream is = url.openStream()) {
+                resourceManifest.read(is);
+            } catch (IOException e) {
+                throw SeedException.wrap(e, WebErrorCode.UNABLE_TO_LOAD_RESOURCE_MANIFEST).put("url", url);
+            }
+        }
+        return resourceManifest;
+    }
+
+    /**
+     * Reads the manifest at the specified path if it exists.
+     *
+     * @param path the path of the manifest.
+     * @return the manifest, empty if the file doesn't exist.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static ResourceManifest load(Path path) throws IOException {
+        ResourceManifest resourceManifest = new ResourceManifest();
+        if (Files.isRegularFile(path)) {
+            try (InputStream is = Files.newInputStream(path)) {
+                resourceManifest.read(is);
+            }
+        }
+        return resourceManifest;
+    }
+
+    /**
+     * Adds a fingerprinted resource to the manifest.
+     *
+     * @param path              the path of the resource.
+     * @param fingerprintedPath the path of its fingerprinted copy.
+     */
+    public void add(String path, String fingerprintedPath) {
+        fingerprintedPaths.put(path, fingerprintedPath);
+        fingerprinted.add(fingerprintedPath);
+    }
+
+    /**
+     * @param path the path of a resource.
+     * @return the path of its fingerprinted copy or null if the resource is not fingerprinted.
+     */
+    public String getFingerprintedPath(String path) {
+        return fingerprintedPaths.get(path);
+    }
+
+    /**
+     * @param path the path of a resource.
+     * @return true if the resource is a fingerprinted copy, whose contents never change.
+     */
+    public boolean isFingerprinted(String path) {
+        return fingerprinted.contains(path);
+    }
+
+    /**
+     * @return the paths of all the fingerprinted copies of the manifest.
+     */
+    public Set<String> getFingerprintedCopies() {
+        return Collections.unmodifiableSet(fingerprinted);
+    }
+
+    public int size() {
+        return fingerprintedPaths.size();
+    }
+
+    /**
+     * Writes the manifest, sorted by resource path for reproducible builds.
+     *
+     * @param path the path of the manifest file.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void store(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# Fingerprinted static resources\n");
+            for (Map.Entry<String, String> entry : fingerprintedPaths.entrySet()) {
+                writer.write(escape(entry.getKey()));
+                writer.write('=');
+                writer.write(escape(entry.getValue()));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void read(InputStream is) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String path : properties.stringPropertyNames()) {
+            add(path, properties.getProperty(path));
+        }
+    }
+
+    private String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '\\' || c == '=' || c == ':' || c == ' ' || c == '#' || c == '!') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -10,17 +10,26 @@ package org.seedstack.seed.web.internal.resources;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.io.ByteStreams;
 import com.google.inject.Injector;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.zip.GZIPOutputStream;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
@@ -35,6 +44,7 @@ import org.seedstack.seed.web.WebResourceResolver;
 import org.seedstack.seed.web.WebResourceResolverFactory;
 import org.seedstack.seed.web.internal.ServletContextUtils;
 import org.seedstack.seed.web.internal.WebErrorCode;
+import org.seedstack.seed.web.spi.DirectOutput;
 
 /**
  * This web resource filter provides automatic static resource serving from the classpath and the docroot with some
@@ -42,21 +52,42 @@ import org.seedstack.seed.web.internal.WebErrorCode;
  * <p>
  * <ul>
  * <li>Multiples locations can be aggregated and served under the same path,</li>
- * <li>Automatic serving of pre-minified and/or pre-gzipped versions of resources,</li>
- * <li>On-the-fly gzipping of resources,</li>
- * <li>Cache friendly.</li>
+ * <li>Automatic serving of pre-minified and/or pre-compressed (gzip, Brotli, Zstandard) versions of resources,
+ * negotiated from the Accept-Encoding quality values,</li>
+ * <li>On-the-fly gzipping of resources with a configurable compression level,</li>
+ * <li>In-memory caching of resource contents and of their gzipped variant,</li>
+ * <li>Cache friendly: strong entity tags computed from contents and configurable Cache-Control policies,</li>
+ * <li>Byte range requests, with zero-copy transfer of large resources when supported by the container.</li>
  * </ul>
  */
 public class WebResourcesFilter implements Filter {
     private static final String HEADER_IFMODSINCE = "If-Modified-Since";
+    private static final String HEADER_IFNONEMATCH = "If-None-Match";
     private static final String HEADER_LASTMOD = "Last-Modified";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String HEADER_VARY = "Vary";
+    private static final String HEADER_RANGE = "Range";
+    private static final String HEADER_IFRANGE = "If-Range";
+    private static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+    private static final String HEADER_CONTENT_LENGTH = "Content-Length";
+    private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    private static final String CRLF = "\r\n";
+    private static final String WEAK_ETAG_PREFIX = "W/";
     private static final String WEB_INF = "/WEB-INF/";
     private static final String SLASH = "/";
 
     private int bufferSize;
-    private LoadingCache<ResourceRequest, Optional<ResourceInfo>> resourceInfoCache;
+    private int compressionLevel;
+    private List<String> supportedEncodings;
+    private LoadingCache<ResourceRequest, Optional<StaticResource>> resourceInfoCache;
+    private ResourceContentCache resourceContentCache;
+    private CacheControlPolicies cacheControlPolicies;
     private long servletInitTime;
     private WebResourceResolver webResourceResolver;
+    private DirectOutput directOutput;
+    private WebResourcesIndex index;
 
     @Override
     public void init(FilterConfig config) throws ServletException {
@@ -65,6 +96,8 @@ public class WebResourcesFilter implements Filter {
                 Application.class).getConfiguration().get(WebConfig.class).staticResources();
 
         this.bufferSize = staticResourcesConfig.getBufferSize();
+        this.compressionLevel = staticResourcesConfig.getCompressionLevel();
+        this.supportedEncodings = WebResourcesResolverImpl.supportedEncodings(staticResourcesConfig);
 
         // round the time to nearest second for proper comparison with If-Modified-Since header
         this.servletInitTime = System.currentTimeMillis() / 1000L * 1000L;
@@ -74,15 +107,38 @@ public class WebResourcesFilter implements Filter {
                 .maximumSize(cacheConfig.getMaxSize())
                 .concurrencyLevel(cacheConfig.getConcurrencyLevel())
                 .initialCapacity(cacheConfig.getInitialSize())
-                .build(new CacheLoader<ResourceRequest, Optional<ResourceInfo>>() {
+                .build(new CacheLoader<ResourceRequest, Optional<StaticResource>>() {
                     @Override
-                    public Optional<ResourceInfo> load(ResourceRequest key) {
-                        return java.util.Optional.ofNullable(webResourceResolver.resolveResourceInfo(key));
+                    public Optional<StaticResource> load(ResourceRequest key) {
+                        return resolveStaticResource(key);
                     }
                 });
 
         this.webResourceResolver = injector.getInstance(WebResourceResolverFactory.class).createWebResourceResolver(
                 config.getServletContext());
+        this.resourceContentCache = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+
+        ResourceManifest resourceManifest = null;
+        if (webResourceResolver instanceof WebResourcesResolverImpl) {
+            WebResourcesResolverImpl webResourcesResolverImpl = (WebResourcesResolverImpl) webResourceResolver;
+            resourceManifest = webResourcesResolverImpl.getResourceManifest();
+            // indexed resources are resolved cheaply, so only existing ones are kept in cache
+            this.index = webResourcesResolverImpl.getIndex();
+            if (this.index != null) {
+                this.index.addChangeListener(() -> {
+                    resourceInfoCache.invalidateAll();
+                    resourceContentCache.invalidateAll();
+                });
+            }
+        }
+        this.cacheControlPolicies = new CacheControlPolicies(staticResourcesConfig.getCacheControl(),
+                resourceManifest);
+
+        // zero-copy transfer if the container provides it
+        Object directOutputAttribute = config.getServletContext().getAttribute(DirectOutput.ATTRIBUTE_NAME);
+        if (directOutputAttribute instanceof DirectOutput) {
+            this.directOutput = (DirectOutput) directOutputAttribute;
+        }
     }
 
     @Override
@@ -92,42 +148,73 @@ public class WebResourcesFilter implements Filter {
             HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
             HttpServletResponse httpServletResponse = (HttpServletResponse) servletResponse;
             String path = httpServletRequest.getRequestURI().substring(httpServletRequest.getContextPath().length());
-            String acceptEncodingHeader = httpServletRequest.getHeader("Accept-Encoding");
-            boolean acceptGzip = acceptEncodingHeader != null && acceptEncodingHeader.contains("gzip");
+            List<String> acceptedEncodings = AcceptEncoding.negotiate(
+                    httpServletRequest.getHeader("Accept-Encoding"), supportedEncodings);
+            boolean acceptGzip = acceptedEncodings.contains(AcceptEncoding.GZIP);
 
             if (path.isEmpty() || path.endsWith(SLASH) || path.startsWith(WEB_INF)) {
                 filterChain.doFilter(servletRequest, servletResponse);
             } else {
                 // Find resource
-                Optional<ResourceInfo> optionalResourceInfo;
+                Optional<StaticResource> optionalStaticResource;
                 try {
-                    optionalResourceInfo = resourceInfoCache.get(new ResourceRequest(path, acceptGzip));
+                    optionalStaticResource = findStaticResource(new ResourceRequest(path, acceptedEncodings));
                 } catch (ExecutionException e) {
                     throw SeedException.wrap(e, WebErrorCode.UNABLE_TO_DETERMINE_RESOURCE_INFO).put("path", path);
                 }
 
-                if (!optionalResourceInfo.isPresent()) {
+                if (!optionalStaticResource.isPresent()) {
                     filterChain.doFilter(servletRequest, servletResponse);
                 } else {
-                    long ifModifiedSince = ((HttpServletRequest) servletRequest).getDateHeader(HEADER_IFMODSINCE);
-                    if (ifModifiedSince < servletInitTime) {
-                        // Set last modified header
-                        httpServletResponse.setDateHeader(HEADER_LASTMOD, servletInitTime);
+                    StaticResource staticResource = optionalStaticResource.get();
+                    ResourceInfo resourceInfo = staticResource.resourceInfo;
+                    ResourceContent resourceContent = resourceContentCache.get(resourceInfo);
+                    String rangeHeader = httpServletRequest.getHeader(HEADER_RANGE);
+                    // range requests are served from the identity representation
+                    boolean gzipOnTheFly = acceptGzip && rangeHeader == null && (resourceContent.isCached() ?
+                            resourceContent.hasGzippedVariant() : webResourceResolver.isCompressible(resourceInfo));
+                    long length = gzipOnTheFly ? -1 : resourceContent.getLength();
 
-                        // Prepare response
-                        ResourceInfo resourceInfo = optionalResourceInfo.get();
-                        httpServletResponse.setContentType(resourceInfo.getContentType());
-                        ResourceData resourceData = prepareResourceData(resourceInfo, acceptGzip);
-                        if (resourceData.gzipped) {
-                            httpServletResponse.addHeader("Content-Encoding", "gzip");
-                        }
-                        httpServletResponse.addHeader("Content-Length", Integer.toString(resourceData.data.length));
+                    // Set validation and caching headers
+                    String etag = resourceContent.getETag(gzipOnTheFly);
+                    if (etag != null) {
+                        httpServletResponse.setHeader(HEADER_ETAG, etag);
+                    }
+                    httpServletResponse.setDateHeader(HEADER_LASTMOD, servletInitTime);
+                    httpServletResponse.setHeader(HEADER_VARY, "Accept-Encoding");
+                    if (staticResource.cacheControl != null) {
+                        httpServletResponse.setHeader(HEADER_CACHE_CONTROL, staticResource.cacheControl);
+                    }
+                    if (length >= 0) {
+                        httpServletResponse.setHeader(HEADER_ACCEPT_RANGES, "bytes");
+                    }
 
-                        // Write data
-                        httpServletResponse.getOutputStream().write(resourceData.data);
-                    } else {
+                    if (isNotModified(httpServletRequest, etag)) {
                         // Send that resource was not modified
                         httpServletResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    } else {
+                        // Send response
+                        httpServletResponse.setContentType(resourceInfo.getContentType());
+                        List<ByteRange> ranges = null;
+                        if (length >= 0 && rangeHeader != null && isRangeApplicable(httpServletRequest, etag)) {
+                            ranges = ByteRange.parse(rangeHeader, length);
+                        }
+                        if (ranges == null) {
+                            if (length >= 0) {
+                                sendContent(httpServletResponse, resourceInfo, resourceContent);
+                            } else if (resourceContent.isCached()) {
+                                sendGzippedContent(httpServletResponse, resourceContent);
+                            } else {
+                                sendStreamedContent(httpServletResponse, resourceInfo, gzipOnTheFly);
+                            }
+                        } else if (ranges.isEmpty()) {
+                            // Send that no range is satisfiable
+                            httpServletResponse.setContentType(null);
+                            httpServletResponse.setHeader(HEADER_CONTENT_RANGE, "bytes */" + length);
+                            httpServletResponse.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                        } else {
+                            sendRanges(httpServletResponse, resourceInfo, resourceContent, ranges);
+                        }
                     }
                 }
             }
@@ -138,52 +225,183 @@ public class WebResourcesFilter implements Filter {
 
     @Override
     public void destroy() {
-        // nothing to do here
+        // the index is closed by the plugin
     }
 
-    private ResourceData prepareResourceData(ResourceInfo resourceInfo, boolean acceptGzip) throws IOException {
-        boolean gzippedOnTheFly = false;
-        OutputStream os;
-        ByteArrayOutputStream baos;
-        if (acceptGzip && webResourceResolver.isCompressible(resourceInfo)) {
-            baos = new ByteArrayOutputStream();
-            os = new GZIPOutputStream(baos);
-            gzippedOnTheFly = true;
+    private Optional<StaticResource> findStaticResource(ResourceRequest resourceRequest) throws ExecutionException {
+        if (index == null) {
+            return resourceInfoCache.get(resourceRequest);
+        }
+        // unknown paths are not cached to avoid evicting existing resources
+        Optional<StaticResource> staticResource = resourceInfoCache.getIfPresent(resourceRequest);
+        if (staticResource == null) {
+            staticResource = resolveStaticResource(resourceRequest);
+            if (staticResource.isPresent()) {
+                resourceInfoCache.put(resourceRequest, staticResource);
+            }
+        }
+        return staticResource;
+    }
+
+    private Optional<StaticResource> resolveStaticResource(ResourceRequest resourceRequest) {
+        return Optional.ofNullable(webResourceResolver.resolveResourceInfo(resourceRequest))
+                .map(resourceInfo -> new StaticResource(resourceInfo,
+                        cacheControlPolicies.resolve(resourceRequest.getPath())));
+    }
+
+    private boolean isNotModified(HttpServletRequest httpServletRequest, String etag) {
+        String ifNoneMatch = httpServletRequest.getHeader(HEADER_IFNONEMATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since and uses weak comparison
+            for (String candidate : ifNoneMatch.split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.startsWith(WEAK_ETAG_PREFIX)) {
+                    trimmed = trimmed.substring(WEAK_ETAG_PREFIX.length());
+                }
+                if ("*".equals(trimmed) || trimmed.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
         } else {
-            os = baos = new ByteArrayOutputStream();
+            return httpServletRequest.getDateHeader(HEADER_IFMODSINCE) >= servletInitTime;
         }
+    }
+
+    private boolean isRangeApplicable(HttpServletRequest httpServletRequest, String etag) {
+        String ifRange = httpServletRequest.getHeader(HEADER_IFRANGE);
+        if (ifRange == null) {
+            return true;
+        } else if (ifRange.startsWith("\"") || ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            // If-Range uses strong comparison
+            return ifRange.equals(etag);
+        } else {
+            return httpServletRequest.getDateHeader(HEADER_IFRANGE) == servletInitTime;
+        }
+    }
 
-        // Copy data
-        InputStream is = null;
-        try {
-            is = resourceInfo.getUrl().openStream();
+    private void sendContent(HttpServletResponse httpServletResponse, ResourceInfo resourceInfo,
+            ResourceContent resourceContent) throws IOException {
+        if (resourceInfo.getEncoding() != null) {
+            httpServletResponse.addHeader(HEADER_CONTENT_ENCODING, resourceInfo.getEncoding());
+        }
+        long length = resourceContent.getLength();
+        httpServletResponse.addHeader(HEADER_CONTENT_LENGTH, Long.toString(length));
+        sendRange(httpServletResponse.getOutputStream(), resourceInfo, resourceContent, 0, length);
+    }
+
+    private void sendGzippedContent(HttpServletResponse httpServletResponse,
+            ResourceContent resourceContent) throws IOException {
+        httpServletResponse.addHeader(HEADER_CONTENT_ENCODING, "gzip");
+        httpServletResponse.addHeader(HEADER_CONTENT_LENGTH, Long.toString(resourceContent.getGzippedLength()));
+        resourceContent.writeGzippedTo(httpServletResponse.getOutputStream());
+    }
+
+    private void sendRanges(HttpServletResponse httpServletResponse, ResourceInfo resourceInfo,
+            ResourceContent resourceContent, List<ByteRange> ranges) throws IOException {
+        long length = resourceContent.getLength();
+        httpServletResponse.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (resourceInfo.getEncoding() != null) {
+            httpServletResponse.addHeader(HEADER_CONTENT_ENCODING, resourceInfo.getEncoding());
+        }
+        ServletOutputStream outputStream = httpServletResponse.getOutputStream();
+        if (ranges.size() == 1) {
+            ByteRange range = ranges.get(0);
+            httpServletResponse.setHeader(HEADER_CONTENT_RANGE, range.toContentRange(length));
+            httpServletResponse.addHeader(HEADER_CONTENT_LENGTH, Long.toString(range.getCount()));
+            sendRange(outputStream, resourceInfo, resourceContent, range.getStart(), range.getCount());
+        } else {
+            // Multipart response, with its length computed upfront from the part headers
+            String boundary = UUID.randomUUID().toString();
+            List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+            long contentLength = 0;
+            for (ByteRange range : ranges) {
+                StringBuilder sb = new StringBuilder(CRLF).append("--").append(boundary).append(CRLF);
+                if (resourceInfo.getContentType() != null) {
+                    sb.append("Content-Type: ").append(resourceInfo.getContentType()).append(CRLF);
+                }
+                sb.append("Content-Range: ").append(range.toContentRange(length)).append(CRLF).append(CRLF);
+                byte[] partHeader = sb.toString().getBytes(StandardCharsets.ISO_8859_1);
+                partHeaders.add(partHeader);
+                contentLength += partHeader.length + range.getCount();
+            }
+            byte[] closingBoundary = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.ISO_8859_1);
+            contentLength += closingBoundary.length;
+
+            httpServletResponse.setContentType("multipart/byteranges; boundary=" + boundary);
+            httpServletResponse.addHeader(HEADER_CONTENT_LENGTH, Long.toString(contentLength));
+            for (int i = 0; i < ranges.size(); i++) {
+                ByteRange range = ranges.get(i);
+                outputStream.write(partHeaders.get(i));
+                sendRange(outputStream, resourceInfo, resourceContent, range.getStart(), range.getCount());
+            }
+            outputStream.write(closingBoundary);
+        }
+    }
+
+    private void sendRange(OutputStream outputStream, ResourceInfo resourceInfo, ResourceContent resourceContent,
+            long start, long count) throws IOException {
+        if (resourceContent.isCached()) {
+            resourceContent.writeTo(outputStream, start, count, directOutput);
+            return;
+        }
+        Path path = ResourceContentCache.toPath(resourceInfo.getUrl());
+        if (path != null) {
+            try (FileChannel fileChannel = FileChannel.open(path)) {
+                fileChannel.position(start);
+                // Only whole file tails can be transferred directly
+                if (start + count != fileChannel.size() || directOutput == null
+                        || !directOutput.transferFrom(fileChannel, outputStream)) {
+                    ByteStreams.copy(ByteStreams.limit(Channels.newInputStream(fileChannel), count), outputStream);
+                }
+            }
+        } else {
+            try (InputStream is = resourceInfo.getUrl().openStream()) {
+                ByteStreams.skipFully(is, start);
+                ByteStreams.copy(ByteStreams.limit(is, count), outputStream);
+            }
+        }
+    }
+
+    private void sendStreamedContent(HttpServletResponse httpServletResponse, ResourceInfo resourceInfo,
+            boolean gzipOnTheFly) throws IOException {
+        URLConnection connection = resourceInfo.getUrl().openConnection();
+        try (InputStream is = connection.getInputStream()) {
+            OutputStream os;
+            if (gzipOnTheFly) {
+                httpServletResponse.addHeader(HEADER_CONTENT_ENCODING, "gzip");
+                os = new LeveledGZIPOutputStream(httpServletResponse.getOutputStream(), bufferSize, compressionLevel);
+            } else {
+                if (resourceInfo.getEncoding() != null) {
+                    httpServletResponse.addHeader(HEADER_CONTENT_ENCODING, resourceInfo.getEncoding());
+                }
+                long contentLength = connection.getContentLengthLong();
+                if (contentLength >= 0) {
+                    httpServletResponse.addHeader(HEADER_CONTENT_LENGTH, Long.toString(contentLength));
+                }
+                os = httpServletResponse.getOutputStream();
+            }
+
+            // Copy data
             byte[] buffer = new byte[bufferSize];
             int readBytes = is.read(buffer);
             while (readBytes != -1) {
                 os.write(buffer, 0, readBytes);
                 readBytes = is.read(buffer);
             }
-            os.close();
-        } finally {
-            if (is != null) {
-                try {
-                    is.close();
-                } catch (IOException e) {
-                    // nothing to do
-                }
+            if (os instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) os).finish();
             }
         }
-
-        return new ResourceData(baos.toByteArray(), resourceInfo.isGzipped() || gzippedOnTheFly);
     }
 
-    private static class ResourceData {
-        final byte[] data;
-        final boolean gzipped;
+    private static class StaticResource {
+        private final ResourceInfo resourceInfo;
+        private final String cacheControl;
 
-        ResourceData(byte[] data, boolean gzipped) { //NOSONAR
-            this.data = data;
-            this.gzipped = gzipped;
+        private StaticResource(ResourceInfo resourceInfo, String cacheControl) {
+            this.resourceInfo = resourceInfo;
+            this.cacheControl = cacheControl;
         }
     }
 }
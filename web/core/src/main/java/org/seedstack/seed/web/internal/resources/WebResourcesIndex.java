@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.servlet.ServletContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of the static resources available in the docroot and under META-INF/resources in the classpath, built once at
+ * startup by {@link WebResourcesPlugin} and shared by all resolvers. It maps each resource path to the locations it
+ * exists in, so resolving a resource only probes existing variants and looking up a missing resource costs a few hash
+ * lookups. Resources located in file system directories can optionally be watched to keep the index up-to-date during
+ * development. The docroot WEB-INF directory is never indexed.
+ */
+class WebResourcesIndex {
+    static final int DOCROOT = 1;
+    static final int CLASSPATH = 2;
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebResourcesIndex.class);
+    private static final String SLASH = "/";
+    private static final String WEB_INF = "/WEB-INF";
+    private final ConcurrentMap<String, Integer> locations = new ConcurrentHashMap<>();
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private final Map<WatchKey, WatchedDirectory> watchedDirectories = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    /**
+     * Builds the index from the docroot of the servlet context and from the resources found under META-INF/resources
+     * by the classpath scan.
+     *
+     * @param servletContext     the servlet context giving access to the docroot, can be null.
+     * @param classpathResources the paths of classpath resources, relative to META-INF/resources.
+     */
+    WebResourcesIndex(ServletContext servletContext, Set<String> classpathResources) {
+        if (servletContext != null) {
+            indexDocroot(servletContext, SLASH);
+        }
+        for (String classpathResource : classpathResources) {
+            add(classpathResource, CLASSPATH);
+        }
+        LOGGER.debug("Indexed {} static resource path(s)", locations.size());
+    }
+
+    /**
+     * @param path     the normalized path of the resource.
+     * @param location the location to check ({@link #DOCROOT} or {@link #CLASSPATH}).
+     * @return true if the resource exists in the specified location.
+     */
+    boolean contains(String path, int location) {
+        Integer found = locations.get(path);
+        return found != null && (found & location) != 0;
+    }
+
+    int size() {
+        return locations.size();
+    }
+
+    /**
+     * Registers a listener notified each time a watched resource is added, modified or removed.
+     *
+     * @param listener the listener to register.
+     */
+    void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Watches a file system directory holding resources of the specified location. Watching starts with the first
+     * directory and is done by a single daemon thread.
+     *
+     * @param root     the directory to watch recursively.
+     * @param location the location of the resources it contains.
+     * @throws IOException if the directory cannot be watched.
+     */
+    synchronized void watch(Path root, int location) throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread watcherThread = new Thread(this::processEvents, "seed-web-resources-watcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+        }
+        registerAll(watchService, root, root, location);
+        LOGGER.info("Watching static resources in {}", root);
+    }
+
+    /**
+     * Stops watching resources, if they were watched.
+     */
+    synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to close static resources watcher", e);
+            }
+            watchService = null;
+        }
+    }
+
+    private void indexDocroot(ServletContext servletContext, String directory) {
+        Set<String> paths = servletContext.getResourcePaths(directory);
+        if (paths != null) {
+            paths.parallelStream()
+                    .filter(path -> !isExcluded(path, DOCROOT))
+                    .forEach(path -> {
+                        if (path.endsWith(SLASH)) {
+                            indexDocroot(servletContext, path);
+                        } else {
+                            add(path, DOCROOT);
+                        }
+                    });
+        }
+    }
+
+    private void add(String path, int location) {
+        locations.merge(path, location, (a, b) -> a | b);
+    }
+
+    private void remove(String path, int location) {
+        locations.computeIfPresent(path, (key, found) -> (found & ~location) == 0 ? null : found & ~location);
+    }
+
+    private boolean isExcluded(String path, int location) {
+        return location == DOCROOT && (path.equals(WEB_INF) || path.startsWith(WEB_INF + SLASH));
+    }
+
+    private void registerAll(WatchService watchService, Path root, Path directory, int location) throws IOException {
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (isExcluded(toResourcePath(root, dir), location)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                WatchKey watchKey = dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                watchedDirectories.put(watchKey, new WatchedDirectory(root, dir, location));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                add(toResourcePath(root, file), location);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void processEvents() {
+        WatchService currentWatchService = watchService;
+        while (true) {
+            WatchKey watchKey;
+            try {
+                watchKey = currentWatchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+            WatchedDirectory watchedDirectory = watchedDirectories.get(watchKey);
+            if (watchedDirectory != null) {
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (event.context() instanceof Path) {
+                        processEvent(currentWatchService, watchedDirectory, event.kind(),
+                                watchedDirectory.directory.resolve((Path) event.context()));
+                    }
+                }
+                changeListeners.forEach(Runnable::run);
+            }
+            if (!watchKey.reset()) {
+                watchedDirectories.remove(watchKey);
+            }
+        }
+    }
+
+    private void processEvent(WatchService currentWatchService, WatchedDirectory watchedDirectory,
+            WatchEvent.Kind<?> kind, Path path) {
+        String resourcePath = toResourcePath(watchedDirectory.root, path);
+        if (isExcluded(resourcePath, watchedDirectory.location)) {
+            return;
+        }
+        if (kind == ENTRY_CREATE) {
+            if (Files.isDirectory(path)) {
+                try {
+                    registerAll(currentWatchService, watchedDirectory.root, path, watchedDirectory.location);
+                } catch (IOException | ClosedWatchServiceException e) {
+                    LOGGER.warn("Unable to watch static resources in {}", path, e);
+                }
+            } else {
+                add(resourcePath, watchedDirectory.location);
+            }
+        } else if (kind == ENTRY_DELETE) {
+            // the deleted path may have been a directory
+            String directoryPrefix = resourcePath + SLASH;
+            remove(resourcePath, watchedDirectory.location);
+            locations.keySet().stream()
+                    .filter(candidate -> candidate.startsWith(directoryPrefix))
+                    .forEach(candidate -> remove(candidate, watchedDirectory.location));
+        }
+        LOGGER.debug("Static resource {} changed ({})", resourcePath, kind.name());
+    }
+
+    private String toResourcePath(Path root, Path path) {
+        return SLASH + root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private static class WatchedDirectory {
+        private final Path root;
+        private final Path directory;
+        private final int location;
+
+        private WatchedDirectory(Path root, Path directory, int location) {
+            this.root = root;
+            this.directory = directory;
+            this.location = location;
+        }
+    }
+}
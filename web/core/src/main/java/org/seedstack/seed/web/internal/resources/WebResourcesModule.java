@@ -10,13 +10,25 @@ package org.seedstack.seed.web.internal.resources;
 import com.google.inject.AbstractModule;
 import com.google.inject.Scopes;
 import com.google.inject.assistedinject.FactoryModuleBuilder;
+import com.google.inject.multibindings.OptionalBinder;
 import org.seedstack.seed.web.WebResourceResolver;
 import org.seedstack.seed.web.WebResourceResolverFactory;
 
 class WebResourcesModule extends AbstractModule {
+    private final WebResourcesIndex index;
+
+    WebResourcesModule(WebResourcesIndex index) {
+        this.index = index;
+    }
+
     @Override
     protected void configure() {
         bind(WebResourcesFilter.class).in(Scopes.SINGLETON);
+        OptionalBinder<WebResourcesIndex> indexBinder = OptionalBinder.newOptionalBinder(binder(),
+                WebResourcesIndex.class);
+        if (index != null) {
+            indexBinder.setBinding().toInstance(index);
+        }
 
         install(new FactoryModuleBuilder()
                 .implement(WebResourceResolver.class, WebResourcesResolverImpl.class)
@@ -10,7 +10,19 @@ package org.seedstack.seed.web.internal.resources;
 import com.google.common.collect.Lists;
 import io.nuun.kernel.api.plugin.InitState;
 import io.nuun.kernel.api.plugin.context.InitContext;
+import io.nuun.kernel.api.plugin.request.ClasspathScanRequest;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.servlet.ServletContext;
+import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.core.internal.AbstractSeedPlugin;
 import org.seedstack.seed.web.WebConfig;
 import org.seedstack.seed.web.spi.FilterDefinition;
@@ -18,6 +30,7 @@ import org.seedstack.seed.web.spi.ListenerDefinition;
 import org.seedstack.seed.web.spi.SeedFilterPriority;
 import org.seedstack.seed.web.spi.ServletDefinition;
 import org.seedstack.seed.web.spi.WebProvider;
+import org.seedstack.shed.ClassLoaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,28 +41,87 @@ import org.slf4j.LoggerFactory;
  */
 public class WebResourcesPlugin extends AbstractSeedPlugin implements WebProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(WebResourcesPlugin.class);
+    private static final String RESOURCES_PACKAGE = "META-INF.resources";
+    private static final String RESOURCES_LOCATION = "META-INF/resources";
+    // Reflections matches the file name only, the location is checked when indexing
+    private static final String RESOURCE_REGEX = "[^.].*";
+    private static final String SLASH = "/";
+    private ServletContext servletContext;
     private WebConfig.StaticResourcesConfig staticResourcesConfig;
+    private boolean indexEnabled;
+    private WebResourcesIndex index;
 
     @Override
     public String name() {
         return "web-resources";
     }
 
+    @Override
+    public String pluginPackageRoot() {
+        if (indexEnabled) {
+            return RESOURCES_PACKAGE;
+        } else {
+            return super.pluginPackageRoot();
+        }
+    }
+
+    @Override
+    public Collection<ClasspathScanRequest> classpathScanRequests() {
+        if (indexEnabled) {
+            return classpathScanRequestBuilder()
+                    .resourcesRegex(RESOURCE_REGEX)
+                    .build();
+        } else {
+            return super.classpathScanRequests();
+        }
+    }
+
+    @Override
+    protected void setup(SeedRuntime seedRuntime) {
+        servletContext = seedRuntime.contextAs(ServletContext.class);
+        WebConfig.StaticResourcesConfig config = seedRuntime.getConfiguration()
+                .get(WebConfig.StaticResourcesConfig.class);
+        indexEnabled = config.isEnabled() && config.indexConfig().isEnabled();
+    }
+
     @Override
     public InitState initialize(InitContext initContext) {
         staticResourcesConfig = getConfiguration(WebConfig.StaticResourcesConfig.class);
+        if (indexEnabled) {
+            // resources found by the startup classpath scan are indexed along with the docroot
+            Set<String> classpathResources = initContext.mapResourcesByRegex()
+                    .get(RESOURCE_REGEX)
+                    .stream()
+                    .filter(resource -> resource.startsWith(RESOURCES_LOCATION + SLASH))
+                    .map(resource -> resource.substring(RESOURCES_LOCATION.length()))
+                    .collect(Collectors.toSet());
+            LOGGER.debug("Found {} static resource(s) in the classpath", classpathResources.size());
+
+            index = new WebResourcesIndex(servletContext, classpathResources);
+            LOGGER.info("Static resources index built with {} resource(s)", index.size());
+            if (staticResourcesConfig.indexConfig().isWatch()) {
+                watchResources();
+            }
+        }
         return InitState.INITIALIZED;
     }
 
     @Override
     public Object nativeUnitModule() {
         if (staticResourcesConfig.isEnabled()) {
-            return new WebResourcesModule();
+            return new WebResourcesModule(index);
         } else {
             return null;
         }
     }
 
+    @Override
+    public void stop() {
+        if (index != null) {
+            index.close();
+        }
+    }
+
     @Override
     public List<ServletDefinition> servlets() {
         return null;
@@ -74,4 +146,23 @@ public class WebResourcesPlugin extends AbstractSeedPlugin implements WebProvide
     public List<ListenerDefinition> listeners() {
         return null;
     }
+
+    private void watchResources() {
+        try {
+            String docroot = servletContext == null ? null : servletContext.getRealPath(SLASH);
+            if (docroot != null && Files.isDirectory(Paths.get(docroot))) {
+                index.watch(Paths.get(docroot), WebResourcesIndex.DOCROOT);
+            }
+            Enumeration<URL> classpathRoots = ClassLoaders.findMostCompleteClassLoader(WebResourcesPlugin.class)
+                    .getResources(RESOURCES_LOCATION);
+            while (classpathRoots.hasMoreElements()) {
+                Path classpathRoot = ResourceContentCache.toPath(classpathRoots.nextElement());
+                if (classpathRoot != null && Files.isDirectory(classpathRoot)) {
+                    index.watch(classpathRoot, WebResourcesIndex.CLASSPATH);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to watch static resources, changes will not be detected", e);
+        }
+    }
 }
@@ -12,9 +12,12 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -37,17 +40,21 @@ class WebResourcesResolverImpl implements WebResourceResolver {
     private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.(\\w+)$", Pattern.CASE_INSENSITIVE);
     private static final Pattern CONSECUTIVE_SLASHES_PATTERN = Pattern.compile("(/)\\1+");
     private static final String CLASSPATH_LOCATION = "META-INF/resources";
-    private static final String MINIFIED_GZIPPED_EXT_PATTERN = ".min.$1.gz";
-    private static final String GZIPPED_EXT_PATTERN = ".$1.gz";
+    private static final String EXT_PATTERN = ".$1";
     private static final String MINIFIED_EXT_PATTERN = ".min.$1";
+    private static final Map<String, String> ENCODED_EXTENSIONS;
     private final boolean serveMinifiedResources;
     private final boolean serveGzippedResources;
+    private final List<String> supportedEncodings;
     private final boolean onTheFlyGzipping;
     private final ClassLoader classLoader;
     private final ServletContext servletContext;
+    private final WebResourcesIndex index;
+    private final ResourceManifest resourceManifest;
 
     @Inject
-    WebResourcesResolverImpl(final Application application, @Assisted ServletContext servletContext) {
+    WebResourcesResolverImpl(final Application application, Optional<WebResourcesIndex> index,
+            @Assisted ServletContext servletContext) {
         WebConfig.StaticResourcesConfig staticResourcesConfig = application.getConfiguration().get(
                 WebConfig.class).staticResources();
         this.servletContext = servletContext;
@@ -55,6 +62,13 @@ class WebResourcesResolverImpl implements WebResourceResolver {
         this.serveMinifiedResources = staticResourcesConfig.isMinificationEnabled();
         this.serveGzippedResources = staticResourcesConfig.isGzipEnabled();
         this.onTheFlyGzipping = staticResourcesConfig.isOnTheFlyGzipEnabled();
+        this.supportedEncodings = supportedEncodings(staticResourcesConfig);
+        this.index = index.orElse(null);
+
+        this.resourceManifest = ResourceManifest.load(classLoader);
+        if (resourceManifest.size() > 0) {
+            LOGGER.info("{} fingerprinted static resource(s) found in manifest", resourceManifest.size());
+        }
     }
 
     @Override
@@ -80,55 +94,56 @@ class WebResourcesResolverImpl implements WebResourceResolver {
         }
 
         Matcher matcher = EXTENSION_PATTERN.matcher(normalizedPath);
-        URL resourceUrl;
+        // encoded variants are only looked up for resources with an extension
+        List<String> encodings = matcher.find() ? acceptedEncodings(resourceRequest) : Collections.emptyList();
 
         // search in docroot first (and META-INF/resources if servlet version is >= 3.0)
         try {
-            if (resourceRequest.isAcceptGzip() && serveGzippedResources) {
-                resourceUrl = this.servletContext.getResource(matcher.replaceAll(MINIFIED_GZIPPED_EXT_PATTERN));
-                if (serveMinifiedResources && resourceUrl != null) {
-                    return new ResourceInfo(resourceUrl, true, contentType);
-                }
-
-                resourceUrl = this.servletContext.getResource(matcher.replaceAll(GZIPPED_EXT_PATTERN));
-                if (resourceUrl != null) {
-                    return new ResourceInfo(resourceUrl, true, contentType);
-                }
-            }
-
-            resourceUrl = this.servletContext.getResource(matcher.replaceAll(MINIFIED_EXT_PATTERN));
-            if (serveMinifiedResources && resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, false, contentType);
-            }
-
-            resourceUrl = this.servletContext.getResource(normalizedPath);
-            if (resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, false, contentType);
+            ResourceInfo resourceInfo = resolveResourceInfo(WebResourcesIndex.DOCROOT, normalizedPath, matcher,
+                    encodings, contentType);
+            if (resourceInfo != null) {
+                return resourceInfo;
             }
         } catch (MalformedURLException e) {
             throw SeedException.wrap(e, WebErrorCode.ERROR_RETRIEVING_RESOURCE);
         }
 
         // search in classpath last
-        if (resourceRequest.isAcceptGzip() && serveGzippedResources) {
-            resourceUrl = classLoader.getResource(
-                    CLASSPATH_LOCATION + matcher.replaceAll(MINIFIED_GZIPPED_EXT_PATTERN));
-            if (serveMinifiedResources && resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, true, contentType);
+        try {
+            return resolveResourceInfo(WebResourcesIndex.CLASSPATH, normalizedPath, matcher, encodings, contentType);
+        } catch (MalformedURLException e) {
+            throw SeedException.wrap(e, WebErrorCode.ERROR_RETRIEVING_RESOURCE);
+        }
+    }
+
+    private ResourceInfo resolveResourceInfo(int location, String normalizedPath, Matcher matcher,
+            List<String> encodings, String contentType) throws MalformedURLException {
+        URL resourceUrl;
+
+        // pre-compressed variants by order of client preference
+        for (String encoding : encodings) {
+            String encodedExtension = "." + ENCODED_EXTENSIONS.get(encoding);
+            if (serveMinifiedResources) {
+                resourceUrl = getResource(location, matcher.replaceAll(MINIFIED_EXT_PATTERN + encodedExtension));
+                if (resourceUrl != null) {
+                    return new ResourceInfo(resourceUrl, encoding, contentType);
+                }
             }
 
-            resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + matcher.replaceAll(GZIPPED_EXT_PATTERN));
+            resourceUrl = getResource(location, matcher.replaceAll(EXT_PATTERN + encodedExtension));
             if (resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, true, contentType);
+                return new ResourceInfo(resourceUrl, encoding, contentType);
             }
         }
 
-        resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + matcher.replaceAll(MINIFIED_EXT_PATTERN));
-        if (serveMinifiedResources && resourceUrl != null) {
-            return new ResourceInfo(resourceUrl, false, contentType);
+        if (serveMinifiedResources) {
+            resourceUrl = getResource(location, matcher.replaceAll(MINIFIED_EXT_PATTERN));
+            if (resourceUrl != null) {
+                return new ResourceInfo(resourceUrl, false, contentType);
+            }
         }
 
-        resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + normalizedPath);
+        resourceUrl = getResource(location, normalizedPath);
         if (resourceUrl != null) {
             return new ResourceInfo(resourceUrl, false, contentType);
         }
@@ -136,6 +151,48 @@ class WebResourcesResolverImpl implements WebResourceResolver {
         return null;
     }
 
+    private List<String> acceptedEncodings(ResourceRequest resourceRequest) {
+        List<String> encodings = new ArrayList<>(resourceRequest.getAcceptedEncodings());
+        encodings.retainAll(supportedEncodings);
+        return encodings;
+    }
+
+    private URL getResource(int location, String path) throws MalformedURLException {
+        if (location == WebResourcesIndex.DOCROOT) {
+            return getDocrootResource(path);
+        } else {
+            return getClasspathResource(path);
+        }
+    }
+
+    /**
+     * @return the manifest of fingerprinted resources, possibly empty.
+     */
+    ResourceManifest getResourceManifest() {
+        return resourceManifest;
+    }
+
+    /**
+     * @return the index of static resources, null if indexing is disabled.
+     */
+    WebResourcesIndex getIndex() {
+        return index;
+    }
+
+    private URL getDocrootResource(String path) throws MalformedURLException {
+        if (index != null && !index.contains(path, WebResourcesIndex.DOCROOT)) {
+            return null;
+        }
+        return servletContext.getResource(path);
+    }
+
+    private URL getClasspathResource(String path) {
+        if (index != null && !index.contains(path, WebResourcesIndex.CLASSPATH)) {
+            return null;
+        }
+        return classLoader.getResource(CLASSPATH_LOCATION + path);
+    }
+
     @Override
     public URI resolveURI(String path) {
         String contextPath = this.servletContext.getContextPath();
@@ -153,7 +210,10 @@ class WebResourcesResolverImpl implements WebResourceResolver {
                     sb.append(contextPath);
                 }
 
-                sb.append(path.substring(CLASSPATH_LOCATION.length()));
+                // fingerprinted copy if any
+                String resourcePath = path.substring(CLASSPATH_LOCATION.length());
+                String fingerprintedPath = resourceManifest.getFingerprintedPath(resourcePath);
+                sb.append(fingerprintedPath != null ? fingerprintedPath : resourcePath);
 
                 return new URI(null, sb.toString(), null);
             } catch (URISyntaxException e) {
@@ -169,11 +229,32 @@ class WebResourcesResolverImpl implements WebResourceResolver {
     public boolean isCompressible(ResourceInfo resourceInfo) {
         return serveGzippedResources &&
                 onTheFlyGzipping &&
-                !resourceInfo.isGzipped() &&
+                resourceInfo.getEncoding() == null &&
                 (resourceInfo.getContentType().startsWith("text/") || "application/json".equals(
                         resourceInfo.getContentType()));
     }
 
+    /**
+     * Returns the content encodings of the pre-compressed resource variants that can be served, by order of server
+     * preference (best compression first).
+     *
+     * @param staticResourcesConfig the static resources configuration.
+     * @return the supported encodings.
+     */
+    static List<String> supportedEncodings(WebConfig.StaticResourcesConfig staticResourcesConfig) {
+        List<String> encodings = new ArrayList<>();
+        if (staticResourcesConfig.isBrotliEnabled()) {
+            encodings.add(AcceptEncoding.BROTLI);
+        }
+        if (staticResourcesConfig.isZstdEnabled()) {
+            encodings.add(AcceptEncoding.ZSTD);
+        }
+        if (staticResourcesConfig.isGzipEnabled()) {
+            encodings.add(AcceptEncoding.GZIP);
+        }
+        return Collections.unmodifiableList(encodings);
+    }
+
     private String getContentType(String fileName) {
         int dotIndex = fileName.lastIndexOf(".");
         if (dotIndex < 0) {
@@ -187,6 +268,12 @@ class WebResourcesResolverImpl implements WebResourceResolver {
     }
 
     static {
+        Map<String, String> encodedExtensions = new HashMap<>();
+        encodedExtensions.put(AcceptEncoding.GZIP, "gz");
+        encodedExtensions.put(AcceptEncoding.BROTLI, "br");
+        encodedExtensions.put(AcceptEncoding.ZSTD, "zst");
+        ENCODED_EXTENSIONS = Collections.unmodifiableMap(encodedExtensions);
+
         Map<String, String> map = new HashMap<>();
 
         map.put("html", "text/html");
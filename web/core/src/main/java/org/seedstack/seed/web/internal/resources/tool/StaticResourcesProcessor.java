@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources.tool;
+
+import com.google.common.hash.Hashing;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.web.internal.WebErrorCode;
+import org.seedstack.seed.web.internal.resources.LeveledGZIPOutputStream;
+import org.seedstack.seed.web.internal.resources.ResourceManifest;
+
+/**
+ * Processes the static resources of a build output directory: resources matching the fingerprint pattern are copied
+ * under a name containing a hash of their contents and recorded in the {@link ResourceManifest}, and text resources
+ * are pre-compressed with gzip so they are never compressed at runtime.
+ */
+class StaticResourcesProcessor {
+    private static final String RESOURCES_LOCATION = "META-INF/resources";
+    private static final Set<String> ENCODED_EXTENSIONS = new HashSet<>(Arrays.asList("gz", "br", "zst"));
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = new HashSet<>(Arrays.asList(
+            "html", "htm", "txt", "text", "js", "mjs", "css", "less", "json", "map", "svg", "xml"));
+    private static final int FINGERPRINT_BYTES = 8;
+    private static final int BUFFER_SIZE = 8192;
+    private final Pattern fingerprintPattern;
+    private final int compressionLevel;
+    private final int minCompressionSize;
+    private final AtomicInteger fingerprintedCount = new AtomicInteger();
+    private final AtomicInteger compressedCount = new AtomicInteger();
+
+    StaticResourcesProcessor(Pattern fingerprintPattern, int compressionLevel, int minCompressionSize) {
+        this.fingerprintPattern = fingerprintPattern;
+        this.compressionLevel = compressionLevel;
+        this.minCompressionSize = minCompressionSize;
+    }
+
+    /**
+     * Processes the resources under META-INF/resources of the specified directory and writes the manifest in it.
+     *
+     * @param outputDirectory the build output directory, like target/classes.
+     * @return the number of processed resources.
+     */
+    int process(Path outputDirectory) {
+        Path resourcesDirectory = outputDirectory.resolve(RESOURCES_LOCATION);
+        if (!Files.isDirectory(resourcesDirectory)) {
+            throw SeedException.createNew(WebErrorCode.UNABLE_TO_PROCESS_STATIC_RESOURCES)
+                    .put("path", outputDirectory);
+        }
+        Path manifestPath = outputDirectory.resolve(ResourceManifest.LOCATION);
+        try {
+            // copies from a previous run are not processed again
+            ResourceManifest previousManifest = ResourceManifest.load(manifestPath);
+            List<Path> resources;
+            try (Stream<Path> paths = Files.walk(resourcesDirectory)) {
+                resources = paths.filter(Files::isRegularFile)
+                        .filter(path -> !ENCODED_EXTENSIONS.contains(extensionOf(path)))
+                        .filter(path -> !previousManifest.isFingerprinted(toResourcePath(resourcesDirectory, path)))
+                        .collect(Collectors.toList());
+            }
+
+            ResourceManifest resourceManifest = new ResourceManifest();
+            resources.parallelStream().forEach(path -> {
+                try {
+                    process(resourcesDirectory, path, resourceManifest);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            resourceManifest.store(manifestPath);
+            deleteStaleCopies(resourcesDirectory, previousManifest, resourceManifest);
+            return resources.size();
+        } catch (IOException | UncheckedIOException e) {
+            throw SeedException.wrap(e, WebErrorCode.UNABLE_TO_PROCESS_STATIC_RESOURCES)
+                    .put("path", outputDirectory);
+        }
+    }
+
+    int getFingerprintedCount() {
+        return fingerprintedCount.get();
+    }
+
+    int getCompressedCount() {
+        return compressedCount.get();
+    }
+
+    private void process(Path resourcesDirectory, Path path, ResourceManifest resourceManifest) throws IOException {
+        String resourcePath = toResourcePath(resourcesDirectory, path);
+        Path compressedPath = compress(path);
+        if (fingerprintPattern.matcher(resourcePath).matches()) {
+            Path fingerprintedPath = path.resolveSibling(fingerprintedName(path));
+            Files.copy(path, fingerprintedPath, StandardCopyOption.REPLACE_EXISTING);
+            if (compressedPath != null) {
+                // same contents, same compressed variant
+                Files.copy(compressedPath, gzippedPath(fingerprintedPath), StandardCopyOption.REPLACE_EXISTING);
+            }
+            resourceManifest.add(resourcePath, toResourcePath(resourcesDirectory, fingerprintedPath));
+            fingerprintedCount.incrementAndGet();
+        }
+    }
+
+    private void deleteStaleCopies(Path resourcesDirectory, ResourceManifest previousManifest,
+            ResourceManifest resourceManifest) throws IOException {
+        // copies of previous contents would otherwise be fingerprinted again by the next run
+        for (String fingerprintedPath : previousManifest.getFingerprintedCopies()) {
+            if (!resourceManifest.isFingerprinted(fingerprintedPath)) {
+                Path stalePath = resourcesDirectory.resolve(fingerprintedPath.substring(1));
+                Files.deleteIfExists(stalePath);
+                Files.deleteIfExists(gzippedPath(stalePath));
+            }
+        }
+    }
+
+    private String fingerprintedName(Path path) throws IOException {
+        String hash = Hashing.sha256().hashBytes(Files.readAllBytes(path)).toString()
+                .substring(0, FINGERPRINT_BYTES * 2);
+        String fileName = path.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex <= 0) {
+            return fileName + "." + hash;
+        } else {
+            return fileName.substring(0, dotIndex) + "." + hash + fileName.substring(dotIndex);
+        }
+    }
+
+    private Path compress(Path path) throws IOException {
+        if (!COMPRESSIBLE_EXTENSIONS.contains(extensionOf(path)) || Files.size(path) < minCompressionSize) {
+            return null;
+        }
+        Path compressedPath = gzippedPath(path);
+        try (OutputStream os = new LeveledGZIPOutputStream(Files.newOutputStream(compressedPath), BUFFER_SIZE,
+                compressionLevel)) {
+            Files.copy(path, os);
+        }
+        // a variant that is not smaller is useless
+        if (Files.size(compressedPath) >= Files.size(path)) {
+            Files.delete(compressedPath);
+            return null;
+        } else {
+            compressedCount.incrementAndGet();
+            return compressedPath;
+        }
+    }
+
+    private Path gzippedPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".gz");
+    }
+
+    private String extensionOf(Path path) {
+        String fileName = path.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        return dotIndex < 0 ? "" : fileName.substring(dotIndex + 1).toLowerCase(Locale.ENGLISH);
+    }
+
+    private String toResourcePath(Path resourcesDirectory, Path path) {
+        return "/" + resourcesDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources.tool;
+
+import java.nio.file.Paths;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.zip.Deflater;
+import org.seedstack.seed.cli.CliArgs;
+import org.seedstack.seed.cli.CliOption;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.core.internal.AbstractSeedTool;
+import org.seedstack.seed.web.internal.WebErrorCode;
+
+/**
+ * Build-time tool preparing static resources for production: it pre-compresses them with gzip and copies those
+ * matching the fingerprint pattern under content-hashed names, listed in a manifest used at runtime to serve them with
+ * immutable caching. Its argument is the build output directory containing META-INF/resources.
+ */
+public class StaticResourcesTool extends AbstractSeedTool {
+    @CliOption(name = "f", longName = "fingerprint", valueCount = 1, defaultValues = ".*\\.(js|css)")
+    private String fingerprint;
+    @CliOption(name = "l", longName = "level", valueCount = 1, defaultValues = "9")
+    private String level;
+    @CliOption(name = "m", longName = "min-size", valueCount = 1, defaultValues = "256")
+    private String minSize;
+    @CliArgs(mandatoryCount = 1)
+    private String[] args;
+
+    @Override
+    public String toolName() {
+        return "static-resources";
+    }
+
+    @Override
+    public Integer call() {
+        StaticResourcesProcessor staticResourcesProcessor = new StaticResourcesProcessor(
+                parsePattern("fingerprint", fingerprint),
+                parseInt("level", level, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION),
+                parseInt("min-size", minSize, 0, Integer.MAX_VALUE));
+        int processedCount = staticResourcesProcessor.process(Paths.get(args[0]));
+        System.out.println(String.format("%d static resource(s) processed: %d fingerprinted, %d pre-compressed",
+                processedCount,
+                staticResourcesProcessor.getFingerprintedCount(),
+                staticResourcesProcessor.getCompressedCount()));
+        return 0;
+    }
+
+    private Pattern parsePattern(String option, String value) {
+        try {
+            return Pattern.compile(value);
+        } catch (PatternSyntaxException e) {
+            throw invalidOption(option, value);
+        }
+    }
+
+    private int parseInt(String option, String value, int min, int max) {
+        int result;
+        try {
+            result = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalidOption(option, value);
+        }
+        if (result < min || result > max) {
+            throw invalidOption(option, value);
+        }
+        return result;
+    }
+
+    private SeedException invalidOption(String option, String value) {
+        return SeedException.createNew(WebErrorCode.INVALID_STATIC_RESOURCES_TOOL_OPTION)
+                .put("option", option)
+                .put("value", value);
+    }
+}
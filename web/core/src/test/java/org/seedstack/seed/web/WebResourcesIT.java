@@ -59,4 +59,75 @@ public class WebResourcesIT {
         RestAssured.expect().statusCode(200).header("Content-Encoding", Matchers.equalTo("gzip")).body(
                 Matchers.containsString("var JS2 = {};")).when().get(baseUrl + "test2.js");
     }
+
+    @Test
+    @RunAsClient
+    public void resourceWithMatchingETagIsNotModified() {
+        String etag = RestAssured.expect().statusCode(200).header("ETag", Matchers.notNullValue())
+                .when().get(baseUrl + "test2.js").header("ETag");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .expect().statusCode(304).header("ETag", Matchers.equalTo(etag))
+                .when().get(baseUrl + "test2.js");
+        RestAssured.given().header("If-None-Match", "\"other\"")
+                .expect().statusCode(200)
+                .when().get(baseUrl + "test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void cacheControlPolicyIsAppliedToMatchingResources() {
+        RestAssured.expect().statusCode(200).header("Cache-Control", Matchers.equalTo("max-age=3600, immutable"))
+                .when().get(baseUrl + "test2.js");
+        RestAssured.expect().statusCode(200).header("Cache-Control", Matchers.nullValue())
+                .when().get(baseUrl + "test.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void rangeOfResourceIsPartialContent() {
+        RestAssured.given().header("Range", "bytes=0-3")
+                .expect().statusCode(206)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("Content-Range", Matchers.startsWith("bytes 0-3/"))
+                .body(Matchers.equalTo("/*\n "))
+                .when().get(baseUrl + "test2.js");
+        RestAssured.given().header("Range", "bytes=100000-")
+                .expect().statusCode(416)
+                .header("Content-Range", Matchers.startsWith("bytes */"))
+                .when().get(baseUrl + "test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void rangeIsIgnoredWhenIfRangeDoesNotMatch() {
+        RestAssured.given().header("Range", "bytes=0-3").header("If-Range", "\"other\"")
+                .expect().statusCode(200)
+                .body(Matchers.containsString("var JS2 = {};"))
+                .when().get(baseUrl + "test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void precompressedVariantIsNegotiated() {
+        RestAssured.given().header("Accept-Encoding", "gzip, br")
+                .expect().statusCode(200)
+                .header("Content-Encoding", Matchers.equalTo("br"))
+                .header("Content-Type", Matchers.startsWith("text/javascript"))
+                .when().get(baseUrl + "test3.js");
+        RestAssured.given().header("Accept-Encoding", "gzip, br;q=0")
+                .expect().statusCode(200)
+                .header("Content-Encoding", Matchers.equalTo("gzip"))
+                .body(Matchers.containsString("var JS3 = {};"))
+                .when().get(baseUrl + "test3.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void fingerprintedResourceIsImmutable() {
+        RestAssured.expect().statusCode(200)
+                .header("Cache-Control", Matchers.equalTo("max-age=31536000, immutable"))
+                .body(Matchers.containsString("var FINGERPRINTED = {};"))
+                .when().get(baseUrl + "fingerprinted.0123456789abcdef.js");
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class AcceptEncodingTest {
+    private static final List<String> SUPPORTED = Arrays.asList("br", "zstd", "gzip");
+
+    @Test
+    public void equalQualitiesFollowServerPreference() {
+        assertThat(AcceptEncoding.negotiate("gzip, deflate, br, zstd", SUPPORTED)).containsExactly("br", "zstd",
+                "gzip");
+    }
+
+    @Test
+    public void qualityValuesOrderEncodings() {
+        assertThat(AcceptEncoding.negotiate("br;q=0.5, gzip;q=0.8, zstd;q=0.1", SUPPORTED)).containsExactly("gzip",
+                "br", "zstd");
+    }
+
+    @Test
+    public void zeroQualityExcludesEncoding() {
+        assertThat(AcceptEncoding.negotiate("gzip, br;q=0", SUPPORTED)).containsExactly("gzip");
+        assertThat(AcceptEncoding.negotiate("*;q=0, gzip", SUPPORTED)).containsExactly("gzip");
+    }
+
+    @Test
+    public void wildcardAppliesToUnlistedEncodings() {
+        assertThat(AcceptEncoding.negotiate("gzip;q=0.5, *", SUPPORTED)).containsExactly("br", "zstd", "gzip");
+    }
+
+    @Test
+    public void unsupportedOrMissingEncodingsAreIgnored() {
+        assertThat(AcceptEncoding.negotiate(null, SUPPORTED)).isEmpty();
+        assertThat(AcceptEncoding.negotiate("identity, deflate", SUPPORTED)).isEmpty();
+        assertThat(AcceptEncoding.negotiate("GZIP;Q=0.9", SUPPORTED)).containsExactly("gzip");
+    }
+}
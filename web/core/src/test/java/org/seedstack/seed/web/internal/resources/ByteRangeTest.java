@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ByteRangeTest {
+    @Test
+    public void singleRangeIsParsed() {
+        List<ByteRange> ranges = ByteRange.parse("bytes=0-3", 10);
+        assertThat(ranges).hasSize(1);
+        assertThat(ranges.get(0).getStart()).isEqualTo(0);
+        assertThat(ranges.get(0).getEnd()).isEqualTo(3);
+        assertThat(ranges.get(0).getCount()).isEqualTo(4);
+        assertThat(ranges.get(0).toContentRange(10)).isEqualTo("bytes 0-3/10");
+    }
+
+    @Test
+    public void openAndSuffixRangesAreBoundedByLength() {
+        List<ByteRange> ranges = ByteRange.parse("bytes=5-, -3, 8-100", 10);
+        assertThat(ranges).hasSize(3);
+        assertThat(ranges.get(0).toContentRange(10)).isEqualTo("bytes 5-9/10");
+        assertThat(ranges.get(1).toContentRange(10)).isEqualTo("bytes 7-9/10");
+        assertThat(ranges.get(2).toContentRange(10)).isEqualTo("bytes 8-9/10");
+    }
+
+    @Test
+    public void unsatisfiableRangesAreDropped() {
+        assertThat(ByteRange.parse("bytes=10-20", 10)).isEmpty();
+        assertThat(ByteRange.parse("bytes=-0", 10)).isEmpty();
+        assertThat(ByteRange.parse("bytes=10-", 10)).isEmpty();
+        assertThat(ByteRange.parse("bytes=10-20,0-0", 10)).hasSize(1);
+    }
+
+    @Test
+    public void invalidRangesAreIgnored() {
+        assertThat(ByteRange.parse("items=0-3", 10)).isNull();
+        assertThat(ByteRange.parse("bytes=3-1", 10)).isNull();
+        assertThat(ByteRange.parse("bytes=a-b", 10)).isNull();
+        assertThat(ByteRange.parse("bytes=5", 10)).isNull();
+        assertThat(ByteRange.parse("bytes=0-0,1-1,2-2,3-3,4-4,5-5,6-6,7-7,8-8,9-9,0-1,1-2,2-3,3-4,4-5,5-6,6-7", 10))
+                .isNull();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.seedstack.seed.web.ResourceInfo;
+import org.seedstack.seed.web.WebConfig;
+import org.seedstack.seed.web.WebResourceResolver;
+
+public class ResourceContentCacheTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private WebConfig.StaticResourcesConfig staticResourcesConfig;
+    private WebConfig.StaticResourcesConfig.CacheConfig cacheConfig;
+    private WebConfig.StaticResourcesConfig.IndexConfig indexConfig;
+    private WebResourceResolver webResourceResolver;
+
+    @Before
+    public void setUp() {
+        staticResourcesConfig = mock(WebConfig.StaticResourcesConfig.class);
+        cacheConfig = mock(WebConfig.StaticResourcesConfig.CacheConfig.class);
+        indexConfig = mock(WebConfig.StaticResourcesConfig.IndexConfig.class);
+        webResourceResolver = mock(WebResourceResolver.class);
+        when(staticResourcesConfig.cacheConfig()).thenReturn(cacheConfig);
+        when(staticResourcesConfig.indexConfig()).thenReturn(indexConfig);
+        when(staticResourcesConfig.getBufferSize()).thenReturn(8192);
+        when(staticResourcesConfig.getCompressionLevel()).thenReturn(-1);
+        when(cacheConfig.getMaxContentSize()).thenReturn(1024L * 1024);
+        when(cacheConfig.getMaxResourceSize()).thenReturn(64 * 1024);
+        when(cacheConfig.getDirectThreshold()).thenReturn(1024);
+        when(webResourceResolver.isCompressible(any(ResourceInfo.class))).thenReturn(true);
+    }
+
+    @Test
+    public void contentsAreLoadedOnceWithTheirGzippedVariant() throws IOException {
+        ResourceInfo resourceInfo = createResource("test.js", 100);
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+
+        ResourceContent resourceContent = underTest.get(resourceInfo);
+        assertThat(underTest.get(resourceInfo)).isSameAs(resourceContent);
+        assertThat(resourceContent.isCached()).isTrue();
+        assertThat(resourceContent.getLength()).isEqualTo(100);
+        assertThat(gunzip(resourceContent)).isEqualTo(contentsOf(resourceInfo));
+    }
+
+    @Test
+    public void largeContentsAreReadOffHeapFromFileSystem() throws IOException {
+        ResourceInfo resourceInfo = createResource("large.js", 10 * 1024);
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+
+        ResourceContent resourceContent = underTest.get(resourceInfo);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        resourceContent.writeTo(baos);
+        assertThat(baos.toByteArray()).isEqualTo(contentsOf(resourceInfo));
+        assertThat(gunzip(resourceContent)).isEqualTo(contentsOf(resourceInfo));
+    }
+
+    @Test
+    public void contentsAreReloadedWhenTheirFileChanges() throws IOException {
+        when(indexConfig.isWatch()).thenReturn(true);
+        ResourceInfo resourceInfo = createResource("changing.js", 10 * 1024);
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+        ResourceContent resourceContent = underTest.get(resourceInfo);
+
+        ResourceContent reloadedContent = underTest.get(changeContents(resourceInfo, resourceContent));
+
+        assertThat(reloadedContent).isNotSameAs(resourceContent);
+        assertThat(reloadedContent.getLength()).isEqualTo(9);
+        assertThat(reloadedContent.getETag(false)).isNotEqualTo(resourceContent.getETag(false));
+        assertThat(gunzip(reloadedContent)).isEqualTo(contentsOf(resourceInfo));
+        assertThat(underTest.get(resourceInfo)).isSameAs(reloadedContent);
+    }
+
+    @Test
+    public void filesAreNotCheckedWhenResourcesAreNotWatched() throws IOException {
+        ResourceInfo resourceInfo = createResource("changing.js", 10 * 1024);
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+        ResourceContent resourceContent = underTest.get(resourceInfo);
+
+        assertThat(underTest.get(changeContents(resourceInfo, resourceContent))).isSameAs(resourceContent);
+        underTest.invalidateAll();
+        assertThat(underTest.get(resourceInfo).getLength()).isEqualTo(9);
+    }
+
+    @Test
+    public void contentsLargerThanMaxResourceSizeAreStreamed() throws IOException {
+        ResourceInfo resourceInfo = createResource("huge.js", 128 * 1024);
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+
+        ResourceContent resourceContent = underTest.get(resourceInfo);
+        assertThat(resourceContent.isCached()).isFalse();
+        assertThat(resourceContent.getETag(false)).isNotNull();
+    }
+
+    @Test
+    public void entityTagsDependOnContentsAndRepresentation() throws IOException {
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+        ResourceContent first = underTest.get(createResource("first.js", 100));
+        ResourceContent same = underTest.get(createResource("same.js", 100));
+        ResourceContent other = underTest.get(createResource("other.js", 101));
+
+        assertThat(first.getETag(false)).startsWith("\"").endsWith("\"").isEqualTo(same.getETag(false));
+        assertThat(first.getETag(false)).isNotEqualTo(other.getETag(false));
+        assertThat(first.getETag(true)).isNotEqualTo(first.getETag(false));
+    }
+
+    @Test
+    public void contentsAreStreamedWhenCacheIsDisabled() throws IOException {
+        when(cacheConfig.getMaxContentSize()).thenReturn(0L);
+        ResourceInfo resourceInfo = createResource("test.js", 100);
+        ResourceContentCache underTest = new ResourceContentCache(webResourceResolver, staticResourcesConfig);
+
+        assertThat(underTest.get(resourceInfo)).isSameAs(ResourceContent.STREAMED);
+    }
+
+    private ResourceInfo createResource(String name, int size) throws IOException {
+        File file = temporaryFolder.newFile(name);
+        byte[] contents = new byte[size];
+        Arrays.fill(contents, "a".getBytes(StandardCharsets.UTF_8)[0]);
+        Files.write(file.toPath(), contents);
+        return new ResourceInfo(file.toURI().toURL(), false, "text/javascript");
+    }
+
+    private ResourceInfo changeContents(ResourceInfo resourceInfo, ResourceContent resourceContent)
+            throws IOException {
+        Path path = Paths.get(resourceInfo.getUrl().getPath());
+        Files.write(path, "truncated".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(resourceContent.getLastModified() + 1000));
+        return resourceInfo;
+    }
+
+    private byte[] contentsOf(ResourceInfo resourceInfo) throws IOException {
+        return Files.readAllBytes(new File(resourceInfo.getUrl().getPath()).toPath());
+    }
+
+    private byte[] gunzip(ResourceContent resourceContent) throws IOException {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        resourceContent.writeGzippedTo(gzipped);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray()))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                result.write(buffer, 0, read);
+            }
+        }
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Sets;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.ServletContext;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WebResourcesIndexTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void docrootAndClasspathResourcesAreIndexed() {
+        ServletContext servletContext = mock(ServletContext.class);
+        when(servletContext.getResourcePaths("/")).thenReturn(Sets.newHashSet("/index.html", "/js/", "/WEB-INF/"));
+        when(servletContext.getResourcePaths("/js/")).thenReturn(Sets.newHashSet("/js/app.js", "/js/app.js.gz"));
+        when(servletContext.getResourcePaths("/WEB-INF/")).thenReturn(Sets.newHashSet("/WEB-INF/web.xml"));
+
+        WebResourcesIndex underTest = new WebResourcesIndex(servletContext, Sets.newHashSet("/js/app.js", "/lib.css"));
+
+        assertThat(underTest.size()).isEqualTo(4);
+        assertThat(underTest.contains("/index.html", WebResourcesIndex.DOCROOT)).isTrue();
+        assertThat(underTest.contains("/index.html", WebResourcesIndex.CLASSPATH)).isFalse();
+        assertThat(underTest.contains("/js/app.js", WebResourcesIndex.DOCROOT)).isTrue();
+        assertThat(underTest.contains("/js/app.js", WebResourcesIndex.CLASSPATH)).isTrue();
+        assertThat(underTest.contains("/js/app.js.gz", WebResourcesIndex.DOCROOT)).isTrue();
+        assertThat(underTest.contains("/lib.css", WebResourcesIndex.CLASSPATH)).isTrue();
+        assertThat(underTest.contains("/WEB-INF/web.xml", WebResourcesIndex.DOCROOT)).isFalse();
+        assertThat(underTest.contains("/unknown.js", WebResourcesIndex.DOCROOT)).isFalse();
+    }
+
+    @Test
+    public void watchedDocrootExcludesWebInf() throws IOException {
+        Path root = temporaryFolder.newFolder("docroot").toPath();
+        Files.write(root.resolve("index.html"), new byte[]{1});
+        Files.createDirectories(root.resolve("WEB-INF"));
+        Files.write(root.resolve("WEB-INF").resolve("web.xml"), new byte[]{1});
+        WebResourcesIndex underTest = new WebResourcesIndex(null, Collections.emptySet());
+        try {
+            underTest.watch(root, WebResourcesIndex.DOCROOT);
+            assertThat(underTest.size()).isEqualTo(1);
+            assertThat(underTest.contains("/index.html", WebResourcesIndex.DOCROOT)).isTrue();
+            assertThat(underTest.contains("/WEB-INF/web.xml", WebResourcesIndex.DOCROOT)).isFalse();
+        } finally {
+            underTest.close();
+        }
+    }
+
+    @Test
+    public void watchedResourcesAreKeptUpToDate() throws IOException, InterruptedException {
+        Path root = temporaryFolder.newFolder("resources").toPath();
+        Files.write(root.resolve("existing.js"), new byte[]{1});
+        WebResourcesIndex underTest = new WebResourcesIndex(null, Collections.emptySet());
+        try {
+            underTest.watch(root, WebResourcesIndex.CLASSPATH);
+            assertThat(underTest.contains("/existing.js", WebResourcesIndex.CLASSPATH)).isTrue();
+
+            CountDownLatch created = new CountDownLatch(1);
+            underTest.addChangeListener(created::countDown);
+            Files.write(root.resolve("created.js"), new byte[]{1});
+            assertThat(created.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(underTest.contains("/created.js", WebResourcesIndex.CLASSPATH)).isTrue();
+
+            Files.delete(root.resolve("existing.js"));
+            long deadline = System.currentTimeMillis() + 30000;
+            while (underTest.contains("/existing.js", WebResourcesIndex.CLASSPATH)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(underTest.contains("/existing.js", WebResourcesIndex.CLASSPATH)).isFalse();
+        } finally {
+            underTest.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.seedstack.seed.SeedException;
+import org.seedstack.seed.web.internal.resources.ResourceManifest;
+
+public class StaticResourcesProcessorTest {
+    private static final String CONTENTS = Strings.repeat("var a = 1;\n", 100);
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private Path outputDirectory;
+    private Path resourcesDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        outputDirectory = temporaryFolder.newFolder("classes").toPath();
+        resourcesDirectory = Files.createDirectories(outputDirectory.resolve("META-INF/resources/js"));
+        Files.write(resourcesDirectory.resolve("app.js"), CONTENTS.getBytes(StandardCharsets.UTF_8));
+        Files.write(resourcesDirectory.resolve("small.css"), "a{}".getBytes(StandardCharsets.UTF_8));
+        Files.write(resourcesDirectory.resolve("image.png"), new byte[1024]);
+    }
+
+    @Test
+    public void resourcesAreFingerprintedAndCompressed() throws IOException {
+        StaticResourcesProcessor underTest = newProcessor();
+
+        assertThat(underTest.process(outputDirectory)).isEqualTo(3);
+        assertThat(underTest.getFingerprintedCount()).isEqualTo(2);
+        assertThat(underTest.getCompressedCount()).isEqualTo(1);
+
+        ResourceManifest resourceManifest = ResourceManifest.load(outputDirectory.resolve(ResourceManifest.LOCATION));
+        String fingerprintedPath = resourceManifest.getFingerprintedPath("/js/app.js");
+        assertThat(fingerprintedPath).matches("/js/app\\.[0-9a-f]{16}\\.js");
+        assertThat(resourceManifest.isFingerprinted(fingerprintedPath)).isTrue();
+        assertThat(resourceManifest.getFingerprintedPath("/js/image.png")).isNull();
+
+        Path fingerprintedFile = outputDirectory.resolve("META-INF/resources" + fingerprintedPath);
+        assertThat(fingerprintedFile).hasContent(CONTENTS);
+        assertThat(fingerprintedFile.resolveSibling(fingerprintedFile.getFileName() + ".gz")).exists();
+        assertThat(resourcesDirectory.resolve("app.js.gz")).exists();
+        assertThat(resourcesDirectory.resolve("small.css.gz")).doesNotExist();
+        assertThat(resourcesDirectory.resolve("image.png.gz")).doesNotExist();
+    }
+
+    @Test
+    public void fingerprintedCopiesAreNotProcessedAgain() throws IOException {
+        newProcessor().process(outputDirectory);
+        String fingerprintedPath = ResourceManifest.load(outputDirectory.resolve(ResourceManifest.LOCATION))
+                .getFingerprintedPath("/js/app.js");
+
+        StaticResourcesProcessor underTest = newProcessor();
+        assertThat(underTest.process(outputDirectory)).isEqualTo(3);
+        assertThat(ResourceManifest.load(outputDirectory.resolve(ResourceManifest.LOCATION))
+                .getFingerprintedPath("/js/app.js")).isEqualTo(fingerprintedPath);
+    }
+
+    @Test
+    public void staleCopiesAreDeleted() throws IOException {
+        newProcessor().process(outputDirectory);
+        String stalePath = ResourceManifest.load(outputDirectory.resolve(ResourceManifest.LOCATION))
+                .getFingerprintedPath("/js/app.js");
+        Files.write(resourcesDirectory.resolve("app.js"), (CONTENTS + CONTENTS).getBytes(StandardCharsets.UTF_8));
+
+        StaticResourcesProcessor underTest = newProcessor();
+        assertThat(underTest.process(outputDirectory)).isEqualTo(3);
+        String fingerprintedPath = ResourceManifest.load(outputDirectory.resolve(ResourceManifest.LOCATION))
+                .getFingerprintedPath("/js/app.js");
+        assertThat(fingerprintedPath).matches("/js/app\\.[0-9a-f]{16}\\.js").isNotEqualTo(stalePath);
+        Path staleFile = outputDirectory.resolve("META-INF/resources" + stalePath);
+        assertThat(staleFile).doesNotExist();
+        assertThat(staleFile.resolveSibling(staleFile.getFileName() + ".gz")).doesNotExist();
+        assertThat(outputDirectory.resolve("META-INF/resources" + fingerprintedPath)).exists();
+    }
+
+    @Test(expected = SeedException.class)
+    public void missingResourcesDirectoryIsAnError() throws IOException {
+        newProcessor().process(temporaryFolder.newFolder("empty").toPath());
+    }
+
+    private StaticResourcesProcessor newProcessor() {
+        return new StaticResourcesProcessor(Pattern.compile(".*\\.(js|css)"), Deflater.BEST_COMPRESSION, 256);
+    }
+}
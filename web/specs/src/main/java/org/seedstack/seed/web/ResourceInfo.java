@@ -8,6 +8,7 @@
 package org.seedstack.seed.web;
 
 import java.net.URL;
+import java.util.Objects;
 
 /**
  * This immutable class holds information relative to a static web resource.
@@ -15,7 +16,7 @@ import java.net.URL;
 public class ResourceInfo {
     private final URL url;
     private final String externalForm;
-    private final boolean gzipped;
+    private final String encoding;
     private final String contentType;
 
     /**
@@ -26,9 +27,20 @@ public class ResourceInfo {
      * @param contentType the content type of the resource.
      */
     public ResourceInfo(URL url, boolean gzipped, String contentType) {
+        this(url, gzipped ? "gzip" : null, contentType);
+    }
+
+    /**
+     * Creates a resource information instance.
+     *
+     * @param url         the resource contents URL.
+     * @param encoding    the content encoding of the resource (like gzip, br or zstd) or null if not encoded.
+     * @param contentType the content type of the resource.
+     */
+    public ResourceInfo(URL url, String encoding, String contentType) {
         this.url = url;
         this.externalForm = url.toExternalForm();
-        this.gzipped = gzipped;
+        this.encoding = encoding;
         this.contentType = contentType;
     }
 
@@ -43,7 +55,7 @@ public class ResourceInfo {
 
         ResourceInfo that = (ResourceInfo) o;
 
-        return gzipped == that.gzipped && contentType.equals(that.contentType) && externalForm.equals(
+        return Objects.equals(encoding, that.encoding) && contentType.equals(that.contentType) && externalForm.equals(
                 that.externalForm);
 
     }
@@ -51,7 +63,7 @@ public class ResourceInfo {
     @Override
     public int hashCode() {
         int result = externalForm.hashCode();
-        result = 31 * result + (gzipped ? 1 : 0);
+        result = 31 * result + Objects.hashCode(encoding);
         result = 31 * result + contentType.hashCode();
         return result;
     }
@@ -71,7 +83,16 @@ public class ResourceInfo {
      * @return true if it can be gzipped, false otherwise.
      */
     public boolean isGzipped() {
-        return gzipped;
+        return "gzip".equals(encoding);
+    }
+
+    /**
+     * Get the content encoding of the resource.
+     *
+     * @return the content encoding (like gzip, br or zstd) or null if the resource is not encoded.
+     */
+    public String getEncoding() {
+        return encoding;
     }
 
     /**
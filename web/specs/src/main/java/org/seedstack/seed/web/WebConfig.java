@@ -192,6 +192,7 @@ public class WebConfig {
     @Config("static")
     public static class StaticResourcesConfig {
         private static final int DEFAULT_BUFFER_SIZE = 65535;
+        private static final int DEFAULT_COMPRESSION_LEVEL = -1;
 
         @SingleValue
         private boolean enabled = true;
@@ -199,7 +200,14 @@ public class WebConfig {
         private boolean minification = true;
         private boolean gzip = true;
         private boolean gzipOnTheFly = true;
+        private boolean brotli = true;
+        private boolean zstd = true;
+        @Min(-1)
+        @Max(9)
+        private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
         private CacheConfig cache = new CacheConfig();
+        private IndexConfig index = new IndexConfig();
+        private List<CacheControlConfig> cacheControl = new ArrayList<>();
 
         public boolean isEnabled() {
             return enabled;
@@ -221,18 +229,129 @@ public class WebConfig {
             return gzipOnTheFly;
         }
 
+        /**
+         * @return true if pre-compressed Brotli variants of resources (.br) are served to clients accepting them.
+         */
+        public boolean isBrotliEnabled() {
+            return brotli;
+        }
+
+        /**
+         * @return true if pre-compressed Zstandard variants of resources (.zst) are served to clients accepting them.
+         */
+        public boolean isZstdEnabled() {
+            return zstd;
+        }
+
+        /**
+         * @return the level of on-the-fly gzip compression, from 0 (none) to 9 (best), -1 for the default level.
+         */
+        public int getCompressionLevel() {
+            return compressionLevel;
+        }
+
         public CacheConfig cacheConfig() {
             return cache;
         }
 
+        public IndexConfig indexConfig() {
+            return index;
+        }
+
+        /**
+         * @return the Cache-Control policies of static resources. The first policy matching the path of a resource
+         *         applies.
+         */
+        public List<CacheControlConfig> getCacheControl() {
+            return Collections.unmodifiableList(cacheControl);
+        }
+
+        public StaticResourcesConfig addCacheControl(CacheControlConfig cacheControlConfig) {
+            this.cacheControl.add(cacheControlConfig);
+            return this;
+        }
+
+        public static class CacheControlConfig {
+            @NotBlank
+            private String pattern;
+            private int maxAge;
+            private boolean immutable;
+
+            /**
+             * @return the regular expression that the path of resources must match for the policy to apply.
+             */
+            public String getPattern() {
+                return pattern;
+            }
+
+            public CacheControlConfig setPattern(String pattern) {
+                this.pattern = pattern;
+                return this;
+            }
+
+            /**
+             * @return the number of seconds the resource can be cached without revalidation, 0 to always revalidate.
+             */
+            public int getMaxAge() {
+                return maxAge;
+            }
+
+            public CacheControlConfig setMaxAge(int maxAge) {
+                this.maxAge = maxAge;
+                return this;
+            }
+
+            /**
+             * @return true if the resource never changes while fresh, which spares revalidation on reload.
+             */
+            public boolean isImmutable() {
+                return immutable;
+            }
+
+            public CacheControlConfig setImmutable(boolean immutable) {
+                this.immutable = immutable;
+                return this;
+            }
+        }
+
+        @Config("index")
+        public static class IndexConfig {
+            @SingleValue
+            private boolean enabled = false;
+            private boolean watch = false;
+
+            /**
+             * @return true if resources of the docroot and of META-INF/resources are indexed at startup, so only
+             *         existing resources are looked up. The index is authoritative: resources it doesn't contain, like
+             *         those added to the docroot after startup without watching, are not served.
+             */
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            /**
+             * @return true if the index follows changes of resources located in file system directories and if
+             *         cached contents are checked against their file on each access, which is meant for development.
+             */
+            public boolean isWatch() {
+                return watch;
+            }
+        }
+
         @Config("cache")
         public static class CacheConfig {
             private static final int DEFAULT_CACHE_MAX_SIZE = 8192;
             private static final int DEFAULT_CACHE_CONCURRENCY = 32;
+            private static final long DEFAULT_MAX_CONTENT_SIZE = 64L * 1024 * 1024;
+            private static final int DEFAULT_MAX_RESOURCE_SIZE = 4 * 1024 * 1024;
+            private static final int DEFAULT_DIRECT_THRESHOLD = 256 * 1024;
 
             private int maxSize = DEFAULT_CACHE_MAX_SIZE;
             private int initialSize = maxSize / 4;
             private int concurrencyLevel = DEFAULT_CACHE_CONCURRENCY;
+            private long maxContentSize = DEFAULT_MAX_CONTENT_SIZE;
+            private int maxResourceSize = DEFAULT_MAX_RESOURCE_SIZE;
+            private int directThreshold = DEFAULT_DIRECT_THRESHOLD;
 
             public int getInitialSize() {
                 return initialSize;
@@ -245,6 +364,28 @@ public class WebConfig {
             public int getConcurrencyLevel() {
                 return concurrencyLevel;
             }
+
+            /**
+             * @return the maximum number of bytes of resource contents kept in cache, 0 to disable content caching.
+             */
+            public long getMaxContentSize() {
+                return maxContentSize;
+            }
+
+            /**
+             * @return the size in bytes above which a resource is not kept in cache but streamed on each request.
+             */
+            public int getMaxResourceSize() {
+                return maxResourceSize;
+            }
+
+            /**
+             * @return the size in bytes from which cached resource contents coming from the file system are read into
+             *         direct buffers, kept off-heap.
+             */
+            public int getDirectThreshold() {
+                return directThreshold;
+            }
         }
     }
 
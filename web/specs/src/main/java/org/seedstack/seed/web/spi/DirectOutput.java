@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Container-specific output of static resources, able to send off-heap buffers and files to the client without
+ * copying them through the heap. An implementation can be provided by the container as a servlet context attribute
+ * named {@link #ATTRIBUTE_NAME}.
+ */
+public interface DirectOutput {
+    /**
+     * The name of the servlet context attribute holding the direct output.
+     */
+    String ATTRIBUTE_NAME = DirectOutput.class.getName();
+
+    /**
+     * Writes the remaining bytes of the buffer to the output stream.
+     *
+     * @param buffer       the buffer to write.
+     * @param outputStream the response output stream.
+     * @return true if the buffer has been written, false if the output stream is not supported.
+     * @throws IOException if an I/O error occurs.
+     */
+    boolean write(ByteBuffer buffer, OutputStream outputStream) throws IOException;
+
+    /**
+     * Transfers the file, from the current position of the channel to its end, to the output stream.
+     *
+     * @param fileChannel  the channel of the file to transfer.
+     * @param outputStream the response output stream.
+     * @return true if the file has been transferred, false if the output stream is not supported.
+     * @throws IOException if an I/O error occurs.
+     */
+    boolean transferFrom(FileChannel fileChannel, OutputStream outputStream) throws IOException;
+}
@@ -25,6 +25,15 @@ public class UndertowConfig {
     private int readTimeout = 0;
     private int writeTimeout = 0;
     private String handlersFile = DEFAULT_HANDLERS_FILE;
+    private boolean virtualThreads = false;
+    private boolean statistics = false;
+    private ConnectionConfig connection = new ConnectionConfig();
+    private RequestConfig request = new RequestConfig();
+    private Http2Config http2 = new Http2Config();
+    @Config("http")
+    private ListenerConfig httpListener = new ListenerConfig();
+    @Config("https")
+    private ListenerConfig httpsListener = new ListenerConfig();
 
     public int getBufferSize() {
         return bufferSize;
@@ -89,7 +98,6 @@ public class UndertowConfig {
         return this;
     }
 
-
     public String getHandlersFile() {
         return handlersFile;
     }
@@ -98,4 +106,302 @@ public class UndertowConfig {
         this.handlersFile = handlersFile;
         return this;
     }
+
+    /**
+     * When enabled, servlet requests are dispatched to a new virtual thread each instead of the worker thread pool,
+     * so blocking calls don't limit the number of concurrent requests to {@link #getWorkerThreads()}. I/O threads are
+     * not affected. Requires Java 21 or later: on older JVMs the worker thread pool is used.
+     *
+     * @return true if virtual threads are used for servlet requests, false otherwise.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public UndertowConfig setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * @return true if connection statistics (open connections, requests in flight, bytes in/out) are gathered by
+     *         listeners and available in the diagnostic report under {@code undertow}. Disabled by default as it
+     *         updates shared counters on each request and connection.
+     *         Enable with {@code web.server.undertow.statistics: true}.
+     */
+    public boolean isStatistics() {
+        return statistics;
+    }
+
+    public UndertowConfig setStatistics(boolean statistics) {
+        this.statistics = statistics;
+        return this;
+    }
+
+    public ConnectionConfig connection() {
+        return connection;
+    }
+
+    public RequestConfig request() {
+        return request;
+    }
+
+    public Http2Config http2() {
+        return http2;
+    }
+
+    public ListenerConfig httpListener() {
+        return httpListener;
+    }
+
+    public ListenerConfig httpsListener() {
+        return httpsListener;
+    }
+
+    /**
+     * Timeouts of client connections, applied to all listeners.
+     */
+    @Config("connection")
+    public static class ConnectionConfig {
+        private static final int DEFAULT_IDLE_TIMEOUT = 5 * 60 * 1000;
+        private static final int DEFAULT_NO_REQUEST_TIMEOUT = 60 * 1000;
+        private static final int DEFAULT_REQUEST_PARSE_TIMEOUT = 60 * 1000;
+        private int idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private int noRequestTimeout = DEFAULT_NO_REQUEST_TIMEOUT;
+        private int requestParseTimeout = DEFAULT_REQUEST_PARSE_TIMEOUT;
+        private boolean keepAlive = true;
+
+        /**
+         * @return the time in milliseconds a connection can be idle (no data sent or received) before being closed,
+         *         -1 for no limit.
+         */
+        public int getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public ConnectionConfig setIdleTimeout(int idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * @return the time in milliseconds a kept-alive connection can wait for its next request before being closed,
+         *         -1 for no limit.
+         */
+        public int getNoRequestTimeout() {
+            return noRequestTimeout;
+        }
+
+        public ConnectionConfig setNoRequestTimeout(int noRequestTimeout) {
+            this.noRequestTimeout = noRequestTimeout;
+            return this;
+        }
+
+        /**
+         * @return the time in milliseconds a client has to send the complete request line and headers, -1 for no
+         *         limit.
+         */
+        public int getRequestParseTimeout() {
+            return requestParseTimeout;
+        }
+
+        public ConnectionConfig setRequestParseTimeout(int requestParseTimeout) {
+            this.requestParseTimeout = requestParseTimeout;
+            return this;
+        }
+
+        /**
+         * @return true if TCP keep-alive probes are enabled on client connections.
+         */
+        public boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        public ConnectionConfig setKeepAlive(boolean keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+    }
+
+    /**
+     * Limits of incoming requests, applied to all listeners.
+     */
+    @Config("request")
+    public static class RequestConfig {
+        private static final int DEFAULT_MAX_HEADER_SIZE = 1024 * 1024;
+        private static final int DEFAULT_MAX_HEADERS = 200;
+        private static final int DEFAULT_MAX_PARAMETERS = 1000;
+        private static final int DEFAULT_MAX_COOKIES = 200;
+        private long maxEntitySize = -1;
+        private int maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
+        private int maxHeaders = DEFAULT_MAX_HEADERS;
+        private int maxParameters = DEFAULT_MAX_PARAMETERS;
+        private int maxCookies = DEFAULT_MAX_COOKIES;
+
+        /**
+         * @return the maximum size in bytes of a request body, -1 for no limit.
+         */
+        public long getMaxEntitySize() {
+            return maxEntitySize;
+        }
+
+        public RequestConfig setMaxEntitySize(long maxEntitySize) {
+            this.maxEntitySize = maxEntitySize;
+            return this;
+        }
+
+        /**
+         * @return the maximum size in bytes of the request line and headers.
+         */
+        public int getMaxHeaderSize() {
+            return maxHeaderSize;
+        }
+
+        public RequestConfig setMaxHeaderSize(int maxHeaderSize) {
+            this.maxHeaderSize = maxHeaderSize;
+            return this;
+        }
+
+        public int getMaxHeaders() {
+            return maxHeaders;
+        }
+
+        public RequestConfig setMaxHeaders(int maxHeaders) {
+            this.maxHeaders = maxHeaders;
+            return this;
+        }
+
+        public int getMaxParameters() {
+            return maxParameters;
+        }
+
+        public RequestConfig setMaxParameters(int maxParameters) {
+            this.maxParameters = maxParameters;
+            return this;
+        }
+
+        public int getMaxCookies() {
+            return maxCookies;
+        }
+
+        public RequestConfig setMaxCookies(int maxCookies) {
+            this.maxCookies = maxCookies;
+            return this;
+        }
+    }
+
+    /**
+     * HTTP/2 settings advertised to clients when HTTP/2 is enabled.
+     */
+    @Config("http2")
+    public static class Http2Config {
+        private static final int DEFAULT_MAX_CONCURRENT_STREAMS = 100;
+        private static final int DEFAULT_HEADER_TABLE_SIZE = 4096;
+        private static final int DEFAULT_INITIAL_WINDOW_SIZE = 65535;
+        private static final int DEFAULT_MAX_FRAME_SIZE = 16384;
+        private int maxConcurrentStreams = DEFAULT_MAX_CONCURRENT_STREAMS;
+        private int headerTableSize = DEFAULT_HEADER_TABLE_SIZE;
+        private int initialWindowSize = DEFAULT_INITIAL_WINDOW_SIZE;
+        private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+
+        /**
+         * @return the maximum number of concurrent streams per connection, -1 for no limit.
+         */
+        public int getMaxConcurrentStreams() {
+            return maxConcurrentStreams;
+        }
+
+        public Http2Config setMaxConcurrentStreams(int maxConcurrentStreams) {
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        public int getHeaderTableSize() {
+            return headerTableSize;
+        }
+
+        public Http2Config setHeaderTableSize(int headerTableSize) {
+            this.headerTableSize = headerTableSize;
+            return this;
+        }
+
+        public int getInitialWindowSize() {
+            return initialWindowSize;
+        }
+
+        public Http2Config setInitialWindowSize(int initialWindowSize) {
+            this.initialWindowSize = initialWindowSize;
+            return this;
+        }
+
+        public int getMaxFrameSize() {
+            return maxFrameSize;
+        }
+
+        public Http2Config setMaxFrameSize(int maxFrameSize) {
+            this.maxFrameSize = maxFrameSize;
+            return this;
+        }
+    }
+
+    /**
+     * Socket options of a listener. The buffers used to read and write requests are shared by all listeners, see
+     * {@link #getBufferSize()} and {@link #isDirectBuffers()}.
+     */
+    public static class ListenerConfig {
+        private static final int DEFAULT_BACKLOG = 1024;
+        private int backlog = DEFAULT_BACKLOG;
+        private int maxConnections = -1;
+        private int receiveBufferSize = -1;
+        private int sendBufferSize = -1;
+
+        /**
+         * @return the maximum number of pending connections waiting to be accepted.
+         */
+        public int getBacklog() {
+            return backlog;
+        }
+
+        public ListenerConfig setBacklog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * @return the maximum number of open connections, above which new connections are not accepted anymore until
+         *         the count falls back under 90% of this limit (at least 1), -1 for no limit.
+         */
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public ListenerConfig setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * @return the size in bytes of the socket receive buffer, -1 for the system default.
+         */
+        public int getReceiveBufferSize() {
+            return receiveBufferSize;
+        }
+
+        public ListenerConfig setReceiveBufferSize(int receiveBufferSize) {
+            this.receiveBufferSize = receiveBufferSize;
+            return this;
+        }
+
+        /**
+         * @return the size in bytes of the socket send buffer, -1 for the system default.
+         */
+        public int getSendBufferSize() {
+            return sendBufferSize;
+        }
+
+        public ListenerConfig setSendBufferSize(int sendBufferSize) {
+            this.sendBufferSize = sendBufferSize;
+            return this;
+        }
+    }
 }
@@ -30,11 +30,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import javax.servlet.ServletContainerInitializer;
 import org.seedstack.coffig.Coffig;
 import org.seedstack.seed.ApplicationConfig;
 import org.seedstack.seed.undertow.UndertowConfig;
 import org.seedstack.seed.web.WebConfig;
+import org.seedstack.seed.web.spi.DirectOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xnio.XnioWorker;
@@ -44,13 +46,16 @@ class DeploymentManagerFactory {
     private static final String META_INF_RESOURCES = "META-INF/resources";
     private final ClassLoader mostCompleteClassLoader = findMostCompleteClassLoader(DeploymentManagerFactory.class);
     private final XnioWorker xnioWorker;
+    private final Executor requestExecutor;
     private final UndertowConfig undertowConfig;
     private final ApplicationConfig applicationConfig;
     private final WebConfig.ServerConfig serverConfig;
     private final Map<String, String> initParameters;
 
-    DeploymentManagerFactory(XnioWorker xnioWorker, Coffig configuration, Map<String, String> initParameters) {
+    DeploymentManagerFactory(XnioWorker xnioWorker, Executor requestExecutor, Coffig configuration,
+            Map<String, String> initParameters) {
         this.xnioWorker = xnioWorker;
+        this.requestExecutor = requestExecutor;
         this.undertowConfig = configuration.get(UndertowConfig.class);
         this.applicationConfig = configuration.get(ApplicationConfig.class);
         this.serverConfig = configuration.get(WebConfig.ServerConfig.class);
@@ -89,6 +94,14 @@ class DeploymentManagerFactory {
             );
         }
 
+        // Dispatch servlet requests to a specific executor (virtual threads) instead of the XNIO worker
+        if (requestExecutor != null) {
+            deploymentInfo.setExecutor(requestExecutor).setAsyncExecutor(requestExecutor);
+        }
+
+        // Zero-copy output of static resources
+        deploymentInfo.addServletContextAttribute(DirectOutput.ATTRIBUTE_NAME, new UndertowDirectOutput());
+
         // Redirect to HTTPS if configured
         if (serverConfig.isHttp() && serverConfig.isHttps() && serverConfig.isPreferHttps()) {
             LOGGER.info("Automatic redirection to HTTPS is enabled");
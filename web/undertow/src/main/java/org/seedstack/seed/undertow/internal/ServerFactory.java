@@ -21,6 +21,7 @@ import org.seedstack.seed.web.WebConfig;
 import org.seedstack.shed.ClassLoaders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xnio.OptionMap;
 import org.xnio.Options;
 import org.xnio.SslClientAuthMode;
 import org.xnio.XnioWorker;
@@ -65,7 +66,7 @@ class ServerFactory {
 
 
         // Configure HTTP(s) listeners
-        Undertow.Builder builder = Undertow.builder().setWorker(xnioWorker);
+        Undertow.Builder builder = configureServer(Undertow.builder().setWorker(xnioWorker));
         if (!serverConfig.isHttp() && !serverConfig.isHttps()) {
             throw SeedException.createNew(UndertowErrorCode.NO_LISTENER_CONFIGURED);
         } else {
@@ -76,7 +77,8 @@ class ServerFactory {
                 builder = configureHttps(builder, sslProvider);
                 if (serverConfig.isHttp2()) {
                     LOGGER.info("HTTP/2 support is enabled");
-                    builder.setServerOption(UndertowOptions.ENABLE_HTTP2, serverConfig.isHttp2());
+                    builder = configureHttp2(builder.setServerOption(UndertowOptions.ENABLE_HTTP2,
+                            serverConfig.isHttp2()));
                 }
             }
         }
@@ -87,18 +89,73 @@ class ServerFactory {
                 .build();
     }
 
+    private Undertow.Builder configureServer(Undertow.Builder builder) {
+        UndertowConfig.ConnectionConfig connectionConfig = undertowConfig.connection();
+        UndertowConfig.RequestConfig requestConfig = undertowConfig.request();
+        return builder
+                .setBufferSize(undertowConfig.getBufferSize())
+                .setDirectBuffers(undertowConfig.isDirectBuffers())
+                .setServerOption(UndertowOptions.ENABLE_STATISTICS, undertowConfig.isStatistics())
+                .setServerOption(UndertowOptions.IDLE_TIMEOUT, connectionConfig.getIdleTimeout())
+                .setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT, connectionConfig.getNoRequestTimeout())
+                .setServerOption(UndertowOptions.REQUEST_PARSE_TIMEOUT, connectionConfig.getRequestParseTimeout())
+                .setServerOption(UndertowOptions.MAX_ENTITY_SIZE, requestConfig.getMaxEntitySize())
+                .setServerOption(UndertowOptions.MAX_HEADER_SIZE, requestConfig.getMaxHeaderSize())
+                .setServerOption(UndertowOptions.MAX_HEADERS, requestConfig.getMaxHeaders())
+                .setServerOption(UndertowOptions.MAX_PARAMETERS, requestConfig.getMaxParameters())
+                .setServerOption(UndertowOptions.MAX_COOKIES, requestConfig.getMaxCookies())
+                .setSocketOption(Options.KEEP_ALIVE, connectionConfig.isKeepAlive());
+    }
+
+    private Undertow.Builder configureHttp2(Undertow.Builder builder) {
+        UndertowConfig.Http2Config http2Config = undertowConfig.http2();
+        return builder
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS,
+                        http2Config.getMaxConcurrentStreams())
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE, http2Config.getHeaderTableSize())
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE,
+                        http2Config.getInitialWindowSize())
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_FRAME_SIZE, http2Config.getMaxFrameSize());
+    }
+
+    private OptionMap listenerSocketOptions(UndertowConfig.ListenerConfig listenerConfig) {
+        OptionMap.Builder optionMapBuilder = OptionMap.builder()
+                .set(Options.BACKLOG, listenerConfig.getBacklog());
+        if (listenerConfig.getMaxConnections() > 0) {
+            optionMapBuilder
+                    .set(Options.CONNECTION_HIGH_WATER, listenerConfig.getMaxConnections())
+                    .set(Options.CONNECTION_LOW_WATER, Math.max(1, listenerConfig.getMaxConnections() * 9 / 10));
+        }
+        if (listenerConfig.getReceiveBufferSize() > 0) {
+            optionMapBuilder.set(Options.RECEIVE_BUFFER, listenerConfig.getReceiveBufferSize());
+        }
+        if (listenerConfig.getSendBufferSize() > 0) {
+            optionMapBuilder.set(Options.SEND_BUFFER, listenerConfig.getSendBufferSize());
+        }
+        return optionMapBuilder.getMap();
+    }
+
     private Undertow.Builder configureHttp(Undertow.Builder builder) {
         LOGGER.info("Undertow listening for HTTP on {}:{}", serverConfig.getHost(), serverConfig.getPort());
-        return builder.addHttpListener(serverConfig.getPort(), serverConfig.getHost());
+        return builder.addListener(new Undertow.ListenerBuilder()
+                .setType(Undertow.ListenerType.HTTP)
+                .setPort(serverConfig.getPort())
+                .setHost(serverConfig.getHost())
+                .setOverrideSocketOptions(listenerSocketOptions(undertowConfig.httpListener())));
     }
 
     private Undertow.Builder configureHttps(Undertow.Builder builder, SSLProvider sslProvider) {
         LOGGER.info("Undertow listening for HTTPS on {}:{}", serverConfig.getHost(), serverConfig.getSecurePort());
         CryptoConfig.SSLConfig sslConfig = sslProvider.sslConfig();
         return builder
-                .addHttpsListener(serverConfig.getSecurePort(), serverConfig.getHost(), sslProvider.sslContext()
-                        .orElseThrow(() -> SeedException.createNew(UndertowErrorCode.MISSING_SSL_CONTEXT)
-                                .put("ksName", sslConfig.getKeystore())))
+                .addListener(new Undertow.ListenerBuilder()
+                        .setType(Undertow.ListenerType.HTTPS)
+                        .setPort(serverConfig.getSecurePort())
+                        .setHost(serverConfig.getHost())
+                        .setSslContext(sslProvider.sslContext()
+                                .orElseThrow(() -> SeedException.createNew(UndertowErrorCode.MISSING_SSL_CONTEXT)
+                                        .put("ksName", sslConfig.getKeystore())))
+                        .setOverrideSocketOptions(listenerSocketOptions(undertowConfig.httpsListener())))
                 .setSocketOption(Options.SSL_CLIENT_AUTH_MODE,
                         SslClientAuthMode.valueOf(sslConfig.getClientAuthMode().toString()));
     }
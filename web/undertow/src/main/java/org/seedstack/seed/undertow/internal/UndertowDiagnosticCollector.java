@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.undertow.internal;
+
+import io.undertow.Undertow;
+import io.undertow.server.ConnectorStatistics;
+import java.util.HashMap;
+import java.util.Map;
+import org.seedstack.seed.diagnostic.spi.DiagnosticInfoCollector;
+
+/**
+ * Collects connection-level statistics of each listener of the running Undertow server: open connections, requests in
+ * flight and bytes received and sent.
+ */
+class UndertowDiagnosticCollector implements DiagnosticInfoCollector {
+    private volatile Undertow undertow;
+
+    void setUndertow(Undertow undertow) {
+        this.undertow = undertow;
+    }
+
+    @Override
+    public Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+        Undertow current = this.undertow;
+        result.put("started", current != null);
+        if (current != null) {
+            for (Undertow.ListenerInfo listenerInfo : current.getListenerInfo()) {
+                ConnectorStatistics statistics = listenerInfo.getConnectorStatistics();
+                if (statistics != null) {
+                    Map<String, Object> listenerResult = new HashMap<>();
+                    listenerResult.put("activeConnections", statistics.getActiveConnections());
+                    listenerResult.put("maxActiveConnections", statistics.getMaxActiveConnections());
+                    listenerResult.put("activeRequests", statistics.getActiveRequests());
+                    listenerResult.put("maxActiveRequests", statistics.getMaxActiveRequests());
+                    listenerResult.put("requestCount", statistics.getRequestCount());
+                    listenerResult.put("errorCount", statistics.getErrorCount());
+                    listenerResult.put("bytesReceived", statistics.getBytesReceived());
+                    listenerResult.put("bytesSent", statistics.getBytesSent());
+                    listenerResult.put("processingTime", statistics.getProcessingTime());
+                    listenerResult.put("maxProcessingTime", statistics.getMaxProcessingTime());
+                    result.put(listenerInfo.getProtcol() + "://" + listenerInfo.getAddress(), listenerResult);
+                }
+            }
+        }
+        return result;
+    }
+}
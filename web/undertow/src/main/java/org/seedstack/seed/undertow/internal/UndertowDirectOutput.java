@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.undertow.internal;
+
+import io.undertow.io.BufferWritableOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.seedstack.seed.web.spi.DirectOutput;
+
+/**
+ * Direct output of static resources relying on the Undertow servlet output stream, which writes buffers without copy
+ * and transfers files with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+ */
+class UndertowDirectOutput implements DirectOutput {
+    @Override
+    public boolean write(ByteBuffer buffer, OutputStream outputStream) throws IOException {
+        if (outputStream instanceof BufferWritableOutputStream) {
+            ((BufferWritableOutputStream) outputStream).write(buffer);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean transferFrom(FileChannel fileChannel, OutputStream outputStream) throws IOException {
+        if (outputStream instanceof BufferWritableOutputStream) {
+            ((BufferWritableOutputStream) outputStream).transferFrom(fileChannel);
+            return true;
+        }
+        return false;
+    }
+}
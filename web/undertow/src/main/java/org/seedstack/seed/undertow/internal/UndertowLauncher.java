@@ -30,6 +30,7 @@ import javax.servlet.ServletException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -38,8 +39,10 @@ public class UndertowLauncher implements SeedLauncher {
     private static final AtomicBoolean firstRun = new AtomicBoolean(true);
     private final AtomicBoolean launched = new AtomicBoolean(false);
     private XnioWorker xnioWorker;
+    private ExecutorService requestExecutor;
     private DeploymentManager deploymentManager;
     private Undertow undertow;
+    private UndertowDiagnosticCollector diagnosticCollector;
     private HttpHandler httpHandler;
     private Map<String, String> kernelParameters;
 
@@ -114,10 +117,22 @@ public class UndertowLauncher implements SeedLauncher {
         } catch (RuntimeException e) {
             throw unwrapUndertowException(e);
         }
+        if (undertowConfig.isVirtualThreads()) {
+            requestExecutor = VirtualThreads.newExecutor("undertow-virtual-").orElse(null);
+            if (requestExecutor != null) {
+                LOGGER.info("Servlet requests are dispatched to virtual threads");
+            } else {
+                LOGGER.warn("Virtual threads are not supported by this JVM, servlet requests are dispatched to {} "
+                        + "worker thread(s)", undertowConfig.getWorkerThreads());
+            }
+        }
     }
 
     private void shutdownWorker() throws Exception {
         try {
+            if (requestExecutor != null) {
+                requestExecutor.shutdownNow();
+            }
             if (xnioWorker != null) {
                 xnioWorker.shutdownNow();
                 xnioWorker.awaitTermination(2, TimeUnit.SECONDS);
@@ -125,6 +140,7 @@ public class UndertowLauncher implements SeedLauncher {
         } catch (RuntimeException e) {
             throw unwrapUndertowException(e);
         } finally {
+            requestExecutor = null;
             xnioWorker = null;
         }
     }
@@ -133,6 +149,7 @@ public class UndertowLauncher implements SeedLauncher {
         try {
             DeploymentManagerFactory factory = new DeploymentManagerFactory(
                     xnioWorker,
+                    requestExecutor,
                     configuration,
                     kernelParameters
             );
@@ -172,6 +189,8 @@ public class UndertowLauncher implements SeedLauncher {
                     undertowPlugin.getSslProvider()
             );
             undertow.start();
+            diagnosticCollector = undertowPlugin.getDiagnosticCollector();
+            diagnosticCollector.setUndertow(undertow);
             LOGGER.info("Undertow Web server started");
         } catch (RuntimeException e) {
             throw unwrapUndertowException(e);
@@ -181,11 +200,15 @@ public class UndertowLauncher implements SeedLauncher {
     private void stop() throws Exception {
         if (undertow != null) {
             try {
+                if (diagnosticCollector != null) {
+                    diagnosticCollector.setUndertow(null);
+                }
                 undertow.stop();
                 LOGGER.info("Undertow Web server stopped");
             } catch (RuntimeException e) {
                 throw unwrapUndertowException(e);
             } finally {
+                diagnosticCollector = null;
                 undertow = null;
             }
         }
@@ -25,6 +25,7 @@ import java.util.Collection;
  */
 public class UndertowPlugin extends AbstractSeedPlugin {
     static final String NAME = "undertow";
+    private final UndertowDiagnosticCollector diagnosticCollector = new UndertowDiagnosticCollector();
     private SSLProvider sslProvider;
     private WebConfig.ServerConfig serverConfig;
     private UndertowConfig undertowConfig;
@@ -60,6 +61,7 @@ public class UndertowPlugin extends AbstractSeedPlugin {
                     ),
                     ConfigurationPriority.RUNTIME_INFO
             );
+            seedRuntime.getDiagnosticManager().registerDiagnosticInfoCollector(NAME, diagnosticCollector);
         }
         return InitState.INITIALIZED;
     }
@@ -75,4 +77,8 @@ public class UndertowPlugin extends AbstractSeedPlugin {
     UndertowConfig getUndertowConfig() {
         return undertowConfig;
     }
+
+    UndertowDiagnosticCollector getDiagnosticCollector() {
+        return diagnosticCollector;
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.undertow.internal;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates executors running each task in a new virtual thread. Virtual threads are looked up reflectively, so this
+ * works on any JVM: they are only used when the running JVM supports them (Java 21+).
+ */
+final class VirtualThreads {
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     *
+     * @param namePrefix the prefix of virtual thread names, followed by a counter.
+     * @return the executor or an empty optional if virtual threads are not supported by the JVM.
+     */
+    static Optional<ExecutorService> newExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor",
+                    ThreadFactory.class);
+            return Optional.of((ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Virtual threads are not available", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.undertow;
+
+import com.google.inject.Injector;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.seedstack.seed.Application;
+import org.seedstack.seed.core.Seed;
+import org.seedstack.seed.spi.SeedLauncher;
+
+/**
+ * Compares throughput and tail latency of worker threads and virtual threads under a blocking I/O workload. Each
+ * client sends requests to a servlet sleeping for a fixed time, which simulates a blocking call to a database or a
+ * remote service. Not executed as part of the build, run it manually with the following optional arguments:
+ * <ol>
+ * <li>the number of concurrent clients (default: 400),</li>
+ * <li>the number of requests sent by each client (default: 50),</li>
+ * <li>the blocking time of each request in milliseconds (default: 20),</li>
+ * <li>the number of worker threads (default: 16).</li>
+ * </ol>
+ * Virtual threads are only measured on Java 21 or later.
+ */
+public class BlockingIOBenchmark {
+    private static final String VIRTUAL_THREADS_PROPERTY = "seedstack.config.web.server.undertow.virtualThreads";
+    private static final String WORKER_THREADS_PROPERTY = "seedstack.config.web.server.undertow.workerThreads";
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int millis = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        String workerThreads = args.length > 3 ? args[3] : "16";
+
+        System.setProperty(WORKER_THREADS_PROPERTY, workerThreads);
+        try {
+            run("worker threads", false, clients, requests, millis);
+            run("virtual threads", true, clients, requests, millis);
+        } finally {
+            System.clearProperty(WORKER_THREADS_PROPERTY);
+            System.clearProperty(VIRTUAL_THREADS_PROPERTY);
+        }
+    }
+
+    private static void run(String name, boolean virtualThreads, int clients, int requests,
+            int millis) throws Exception {
+        System.setProperty(VIRTUAL_THREADS_PROPERTY, String.valueOf(virtualThreads));
+        SeedLauncher launcher = Seed.getLauncher();
+        launcher.launch(new String[0]);
+        try {
+            String baseUrl = launcher.getKernel()
+                    .map(kernel -> kernel.objectGraph().as(Injector.class).getInstance(Application.class))
+                    .map(application -> application.getConfiguration().get(String.class, "runtime.web.baseUrl"))
+                    .orElseThrow(() -> new IllegalStateException("Kernel is not started"));
+            URL url = new URL(baseUrl + "/blocking?millis=" + millis);
+
+            // Warm-up
+            measure(url, clients, Math.max(1, requests / 10));
+
+            long start = System.nanoTime();
+            long[] latencies = measure(url, clients, requests);
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            System.out.printf("%-16s %10.1f req/s   p50 %6.1f ms   p99 %6.1f ms   p99.9 %6.1f ms   max %6.1f ms%n",
+                    name,
+                    latencies.length / (elapsed / 1e9),
+                    percentile(latencies, 0.5),
+                    percentile(latencies, 0.99),
+                    percentile(latencies, 0.999),
+                    latencies[latencies.length - 1] / 1e6);
+        } finally {
+            launcher.shutdown();
+        }
+    }
+
+    private static long[] measure(URL url, int clients, int requests) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executorService.submit(() -> {
+                    long[] clientLatencies = new long[requests];
+                    for (int j = 0; j < requests; j++) {
+                        long start = System.nanoTime();
+                        get(url);
+                        clientLatencies[j] = System.nanoTime() - start;
+                    }
+                    return clientLatencies;
+                }));
+            }
+            long[] latencies = new long[clients * requests];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] clientLatencies = future.get();
+                System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+                offset += clientLatencies.length;
+            }
+            return latencies;
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void get(URL url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try (InputStream inputStream = connection.getInputStream()) {
+            byte[] buffer = new byte[1024];
+            while (inputStream.read(buffer) != -1) {
+                // consume the response so the connection can be reused
+            }
+        }
+        if (connection.getResponseCode() != 200) {
+            throw new IOException("Unexpected status " + connection.getResponseCode());
+        }
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+}
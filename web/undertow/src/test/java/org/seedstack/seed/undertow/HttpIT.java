@@ -10,10 +10,16 @@ package org.seedstack.seed.undertow;
 import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import io.restassured.specification.ResponseSpecification;
+import java.util.Map;
+import javax.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
+import org.seedstack.seed.diagnostic.DiagnosticManager;
 
 public class HttpIT extends AbstractUndertowIT {
+    @Inject
+    private DiagnosticManager diagnosticManager;
+
     ResponseSpecification expect() {
         return RestAssured.expect();
     }
@@ -26,4 +32,24 @@ public class HttpIT extends AbstractUndertowIT {
                 .get(baseUrl + "/hello");
         Assertions.assertThat(servletResponse.asString()).isEqualTo("Hello World!");
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void connectionStatistics() {
+        expect()
+                .statusCode(200)
+                .when()
+                .get(baseUrl + "/hello");
+        Map<String, Object> undertowInfo = (Map<String, Object>) diagnosticManager.getDiagnosticInfo(null)
+                .get("undertow");
+        Assertions.assertThat(undertowInfo).containsEntry("started", true);
+        Map<String, Object> httpInfo = (Map<String, Object>) undertowInfo.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("http://"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No HTTP listener statistics"));
+        Assertions.assertThat((Long) httpInfo.get("requestCount")).isGreaterThanOrEqualTo(1L);
+        Assertions.assertThat((Long) httpInfo.get("bytesReceived")).isGreaterThan(0L);
+        Assertions.assertThat((Long) httpInfo.get("bytesSent")).isGreaterThan(0L);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.undertow;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.ResponseSpecification;
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+import org.seedstack.seed.testing.ConfigurationProfiles;
+
+@ConfigurationProfiles("virtual")
+public class VirtualThreadsIT extends AbstractUndertowIT {
+    ResponseSpecification expect() {
+        return RestAssured.expect();
+    }
+
+    @Test
+    public void servlet() {
+        Response servletResponse = expect()
+                .statusCode(200)
+                .when()
+                .get(baseUrl + "/hello");
+        Assertions.assertThat(servletResponse.asString()).isEqualTo("Hello World!");
+    }
+
+    @Test
+    public void blockingWorkIsDispatchedToVirtualThreads() {
+        Assume.assumeTrue("Virtual threads require Java 21 or later", isVirtualThreadSupported());
+        Assertions.assertThat(blockingThreadName()).startsWith("undertow-virtual-");
+    }
+
+    @Test
+    public void blockingWorkFallsBackToWorkerThreads() {
+        Assume.assumeFalse("Virtual threads are supported", isVirtualThreadSupported());
+        Assertions.assertThat(blockingThreadName()).doesNotStartWith("undertow-virtual-");
+    }
+
+    private String blockingThreadName() {
+        return expect()
+                .statusCode(200)
+                .when()
+                .get(baseUrl + "/blocking?millis=10")
+                .asString();
+    }
+
+    private boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
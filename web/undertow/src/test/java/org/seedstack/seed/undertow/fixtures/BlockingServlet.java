@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2013-2024, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.undertow.fixtures;
+
+import java.io.IOException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Simulates blocking I/O by sleeping for the number of milliseconds given in the "millis" parameter, then responds
+ * with the name of the thread which served the request.
+ */
+@WebServlet(value = {"/blocking"})
+public class BlockingServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void doGet(HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse) throws IOException {
+        String millis = httpServletRequest.getParameter("millis");
+        try {
+            Thread.sleep(millis == null ? 0 : Long.parseLong(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String text = Thread.currentThread().getName();
+        httpServletResponse.setContentType("text/plain");
+        httpServletResponse.setContentLength(text.length());
+        httpServletResponse.getWriter().write(text);
+    }
+}